@@ -3,6 +3,7 @@ package hex;
 import water.*;
 import water.fvec.Chunk;
 import water.fvec.Frame;
+import water.fvec.SparseCursor;
 import water.fvec.Vec;
 
 import java.util.Arrays;
@@ -597,30 +598,32 @@ public class DataInfo extends Keyed {
       }
     }
     int numStart = numStart();
+    SparseCursor cur = new SparseCursor(chunks);
     // binary cols
     for (int cid = 0; cid < _bins; ++cid) {
-      Chunk c = chunks[cid + _cats];
-      for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-        if(!c.isSparse() && c.atd(r) == 0)continue;
-        Row row = rows[r];
+      boolean sparse = chunks[cid + _cats].isSparse();
+      for (cur.reset(cid + _cats); cur.next(); ) {
+        if(!sparse && cur.value() == 0)continue;
+        Row row = rows[cur.row()];
         if (row.bad) continue;
-        if (c.isNA(r))
+        if (cur.isNA())
           row.bad = _skipMissing;
         row.addBinId(cid + numStart);
       }
     }
     // generic numbers
     for (int cid = 0; cid < _nums; ++cid) {
-      Chunk c = chunks[_cats + cid];
+      boolean sparse = chunks[_cats + cid].isSparse();
       int oldRow = -1;
-      for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-        if(!c.isSparse() && c.atd(r) == 0)continue;
+      for (cur.reset(_cats + cid); cur.next(); ) {
+        int r = cur.row();
+        double d = cur.value();
+        if(!sparse && d == 0)continue;
         assert r > oldRow;
         oldRow = r;
         Row row = rows[r];
         if (row.bad) continue;
-        if (c.isNA(r)) row.bad = _skipMissing;
-        double d = c.atd(r);
+        if (cur.isNA()) row.bad = _skipMissing;
         if(_normMul != null)
           d *= _normMul[cid]; // no centering here, we already have etaOffset
         row.addNum(cid + numStart + _bins, d);
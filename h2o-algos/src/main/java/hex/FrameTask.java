@@ -94,13 +94,14 @@ public abstract class FrameTask<T extends FrameTask<T>> extends MRTask<T>{
     double relative_chunk_weight = 1;
     //TODO: store node-local helper arrays in _dinfo -> avoid re-allocation and construction
     if (obs_weights) {
-      weight_map = new double[nrows];
+      // Bulk-decode the weights, then turn them into a cumulative sum in place
+      weight_map = chunks[_dinfo.weightChunkId()].getDoubles(new double[nrows]);
       double weight_sum = 0;
       for (int i=0;i<nrows;++i) {
-        row = _dinfo.extractDenseRow(chunks, i, row);
-        weight_sum+=row.weight;
+        final double w = weight_map[i];
+        weight_sum+=w;
         weight_map[i]=weight_sum;
-        assert(i == 0 || row.weight == 0 || weight_map[i] > weight_map[i-1]);
+        assert(i == 0 || w == 0 || weight_map[i] > weight_map[i-1]);
       }
       if (weight_sum > 0) {
         ArrayUtils.div(weight_map, weight_sum); //normalize to 0...1
@@ -448,7 +448,7 @@ public class DeepLearning extends ModelBuilder<DeepLearningModel,DeepLearningPar
       }
       if (!_parms._quiet_mode) Log.info("ReBalancing dataset into (at least) " + chunks + " chunks.");
       Key newKey = Key.make(name + ".chunks" + chunks);
-      RebalanceDataSet rb = new RebalanceDataSet(fr, newKey, chunks);
+      RebalanceDataSet rb = new RebalanceDataSet(fr, newKey, chunks).setBalanced(true);
       H2O.submitTask(rb);
       rb.join();
       Frame f = DKV.get(newKey).get();
@@ -73,9 +73,10 @@ public abstract class GLMTask  {
 
    @Override public void map(Chunk [] chunks) {
      boolean [] skip = MemoryManager.mallocZ(chunks[0]._len);
+     SparseCursor cur = new SparseCursor(chunks);
      for(int i = 0; i < chunks.length; ++i)
-       for(int r = chunks[i].nextNZ(-1); r < chunks[i]._len; r = chunks[i].nextNZ(r))
-         skip[r] |= chunks[i].isNA(r);
+       for(cur.reset(i); cur.next(); )
+         skip[cur.row()] |= cur.isNA();
      Chunk response = chunks[_responseId];
      Chunk weight = _weightId >= 0?chunks[_weightId]:new C0DChunk(1,chunks[0]._len);
      if(_comupteWeightedSigma) {
@@ -234,14 +235,15 @@ public abstract class GLMTask  {
         }
       }
       // non-zero numbers
+      SparseCursor cur = new SparseCursor(chks);
       for (int i = 0; i < _dinfo._nums; ++i) {
-        Chunk c = chks[i + _dinfo._cats];
-        for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-          if(skip[r] || c.isNA(r)) {
+        for (cur.reset(i + _dinfo._cats); cur.next(); ) {
+          int r = cur.row();
+          if(skip[r] || cur.isNA()) {
             skip[r] = true;
             continue;
           }
-          double d = c.atd(r);
+          double d = cur.value();
           if (_dinfo._normMul != null)
             d *= _dinfo._normMul[i];
           double b = beta[numStart+i];
@@ -382,14 +384,15 @@ public abstract class GLMTask  {
           eta[r] += off;
       }
       // now numerics
+      SparseCursor cur = new SparseCursor(chks);
       for (int i = 0; i < _dinfo._nums; ++i) {
-        Chunk c = chks[i + _dinfo._cats];
-        for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-          if(skip[r] || c.isNA(r)) {
+        for (cur.reset(i + _dinfo._cats); cur.next(); ) {
+          int r = cur.row();
+          if(skip[r] || cur.isNA()) {
             skip[r] = true;
             continue;
           }
-          double d = c.atd(r);
+          double d = cur.value();
           if (_dinfo._normMul != null)
             d *= _dinfo._normMul[i];
           eta[r] += b[numStart + i] * d;
@@ -443,12 +446,13 @@ public abstract class GLMTask  {
         }
       }
       // numerics
+      SparseCursor cur = new SparseCursor(chks);
       for (int i = 0; i < _dinfo._nums; ++i) {
-        Chunk c = chks[i + _dinfo._cats];
-        for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-          if(skp[r] || c.isNA(r))
+        for (cur.reset(i + _dinfo._cats); cur.next(); ) {
+          int r = cur.row();
+          if(skp[r] || cur.isNA())
             continue;
-          double d = c.atd(r);
+          double d = cur.value();
           if (_dinfo._normMul != null)
             d = d*_dinfo._normMul[i];
           g[numStart + i] += eta[r] * d;
@@ -630,12 +634,13 @@ public abstract class GLMTask  {
         }
       }
       // numerics
+      SparseCursor cur = new SparseCursor(chks);
       for (int i = 0; i < _dinfo._nums; ++i) {
-        Chunk c = chks[i + _dinfo._cats];
-        for (int r = c.nextNZ(-1); r < c._len; r = c.nextNZ(r)) {
-          if(skp[r] || c.isNA(r))
+        for (cur.reset(i + _dinfo._cats); cur.next(); ) {
+          int r = cur.row();
+          if(skp[r] || cur.isNA())
             continue;
-          double d = c.atd(r);
+          double d = cur.value();
           if (_dinfo._normMul != null)
             d = d*_dinfo._normMul[i];
           g[numStart + i] += eta[r] * d;
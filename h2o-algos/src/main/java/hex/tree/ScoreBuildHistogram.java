@@ -209,13 +209,20 @@ public class ScoreBuildHistogram extends MRTask<ScoreBuildHistogram> {
     double bins[] = new double[Math.max(_nbins, _nbins_cats)];
     double sums[] = new double[Math.max(_nbins, _nbins_cats)];
     double ssqs[] = new double[Math.max(_nbins, _nbins_cats)];
+    // Bulk-decode the weights and responses once, and each column once, so
+    // the per-row loops below read plain arrays instead of Chunks.
+    final int len = wrks._len;
+    final double ws[] = weight.getDoubles(new double[len]);
+    final double resps[] = wrks.getDoubles(new double[len]);
+    final double cs[] = new double[len];
     // For All Columns
     for( int c=0; c<_ncols; c++) { // for all columns
-      Chunk chk = chks[c];
+      boolean decoded = false;  // Decode lazily, the column may be untracked in every split
       // For All NIDs
       for( int n=0; n<hcs.length; n++ ) {
         final DRealHistogram rh = ((DRealHistogram)hcs[n][c]);
         if( rh==null ) continue; // Ignore untracked columns in this split
+        if( !decoded ) { chks[c].getDoubles(cs); decoded = true; }
         final int lo = n==0 ? 0 : nh[n-1];
         final int hi = nh[n];
         float min = rh._min2;
@@ -234,13 +241,13 @@ public class ScoreBuildHistogram extends MRTask<ScoreBuildHistogram> {
         // Gather min/max, sums and sum-squares.
         for( int xrow=lo; xrow<hi; xrow++ ) {
           int row = rows[xrow];
-          double w = weight.atd(row);
+          double w = ws[row];
           if (w == 0) continue;
-          float col_data = (float)chk.atd(row);
+          float col_data = (float)cs[row];
           if( col_data < min ) min = col_data;
           if( col_data > max ) max = col_data;
           int b = rh.bin(col_data); // Compute bin# via linear interpolation
-          double resp = wrks.atd(row);
+          double resp = resps[row];
           bins[b] += w;                // Bump count in bin
           sums[b] += w*resp;
           ssqs[b] += w*resp*resp;
@@ -11,6 +11,7 @@ import water.AutoBuffer;
 import water.Job;
 import water.Key;
 import water.MRTask;
+import water.Trace;
 import water.fvec.Chunk;
 import water.fvec.Frame;
 import water.util.Log;
@@ -197,6 +198,7 @@ public class DRF extends SharedTree<hex.tree.drf.DRFModel, hex.tree.drf.DRFModel
       // Prepare tree statistics
       // Build trees until we hit the limit
       for( tid=0; tid<_parms._ntrees; tid++) { // Building tid-tree
+        long t0 = Trace.start();
         if (tid!=0 || !_parms._checkpoint) { // do not make initial scoring if model already exist
           double training_r2 = doScoringAndSaveModel(false, true, _parms._build_tree_one_node);
           if( training_r2 >= _parms._r2_stopping )
@@ -210,6 +212,7 @@ public class DRF extends SharedTree<hex.tree.drf.DRFModel, hex.tree.drf.DRFModel
         buildNextKTrees(_train,_mtry,_parms._sample_rate,rand,tid);
         Log.info((tid+1) + ". tree was built " + kb_timer.toString());
         DRF.this.update(1);
+        Trace.end(Trace.MODEL,"DRF iteration",_model._key,t0,tid);
         if( !isRunning() ) return; // If canceled during building, do not bulkscore
 
       }
@@ -157,6 +157,7 @@ public class GBM extends SharedTree<GBMModel,GBMModel.GBMParameters,GBMModel.GBM
 
       // Loop over the K trees
       for( int tid=0; tid<_parms._ntrees; tid++) {
+        long t0 = Trace.start();
         // During first iteration model contains 0 trees, then 1-tree, ...
         // No need to score a checkpoint with no extra trees added
         if( tid!=0 || !_parms._checkpoint ) { // do not make initial scoring if model already exist
@@ -175,6 +176,7 @@ public class GBM extends SharedTree<GBMModel,GBMModel.GBMParameters,GBMModel.GBM
         buildNextKTrees();
         Log.info((tid + 1) + ". tree was built in " + kb_timer.toString());
         GBM.this.update(1);
+        Trace.end(Trace.MODEL,"GBM iteration",_model._key,t0,tid);
         if( !isRunning() ) return; // If canceled during building, do not bulkscore
       }
       // Final scoring (skip if job was cancelled)
@@ -0,0 +1,83 @@
+package water.fvec;
+
+import water.H2O;
+import water.util.UnsafeUtils;
+
+import java.util.Random;
+
+/** Builds one compressed Chunk per codec, from a value distribution that
+ *  {@link NewChunk#compress} is expected to turn into that codec.  If the
+ *  compressor picks something else the benchmark refuses to run, rather than
+ *  report numbers under the wrong name - a changed pick is itself a codec
+ *  regression worth looking at.
+ */
+final class BenchData {
+  private BenchData() {}
+
+  /** Rows per benchmark Chunk */
+  static final int ROWS = 1<<16;
+
+  private static boolean _booted;
+  /** Start a single-node cloud; compression allocates through the MemoryManager. */
+  static synchronized void boot() {
+    if( _booted ) return;
+    H2O.main(new String[]{});
+    H2O.waitForCloudSize(1, 30000);
+    _booted = true;
+  }
+
+  /** Fill a fresh NewChunk with the distribution for the named codec (e.g.
+   *  "C1", "CRL", "CXD"), without compressing it. */
+  static NewChunk fill( String codec, long seed ) {
+    Random rng = new Random(seed);
+    NewChunk nc = new NewChunk(null,0);
+    final double[] dict = {Math.PI, -1e-7, 12345.678, Math.E};
+    for( int i=0; i<ROWS; i++ ) {
+      boolean na = i%17==0;     // Codecs that support NAs get some
+      boolean nz = i%97==5;     // Sparse codecs: ~1% non-zeros
+      switch( codec ) {
+      case "C0L": nc.addNum(7,0); break;
+      case "C0D": nc.addNum(2.5); break;
+      case "CBS": nc.addNum(rng.nextInt(2),0); break;
+      case "C1N": nc.addNum(rng.nextInt(256),0); break;
+      case "C1":  if( na ) nc.addNA(); else nc.addNum(rng.nextInt(200),0); break;
+      case "C1S": if( na ) nc.addNA(); else nc.addNum(rng.nextInt(200),-1); break;
+      case "C2":  if( na ) nc.addNA(); else nc.addNum(rng.nextInt(30000)-15000,0); break;
+      case "C2S": if( na ) nc.addNA(); else nc.addNum(rng.nextInt(30000),-2); break;
+      case "C4":  if( na ) nc.addNA(); else nc.addNum(rng.nextInt(),0); break;
+      case "C4S": if( na ) nc.addNA(); else nc.addNum(rng.nextInt(1<<30),-3); break;
+      case "C8":  if( na ) nc.addNA(); else nc.addNum(rng.nextLong()>>1,0); break;
+      case "C8D": if( na ) nc.addNA(); else nc.addNum(rng.nextDouble()); break;
+      case "C16": nc.addUUID(rng.nextLong(),rng.nextLong()); break;
+      case "C1D": if( na ) nc.addNA(); else nc.addNum(dict[rng.nextInt(dict.length)]); break;
+      case "CRL": if( (i/1000)%3==2 ) nc.addNA(); else nc.addNum((i/1000)*1000003L,0); break; // Runs of 1000 wide values
+      case "CX0": nc.addNum(nz ? 1 : 0,0); break;
+      case "CXI": if( i==500 ) nc.addNA(); else nc.addNum(nz ? i : 0,0); break;
+      case "CXD": nc.addNum(nz ? i+0.5 : 0); break;
+      default: throw new IllegalArgumentException("No distribution for codec "+codec);
+      }
+    }
+    return nc;
+  }
+
+  /** A compressed Chunk of the named codec, with its row fields set up as if
+   *  loaded from a Vec. */
+  static Chunk chunk( String codec, long seed ) {
+    Chunk c = codec.equals("C4F") ? floats(seed) : fill(codec,seed).compress();
+    String got = c.getClass().getSimpleName();
+    if( !got.equals(codec+"Chunk") )
+      throw new IllegalStateException("Distribution for "+codec+" compressed to "+got);
+    c._start = 0;
+    c._cidx = 0;
+    return c;
+  }
+
+  // The compressor never picks C4FChunk; build it directly
+  private static Chunk floats( long seed ) {
+    Random rng = new Random(seed);
+    byte[] bs = new byte[ROWS<<2];
+    for( int i=0; i<ROWS; i++ )
+      UnsafeUtils.set4f(bs,i<<2,i%17==0 ? Float.NaN : rng.nextFloat());
+    return new C4FChunk(bs);
+  }
+}
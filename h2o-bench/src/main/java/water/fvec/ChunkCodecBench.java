@@ -0,0 +1,71 @@
+package water.fvec;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Per-row read and write paths of every numeric Chunk codec.  Scores are
+ *  nanoseconds per row; each invocation walks one whole Chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChunkCodecBench {
+  @Param({"C0L","C0D","CBS","C1N","C1","C1S","C2","C2S","C4","C4S","C4F","C8","C8D","C1D","CRL","CX0","CXI","CXD"})
+  public String codec;
+
+  private Chunk _c;
+  private double[] _vals;       // Decoded values, written back by the set benchmarks
+
+  @Setup(Level.Trial) public void setup() {
+    BenchData.boot();
+    _c = BenchData.chunk(codec,0xC0DECL);
+    _vals = _c.getDoubles(new double[_c._len]);
+  }
+
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public double atd() {
+    final Chunk c = _c;
+    double s = 0;
+    for( int i=0; i<c._len; i++ ) s += c.atd(i);
+    return s;
+  }
+
+  /** at8 throws on NAs, so this includes the isNA guard real callers use */
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public long at8() {
+    final Chunk c = _c;
+    long s = 0;
+    for( int i=0; i<c._len; i++ ) if( !c.isNA(i) ) s += c.at8(i);
+    return s;
+  }
+
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public int isNA() {
+    final Chunk c = _c;
+    int n = 0;
+    for( int i=0; i<c._len; i++ ) if( c.isNA(i) ) n++;
+    return n;
+  }
+
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public double[] getDoubles() { return _c.getDoubles(_vals); }
+
+  /** In-place update with the value already there: the codec's set fast
+   *  path.  Writes that do not fit fall back to inflating the Chunk; that
+   *  cost is measured by {@link #inflate}. */
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public int set() {
+    final Chunk c = _c;
+    final double[] vals = _vals;
+    int n = 0;
+    for( int i=0; i<c._len; i++ ) if( Double.isNaN(vals[i]) ? c.setNA_impl(i) : c.set_impl(i,vals[i]) ) n++;
+    return n;
+  }
+
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public NewChunk inflate() { return _c.inflate_impl(new NewChunk(_c)); }
+}
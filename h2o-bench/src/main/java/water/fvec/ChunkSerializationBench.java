@@ -0,0 +1,39 @@
+package water.fvec;
+
+import org.openjdk.jmh.annotations.*;
+import water.AutoBuffer;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link AutoBuffer} round trip of a Chunk's wire form, as done when a Chunk
+ *  is shipped between nodes or spilled and reloaded.  Scores are
+ *  microseconds per Chunk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChunkSerializationBench {
+  @Param({"C0L","C0D","CBS","C1N","C1","C1S","C2","C2S","C4","C4S","C4F","C8","C8D","C16","C1D","CRL","CX0","CXI","CXD"})
+  public String codec;
+
+  private Chunk _c;
+  private byte[] _bits;
+
+  @Setup(Level.Trial) public void setup() {
+    BenchData.boot();
+    _c = BenchData.chunk(codec,0xC0DECL);
+    _bits = write();
+  }
+
+  @Benchmark public byte[] write() { return _c.write_impl(new AutoBuffer()).buf(); }
+
+  @Benchmark public Chunk read() { return ((Chunk)_c.clone()).read_impl(new AutoBuffer(_bits)); }
+
+  @Benchmark public Chunk roundTrip() {
+    byte[] bits = _c.write_impl(new AutoBuffer()).buf();
+    return ((Chunk)_c.clone()).read_impl(new AutoBuffer(bits));
+  }
+}
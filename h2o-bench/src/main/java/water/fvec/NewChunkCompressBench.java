@@ -0,0 +1,33 @@
+package water.fvec;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link NewChunk#compress} - codec selection plus encoding - over value
+ *  distributions that land on each codec.  Scores are nanoseconds per row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NewChunkCompressBench {
+  /** Named for the codec the distribution is expected to compress to */
+  @Param({"C0L","C0D","CBS","C1N","C1","C1S","C2","C2S","C4","C4S","C8","C8D","C16","C1D","CRL","CX0","CXI","CXD"})
+  public String codec;
+
+  private NewChunk _nc;
+
+  @Setup(Level.Trial) public void check() {
+    BenchData.boot();
+    BenchData.chunk(codec,0xC0DECL); // Fails fast if the expected codec is not picked
+  }
+
+  // compress() consumes the NewChunk, so every call gets a fresh one
+  @Setup(Level.Invocation) public void fill() { _nc = BenchData.fill(codec,0xC0DECL); }
+
+  @Benchmark @OperationsPerInvocation(BenchData.ROWS)
+  public Chunk compress() { return _nc.compress(); }
+}
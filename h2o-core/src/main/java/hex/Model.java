@@ -727,8 +727,12 @@ public abstract class Model<M extends Model<M,P,O>, P extends Model.Parameters,
       }
       double[] preds = _mb._work;  // Sized for the union of test and train classes
       int len = chks[0]._len;
+      // Bulk-decode the per-row weights, offsets and responses up front
+      double[] weights = weightsChunk.getDoubles(new double[len]);
+      double[] offsets = offsetChunk.getDoubles(new double[len]);
+      double[] responses = responseChunk == null ? null : responseChunk.getDoubles(new double[len]);
       for (int row = 0; row < len; row++) {
-        double weight = weightsChunk.atd(row);
+        double weight = weights[row];
         if (weight == 0) {
           if (_makePreds) {
             for (int c = 0; c < _npredcols; c++)  // Output predictions; sized for train only (excludes extra test classes)
@@ -736,11 +740,11 @@ public abstract class Model<M extends Model<M,P,O>, P extends Model.Parameters,
           }
           continue;
         }
-        double offset = offsetChunk.atd(row);
+        double offset = offsets[row];
         double [] p = score0(chks, weight, offset, row, tmp, preds);
         if (_computeMetrics) {
           if(isSupervised()) {
-            actual[0] = (float)responseChunk.atd(row);
+            actual[0] = (float)responses[row];
           } else {
             for(int i = 0; i < actual.length; ++i)
               actual[i] = (float)chks[i].atd(row);
@@ -10,6 +10,7 @@ import java.nio.*;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Random;
@@ -37,6 +38,9 @@ public /* final */ class AutoBuffer {
   // written at least one buffer to TCP/UDP.
   private ByteChannel _chan;
 
+  // Compression layer of a TCP stream, or null if the stream is raw
+  private WireCodec _wire;
+
   // If we need a SocketChannel, raise the priority so we get the I/O over
   // with.  Do not want to have some TCP socket open, blocking the TCP channel
   // and then have the thread stalled out.  If we raise the priority - be sure
@@ -76,6 +80,10 @@ public /* final */ class AutoBuffer {
   // Enable this to test random TCP fails on open or write
   static final Random RANDOM_TCP_DROP = null; //new Random();
 
+  // Byte arrays at least this big move between the channel and their own
+  // memory directly, rather than page by page through _bb
+  static final int ZERO_COPY_MIN = 32*1024;
+
   // Incoming UDP request.  Make a read-mode AutoBuffer from the open Channel,
   // figure the originating H2ONode from the first few bytes read.
   AutoBuffer( DatagramChannel sock ) throws IOException {
@@ -112,6 +120,19 @@ public /* final */ class AutoBuffer {
     _bb.flip();
     _read = true;               // Reading by default
     _firstPage = true;
+    // A compressed stream starts with a magic byte; a raw stream's first byte
+    // is the packet type, and is handed back to the stream.
+    ByteBuffer b1 = ByteBuffer.allocate(1);
+    while( b1.hasRemaining() )
+      if( sock.read(b1) == -1 ) throw new EOFException("TCP stream closed before its first byte");
+    if( (b1.get(0)&0xFF) == WireCodec.MAGIC ) {
+      _wire = new WireCodec(BBP_BIG.size());
+      WireCodec.recv(0,1);
+    } else {
+      _bb.clear();  _bb.put(b1.get(0)).flip();
+      _size = 1;
+      WireCodec.recv(1,1);
+    }
     // Read Inet from socket, port from the stream, figure out H2ONode
     _h2o = H2ONode.intern(sock.socket().getInetAddress(), getPort());
     _firstPage = true;          // Yes, must reset this.
@@ -120,6 +141,19 @@ public /* final */ class AutoBuffer {
     _persist = Value.TCP;
   }
 
+  // Read one packet split out of a batched datagram (see UDPBatch), as-if
+  // it had been received alone from the given node.
+  AutoBuffer( H2ONode h2o, byte[] packet ) {
+    _bb = BBP_SML.make();       // Get a small / UDP-sized ByteBuffer
+    _bb.put(packet).flip();
+    _size = packet.length;
+    _chan = null;
+    _h2o = h2o;
+    _read = true;
+    _firstPage = true;
+    _persist = 0;               // No persistance
+  }
+
   // Make an AutoBuffer to write to an H2ONode.  Requests for full buffer will
   // open a TCP socket and roll through writing to the target.  Smaller
   // requests will send via UDP.
@@ -369,6 +403,7 @@ public /* final */ class AutoBuffer {
     } finally {
       bbFree();
       _time_close_ms = System.currentTimeMillis();
+      if( _h2o != null && _h2o != H2O.SELF ) _h2o._stats.io(_read,_size);
       TimeLine.record_IOclose(this,_persist); // Profile AutoBuffer connections
       assert isClosed();
     }
@@ -382,6 +417,7 @@ public /* final */ class AutoBuffer {
     assert _chan == null;
     assert _bb.position()==0;
     _chan = _h2o.getTCPSocket();
+    if( WireCodec.enabled() ) _wire = new WireCodec(BBP_BIG.size());
     raisePriority();
   }
 
@@ -418,6 +454,8 @@ public /* final */ class AutoBuffer {
 
   public int position () { return _bb.position(); }
   void position(int pos) { _bb.position(pos); }
+  // Bytes left to read in the current buffer
+  int remaining() { return _bb.remaining(); }
   /** Skip over some bytes in the byte buffer.  Caller is responsible for not
    *  reading off end of the bytebuffer; generally this is easy for
    *  array-backed autobuffers and difficult for i/o-backed bytebuffers. */
@@ -481,6 +519,8 @@ public /* final */ class AutoBuffer {
     _bb.flip();                 // Flip for sending
     if( _h2o==H2O.SELF ) {      // SELF-send is the multi-cast signal
       water.init.NetworkInit.multicast(_bb);
+    } else if( UDPBatch.offer(_h2o,_bb) ) {
+      // Queued into a batched datagram to the same node
     } else {                    // Else single-cast send
       water.init.NetworkInit.CLOUD_DGRAM.send(_bb, _h2o._key);
     }
@@ -526,7 +566,7 @@ public /* final */ class AutoBuffer {
     long ns = System.nanoTime();
     while( _bb.position() < sz ) { // Read until we got enuf
       try {
-        int res = _chan.read(_bb); // Read more
+        int res = _wire == null ? _chan.read(_bb) : _wire.read(_chan,_bb); // Read more
         // Readers are supposed to be strongly typed and read the exact expected bytes.
         // However, if a TCP connection fails mid-read we'll get a short-read.
         // This is indistinguishable from a mis-alignment between the writer and reader!
@@ -534,14 +574,9 @@ public /* final */ class AutoBuffer {
           throw new AutoBufferException(new EOFException("Reading "+sz+" bytes, AB="+this));
         if( res ==  0 ) throw new RuntimeException("Reading zero bytes - so no progress?");
         _size += res;            // What we read
+        if( _wire == null && _h2o != null ) WireCodec.recv(res,res); // Raw TCP
       } catch( IOException e ) { // Dunno how to handle so crash-n-burn
-        // Linux/Ubuntu message for a reset-channel
-        if( e.getMessage().equals("An existing connection was forcibly closed by the remote host") )
-          throw new AutoBufferException(e);
-        // Windows message for a reset-channel
-        if( e.getMessage().equals("An established connection was aborted by the software in your host machine") )
-          throw new AutoBufferException(e);
-        throw Log.throwErr(e);
+        throw readFailed(e);
       }
     }
     _time_io_ns += (System.nanoTime()-ns);
@@ -551,6 +586,41 @@ public /* final */ class AutoBuffer {
     return _bb;
   }
 
+  private static RuntimeException readFailed( IOException e ) {
+    // Linux/Ubuntu message for a reset-channel
+    if( e.getMessage().equals("An existing connection was forcibly closed by the remote host") )
+      throw new AutoBufferException(e);
+    // Windows message for a reset-channel
+    if( e.getMessage().equals("An established connection was aborted by the software in your host machine") )
+      throw new AutoBufferException(e);
+    throw Log.throwErr(e);
+  }
+
+  // Reads straight into a caller's buffer need an uncompressed TCP stream or
+  // file; _bb must be drained first.
+  private boolean canScatter() {
+    return _wire == null && (_chan instanceof SocketChannel || _chan instanceof FileChannel);
+  }
+
+  // Fill 'dst' straight from the channel, skipping the copy through _bb.
+  private void readDirect( ByteBuffer dst ) {
+    assert _read && !_bb.hasRemaining();
+    long ns = System.nanoTime();
+    while( dst.hasRemaining() ) {
+      try {
+        int res = _chan.read(dst);
+        if( res == -1 )
+          throw new AutoBufferException(new EOFException("Reading "+dst.remaining()+" more bytes, AB="+this));
+        _size += res;
+        if( _h2o != null ) WireCodec.recv(res,res); // Raw TCP
+      } catch( IOException e ) {
+        throw readFailed(e);
+      }
+    }
+    _time_io_ns += (System.nanoTime()-ns);
+    _firstPage = false;
+  }
+
   /** Put as needed to keep from overflowing the ByteBuffer. */
   private ByteBuffer putSp( int sz ) {
     assert !_read;
@@ -581,10 +651,14 @@ public /* final */ class AutoBuffer {
         tcpOpen(); // This is a big operation.  Open a TCP socket as-needed.
       //for( int i=0; i < _bb.limit(); i++ ) if( _bb.get(i)==0 ) _zeros++;
       long ns = System.nanoTime();
-      while( _bb.hasRemaining() ) {
-        _chan.write(_bb);
-        if( RANDOM_TCP_DROP != null &&_chan instanceof SocketChannel && RANDOM_TCP_DROP.nextInt(100) == 0 )
-          throw new IOException("Random TCP Write Fail");
+      if( _wire != null ) _wire.write(_chan,_bb); // Compressed TCP frame
+      else {
+        if( _h2o != null ) WireCodec.sent(_bb.remaining(),_bb.remaining()); // Raw TCP
+        while( _bb.hasRemaining() ) {
+          _chan.write(_bb);
+          if( RANDOM_TCP_DROP != null &&_chan instanceof SocketChannel && RANDOM_TCP_DROP.nextInt(100) == 0 )
+            throw new IOException("Random TCP Write Fail");
+        }
       }
       _time_io_ns += (System.nanoTime()-ns);
     } catch( IOException e ) {  // Some kind of TCP fail?
@@ -602,6 +676,43 @@ public /* final */ class AutoBuffer {
     return _bb;
   }
 
+  // Writes straight from a caller's buffer need an uncompressed TCP stream
+  // (open, or about to be opened for a big write) or a file.
+  private boolean canGather() {
+    if( _read ) return false;
+    if( _chan == null ) return _h2o != null && !WireCodec.enabled();
+    return _wire == null && _chan instanceof GatheringByteChannel;
+  }
+
+  // Ship the bytes in _bb and then all of 'src' with gather writes, skipping
+  // the copy of 'src' through _bb.  Leaves _bb empty, like sendPartial().
+  private void sendGather( ByteBuffer src ) {
+    final int len = src.remaining();
+    _size += _bb.position()+len;
+    if( _chan == null )
+      TimeLine.record_send(this,true);
+    _bb.flip();
+    ByteBuffer[] bbs = new ByteBuffer[]{_bb,src};
+    try {
+      if( _chan == null )
+        tcpOpen();
+      assert _wire == null;
+      long ns = System.nanoTime();
+      if( _h2o != null ) WireCodec.sent(_bb.remaining()+len,_bb.remaining()+len); // Raw TCP
+      while( src.hasRemaining() ) { // Gathered in order: src goes last
+        ((GatheringByteChannel)_chan).write(bbs);
+        if( RANDOM_TCP_DROP != null &&_chan instanceof SocketChannel && RANDOM_TCP_DROP.nextInt(100) == 0 )
+          throw new IOException("Random TCP Write Fail");
+      }
+      _time_io_ns += (System.nanoTime()-ns);
+    } catch( IOException e ) {  // Some kind of TCP fail?  See sendPartial
+      throw new AutoBufferException(e);
+    }
+    if( _bb.capacity() < BBP_BIG._size ) { BBP_SML.free(_bb); _bb = BBP_BIG.make(); }
+    _firstPage = false;
+    _bb.clear();
+  }
+
   @SuppressWarnings("unused")  public String getStr(int off, int len) {
     return new String(_bb.array(), _bb.arrayOffset()+off, len);
   }
@@ -898,6 +1009,10 @@ public /* final */ class AutoBuffer {
       int more = Math.min(_bb.remaining(), len - sofar);
       _bb.get(buf, sofar, more);
       sofar += more;
+      if( len-sofar >= ZERO_COPY_MIN && canScatter() ) { // Big: rest lands in place
+        readDirect(ByteBuffer.wrap(buf, sofar, len-sofar));
+        break;
+      }
       if( sofar < len ) getSp(Math.min(_bb.capacity(), len-sofar));
     }
     return buf;
@@ -1118,6 +1233,10 @@ public /* final */ class AutoBuffer {
   }
   public AutoBuffer putA1( byte[] ary, int length ) { return putA1(ary,0,length); }
   public AutoBuffer putA1( byte[] ary, int sofar, int length ) {
+    if( length-sofar >= ZERO_COPY_MIN && canGather() ) { // Big: ship from the array itself
+      sendGather(ByteBuffer.wrap(ary, sofar, length-sofar));
+      return this;
+    }
     while( sofar < length ) {
       int len = Math.min(length - sofar, _bb.remaining());
       _bb.put(ary, sofar, len);
@@ -1126,6 +1245,23 @@ public /* final */ class AutoBuffer {
     }
     return this;
   }
+  /** Write the remaining bytes of {@code src} exactly as {@link
+   *  #putA1(byte[])} would write them as an array, e.g. for a Chunk parked in
+   *  a direct buffer.  Big buffers are shipped straight from their memory.
+   *  The position of {@code src} is not changed. */
+  public AutoBuffer putBuf( ByteBuffer src ) {
+    src = src.duplicate();
+    putInt(src.remaining());
+    if( src.remaining() >= ZERO_COPY_MIN && canGather() ) { sendGather(src); return this; }
+    while( src.hasRemaining() ) {
+      ByteBuffer part = src.duplicate();
+      part.limit(part.position()+Math.min(src.remaining(), _bb.remaining()));
+      _bb.put(part);
+      src.position(part.position());
+      if( src.hasRemaining() ) sendPartial();
+    }
+    return this;
+  }
   AutoBuffer putA2( short[] ary ) {
     //_arys++;
     if( ary == null ) return putInt(-1);
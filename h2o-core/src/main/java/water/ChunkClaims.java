@@ -0,0 +1,99 @@
+package water;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import water.fvec.Vec;
+import water.nbhm.NonBlockingHashMapLong;
+
+/** Per-node claims on home Chunks for {@link MRTask}s run with stealing on.
+ *  <p>
+ *  While a node is mapping its own Chunks for such a task, every Chunk homed
+ *  there must be claimed before it is mapped: by the home node itself as its
+ *  map leaves reach it, or by an idle node via {@link StealTask}.  A claim
+ *  is a CAS, so each Chunk is mapped - and reduced - exactly once.  The home
+ *  node claims in its usual divide-and-conquer order; thieves claim from the
+ *  far end of its Chunk list, so the two rarely contend.
+ *  <p>
+ *  Claims live only for the home node's local map phase.  Once all its
+ *  Chunks are claimed the entry is closed, and a later steal finds nothing
+ *  left; once the task is done there, the entry is dropped.  A node with no
+ *  entry either has not started the task yet or is past it, so thieves ask
+ *  it again a few times.
+ */
+final class ChunkClaims {
+  /** Chunks handed out per steal request */
+  static final int STEAL_BATCH = 4;
+  /** Times a thief asks a node that has no claims open yet */
+  static final int STEAL_RETRIES = 4;
+
+  // Claims by MRTask steal id, for tasks now in their local map phase here
+  private static final NonBlockingHashMapLong<ChunkClaims> CLAIMS = new NonBlockingHashMapLong<>();
+  private static final AtomicLong STOLEN = new AtomicLong();
+
+  /** @return Count of Chunks this node mapped on behalf of other nodes */
+  static long stolen() { return STOLEN.get(); }
+
+  private final int[] _home;            // Chunk indices homed here, ascending
+  private final AtomicIntegerArray _claimed; // 1 if claimed, by home cidx position
+  private int _tail;                    // Thieves' scan position, from the end
+
+  // Entry of a task whose local map phase is over
+  private static final ChunkClaims CLOSED = new ChunkClaims();
+  private ChunkClaims() { _home = new int[0];  _claimed = new AtomicIntegerArray(0); }
+
+  private ChunkClaims( Vec v ) {
+    int n = 0, nchks = v.nChunks();
+    int[] home = new int[nchks];
+    for( int i=0; i<nchks; i++ )
+      if( v.chunkKey(i).home() ) home[n++] = i;
+    _home = Arrays.copyOf(home,n);
+    _claimed = new AtomicIntegerArray(n);
+    _tail = n;
+  }
+
+  /** Start claims for a task's local map phase over Chunks of {@code v}. */
+  static void open( long id, Vec v ) { CLAIMS.put(id,new ChunkClaims(v)); }
+  /** End the local map phase; all home Chunks are claimed by now. */
+  static void close( long id ) { CLAIMS.replace(id,CLOSED); }
+  /** Forget a task's claims once it is done here, or failed. */
+  static void drop( long id ) { CLAIMS.remove(id); }
+
+  /** Claim home Chunk {@code cidx} for the local map.
+   *  @return false if a thief already has it */
+  static boolean claim( long id, int cidx ) {
+    ChunkClaims cc = CLAIMS.get(id);
+    if( cc == null ) return true; // Claims already closed: nobody else can have it
+    int i = Arrays.binarySearch(cc._home,cidx);
+    return i < 0 || cc._claimed.compareAndSet(i,0,1);
+  }
+
+  // Claim up to 'max' unclaimed home Chunks, from the end
+  private synchronized int[] steal( int max ) {
+    int[] got = new int[max];
+    int n = 0;
+    while( n < max && _tail > 0 ) {
+      int i = --_tail;
+      if( _claimed.compareAndSet(i,0,1) ) got[n++] = _home[i];
+    }
+    return Arrays.copyOf(got,n);
+  }
+
+  /** Ask a node for unclaimed Chunks of a task; runs on the victim. */
+  static class StealTask extends DTask<StealTask> {
+    final long _id;
+    int[] _cidxs;               // Chunks now claimed for the thief
+    boolean _open;              // Claims were open or closed here; else not started, or dropped
+    StealTask( long id ) { _id = id; }
+    @Override public void compute2() {
+      ChunkClaims cc = CLAIMS.get(_id);
+      _open = cc != null;
+      _cidxs = cc == null ? new int[0] : cc.steal(STEAL_BATCH);
+      tryComplete();
+    }
+    @Override public void onAck() { STOLEN.addAndGet(_cidxs.length); }
+    @Override public byte priority() { return H2O.FETCH_ACK_PRIORITY; }
+    @Override public boolean logVerbose() { return false; }
+  }
+}
@@ -56,144 +56,162 @@ class Cleaner extends Thread {
     return H2O.SELF._heartbeat.get_free_disk() > MemoryManager.MEM_MAX;
   }
 
-//  static boolean isDiskFull(){ // free disk space < 5K?
-//    long space = H2O.getPM().getIce().getUsableSpace();
-//    return space >= 0 && space < (5 << 10);
-//  }
-  static boolean isDiskFull() {
-    // TODO: Re-enable correct isDiskFull above.
-    return true;
+  // Spilling is disabled once the ICE root has less than this much room left.
+  static final long DISK_FULL_BYTES = 5L<<20;
+  static boolean isDiskFull(){ // free disk space < 5M?
+    long space = H2O.getPM().getIce().getUsableSpace();
+    return space >= 0 && space < DISK_FULL_BYTES;
   }
 
 
   @Override synchronized public void run() {
-    return;
+    boolean diskFull = false;
+    while( true ) {
+      // Sweep the K/V store, writing out Values (cleaning) and free'ing
+      // - Clean all "old" values (lazily, optimistically)
+      // - Clean and free old values if above the desired cache level
+      // Do not let optimistic cleaning get in the way of emergency cleaning.
 
-//    boolean diskFull = false;
-//    while( true ) {
-//      // Sweep the K/V store, writing out Values (cleaning) and free'ing
-//      // - Clean all "old" values (lazily, optimistically)
-//      // - Clean and free old values if above the desired cache level
-//      // Do not let optimistic cleaning get in the way of emergency cleaning.
-//
-//      // Get a recent histogram, computing one as needed
-//      Histo h = _myHisto.histo(false);
-//      long now = System.currentTimeMillis();
-//      long dirty = _dirty; // When things first got dirtied
-//
-//      // Start cleaning if: "dirty" was set a "long" time ago, or we beyond
-//      // the desired cache levels. Inverse: go back to sleep if the cache
-//      // is below desired levels & nothing has been dirty awhile.
-//      if( h._cached < DESIRED && // Cache is low and
-//          (now-dirty < 5000) ) { // not dirty a long time
-//        // Block asleep, waking every 5 secs to check for stuff, or when poked
-//        block_store_cleaner();
-//        continue; // Awoke; loop back and re-check histogram.
-//      }
-//
-//      now = System.currentTimeMillis();
-//      _dirty = Long.MAX_VALUE; // Reset, since we are going write stuff out
-//      MemoryManager.set_goals("preclean",false);
-//
-//      // The age beyond which we need to toss out things to hit the desired
-//      // caching levels. If forced, be exact (toss out the minimal amount).
-//      // If lazy, store-to-disk things down to 1/2 the desired cache level
-//      // and anything older than 5 secs.
-//      final boolean force = (h._cached >= DESIRED); // Forced to clean
-//      if( force && diskFull )
-//        diskFull = isDiskFull();
-//      long clean_to_age = h.clean_to(force ? DESIRED : (DESIRED>>1));
-//      // If not forced cleaning, expand the cleaning age to allows Values
-//      // more than 5sec old
-//      if( !force ) clean_to_age = Math.max(clean_to_age,now-5000);
-//      if( DESIRED == -1 ) clean_to_age = now;  // Test mode: clean all
-//
-//      // No logging if under memory pressure: can deadlock the cleaner thread
-//      String s = h+" DESIRED="+(DESIRED>>20)+"M dirtysince="+(now-dirty)+" force="+force+" clean2age="+(now-clean_to_age);
-//      if( MemoryManager.canAlloc() ) Log.debug(s);
-//      else                           System.err.println(s);
-//      long cleaned = 0;
-//      long freed = 0;
-//
-//      // For faster K/V store walking get the NBHM raw backing array,
-//      // and walk it directly.
-//      Object[] kvs = H2O.STORE.raw_array();
-//
-//      // Start the walk at slot 2, because slots 0,1 hold meta-data
-//      for( int i=2; i<kvs.length; i += 2 ) {
-//        // In the raw backing array, Keys and Values alternate in slots
-//        Object ok = kvs[i], ov = kvs[i+1];
-//        if( !(ok instanceof Key  ) ) continue; // Ignore tombstones and Primes and null's
-//        Key key = (Key )ok;
-//        if( !(ov instanceof Value) ) continue; // Ignore tombstones and Primes and null's
-//        Value val = (Value)ov;
-//        byte[] m = val.rawMem();
-//        Object p = val.rawPOJO();
-//        if( m == null && p == null ) continue; // Nothing to throw out
-//
-//        if( val.isLockable() ) continue; // we do not want to throw out Lockables.
-//        boolean isChunk = p instanceof Chunk;
-//
-//        // Ignore things younger than the required age.  In particular, do
-//        // not spill-to-disk all dirty things we find.
-//        long touched = val._lastAccessedTime;
-//        if( touched > clean_to_age ) { // Too recently touched?
-//          // But can toss out a byte-array if already deserialized & on disk
-//          // (no need for both forms).  Note no savings for Chunks, for which m==p._mem
-//          if( val.isPersisted() && m != null && p != null && !isChunk ) {
-//            val.freeMem();      // Toss serialized form, since can rebuild from POJO
-//            freed += val._max;
-//          }
-//          dirty_store(touched); // But may write it out later
-//          continue;             // Too young
-//        }
-//
-//        // CNC - Memory cleaning turned off, except for Chunks
-//        // Too many POJOs are written to dynamically; cannot spill & reload
-//        // them without losing changes.
-//
-//        // Should I write this value out to disk?
-//        // Should I further force it from memory?
-//        if( isChunk && !val.isPersisted() && !diskFull ) { // && (force || (lazyPersist() && lazy_clean(key)))) {
-//          try {
-//            val.storePersist(); // Write to disk
-//            if( m == null ) m = val.rawMem();
-//            if( m != null ) cleaned += m.length;
-//          } catch(IOException e) {
-//            if( isDiskFull() )
-//              Log.warn("Disk full! Disabling swapping to disk." + (force?" Memory low! Please free some space in " + H2O.ICE_ROOT + "!":""));
-//            else
-//              Log.warn("Disk swapping failed! " + e.getMessage());
-//            // Something is wrong so mark disk as full anyways so we do not
-//            // attempt to write again.  (will retry next run when memory is low)
-//            diskFull = true;
-//          }
-//        }
-//        // And, under pressure, free all
-//        if( isChunk && force && val.isPersisted() ) {
-//          val.freeMem ();  if( m != null ) freed += val._max;  m = null;
-//          val.freePOJO();  if( p != null ) freed += val._max;  p = null;
-//          if( isChunk ) freed -= val._max; // Double-counted freed mem for Chunks since val._pojo._mem & val._mem are the same.
-//        }
-//        // If we have both forms, toss the byte[] form - can be had by
-//        // serializing again.
-//        if( m != null && p != null && !isChunk ) {
-//          val.freeMem();
-//          freed += val._max;
-//        }
-//      }
-//      // For testing thread
-//      _did_sweep = true;
-//      if( DESIRED == -1 ) DESIRED = 0; // Turn off test-mode after 1 sweep
-//      notifyAll();                     // Wake up testing thread
-//
-//      h = _myHisto.histo(true); // Force a new histogram
-//      MemoryManager.set_goals("postclean",false);
-//      // No logging if under memory pressure: can deadlock the cleaner thread
-//      String s2 = h+" cleaned="+(cleaned>>20)+"M, freed="+(freed>>20)+"M, DESIRED="+(DESIRED>>20)+"M";
-//      if( MemoryManager.canAlloc() ) Log.debug(s2);
-//      else                           System.err.println(s2);
-//    }
+      // Get a recent histogram, computing one as needed
+      Histo h = _myHisto.histo(false);
+      long now = System.currentTimeMillis();
+      long dirty = _dirty; // When things first got dirtied
+
+      // Start cleaning if: "dirty" was set a "long" time ago, or we beyond
+      // the desired cache levels. Inverse: go back to sleep if the cache
+      // is below desired levels & nothing has been dirty awhile.
+      if( h._cached < DESIRED && // Cache is low and
+          (now-dirty < 5000) ) { // not dirty a long time
+        // Block asleep, waking every 5 secs to check for stuff, or when poked
+        block_store_cleaner();
+        continue; // Awoke; loop back and re-check histogram.
+      }
+
+      now = System.currentTimeMillis();
+      _dirty = Long.MAX_VALUE; // Reset, since we are going write stuff out
+      MemoryManager.set_goals("preclean",false);
+
+      // The age beyond which we need to toss out things to hit the desired
+      // caching levels. If forced, be exact (toss out the minimal amount).
+      // If lazy, store-to-disk things down to 1/2 the desired cache level
+      // and anything older than 5 secs.
+      final boolean force = (h._cached >= DESIRED); // Forced to clean
+      // A full disk is re-checked on every forced pass; a prior failure may
+      // have been fixed by the user freeing up space in the ice_root.
+      if( force && diskFull )
+        diskFull = isDiskFull();
+      long clean_to_age = h.clean_to(force ? DESIRED : (DESIRED>>1));
+      // If not forced cleaning, expand the cleaning age to allows Values
+      // more than 5sec old
+      if( !force ) clean_to_age = Math.max(clean_to_age,now-5000);
+      if( DESIRED == -1 ) clean_to_age = now;  // Test mode: clean all
+
+      // No logging if under memory pressure: can deadlock the cleaner thread
+      String s = h+" DESIRED="+(DESIRED>>20)+"M dirtysince="+(now-dirty)+" force="+force+" clean2age="+(now-clean_to_age);
+      if( MemoryManager.canAlloc() ) Log.debug(s);
+      else                           System.err.println(s);
+      long cleaned = 0;
+      long freed = 0;
+      // Cached copies of remote data are cheapest to give up: the home keeps
+      // the original, so they cost no disk write.  Drop the stale ones first.
+      if( force ) freed += ReplicaCache.evictOlderThan(clean_to_age);
+      long offheap_room = MemoryManager.OFF_HEAP_MAX() - h._offheap;
+
+      // For faster K/V store walking get the NBHM raw backing array,
+      // and walk it directly.
+      Object[] kvs = H2O.STORE.raw_array();
+
+      // Start the walk at slot 2, because slots 0,1 hold meta-data
+      for( int i=2; i<kvs.length; i += 2 ) {
+        // In the raw backing array, Keys and Values alternate in slots
+        Object ok = kvs[i], ov = kvs[i+1];
+        if( !(ok instanceof Key  ) ) continue; // Ignore tombstones and Primes and null's
+        Key key = (Key )ok;
+        if( !(ov instanceof Value) ) continue; // Ignore tombstones and Primes and null's
+        Value val = (Value)ov;
+        byte[] m = val.rawMem();
+        Object p = val.rawPOJO();
+        if( m == null && p == null ) continue; // Nothing to throw out
+
+        if( val.isLockable() ) continue; // we do not want to throw out Lockables.
+        boolean isChunk = p instanceof Chunk || (p == null && key.isDataChunkKey());
+
+        // Ignore things younger than the required age.  In particular, do
+        // not spill-to-disk all dirty things we find.
+        long touched = val._lastAccessedTime;
+        if( touched > clean_to_age ) { // Too recently touched?
+          // But can toss out a byte-array if already deserialized & on disk
+          // (no need for both forms).  Note no savings for Chunks, for which m==p._mem
+          if( val.isPersisted() && m != null && p != null && !isChunk ) {
+            val.freeMem();      // Toss serialized form, since can rebuild from POJO
+            freed += val._max;
+          }
+          dirty_store(touched); // But may write it out later
+          continue;             // Too young
+        }
+
+        // Memory cleaning is only done for Chunks.  Too many POJOs are
+        // written to dynamically; cannot spill & reload them without losing
+        // changes.  Chunks are immutable once in the K/V store.
+        if( isChunk ) {
+          // Tier 0: under pressure, park the payload in direct memory if the
+          // off-heap budget allows.  Cheaper to reload than a disk read.
+          // The budget is only enforced here.  If the JVM runs out of direct
+          // memory first, stop parking for this pass and spill to disk.
+          if( force && offheap_room >= val._max ) {
+            if( val.storeOffHeap() ) {
+              offheap_room -= val._max;
+              freed += val._max;
+              continue;
+            }
+            offheap_room = 0;
+          }
+          // Tier 1: write-behind.  Cold Chunks get copied to the ice_root
+          // even when not forced, so a later emergency only needs to free.
+          if( !val.isPersisted() && !diskFull && (force || lazy_clean(key)) ) {
+            try {
+              val.storePersist(); // Write to disk
+              if( m == null ) m = val.rawMem();
+              if( m != null ) cleaned += m.length;
+            } catch( IOException | RuntimeException e ) {
+              if( isDiskFull() )
+                Log.warn("Disk full! Disabling swapping to disk." + (force?" Memory low! Please free some space in " + H2O.ICE_ROOT + "!":""));
+              else
+                Log.warn("Disk swapping failed! " + e.getMessage());
+              // Something is wrong so mark disk as full anyways so we do not
+              // attempt to write again.  (will retry next run when memory is low)
+              diskFull = true;
+            }
+          }
+          // Tier 2: under pressure, free persisted Chunks.  Both forms share
+          // the same byte[], so this frees _max bytes once.  Reloads happen
+          // lazily via Value.memOrLoad().
+          if( force && val.isPersisted() ) {
+            val.freeMem();
+            val.freePOJO();
+            freed += val._max;
+          }
+          continue;
+        }
+        // If we have both forms, toss the byte[] form - can be had by
+        // serializing again.
+        if( m != null && p != null ) {
+          val.freeMem();
+          freed += val._max;
+        }
+      }
+      // For testing thread
+      _did_sweep = true;
+      if( DESIRED == -1 ) DESIRED = 0; // Turn off test-mode after 1 sweep
+      notifyAll();                     // Wake up testing thread
+
+      h = _myHisto.histo(true); // Force a new histogram
+      MemoryManager.set_goals("postclean",false);
+      // No logging if under memory pressure: can deadlock the cleaner thread
+      String s2 = h+" cleaned="+(cleaned>>20)+"M, freed="+(freed>>20)+"M, DESIRED="+(DESIRED>>20)+"M";
+      if( MemoryManager.canAlloc() ) Log.debug(s2);
+      else                           System.err.println(s2);
+    }
   }
 
   // Rules on when to write & free a Key, when not under memory pressure.
@@ -213,6 +231,7 @@ class Cleaner extends Thread {
     long _hStep;  // Histogram step: (now-eldest)/histogram.length
     long _cached; // Total alive data in the histogram
     long _total;  // Total data in local K/V
+    long _offheap;// Total data parked off-heap
     long _when;   // When was this histogram computed
     Value _vold;  // For assertions: record the oldest Value
     boolean _clean; // Was "clean" K/V when built?
@@ -241,6 +260,7 @@ class Cleaner extends Thread {
       Object[] kvs = H2O.STORE.raw_array();
       long cached = 0; // Total K/V cached in ram
       long total = 0;  // Total K/V in local node
+      long offheap = 0;// Total K/V held off-heap
       long oldest = Long.MAX_VALUE; // K/V with the longest time since being touched
       Value vold = null;
       // Start the walk at slot 2, because slots 0,1 hold meta-data
@@ -251,6 +271,7 @@ class Cleaner extends Thread {
         if( !(ov instanceof Value) ) continue; // Ignore tombstones and Primes and null's
         Value val = (Value)ov;
         total += val._max;
+        if( val.rawOffHeap() != null ) offheap += val._max;
         int len = 0;
         byte[] m = val.rawMem();
         Object p = val.rawPOJO();
@@ -272,6 +293,7 @@ class Cleaner extends Thread {
       }
       _cached = cached; // Total cached; NOTE: larger than sum of histogram buckets
       _total = total;   // Total used data
+      _offheap = offheap;
       _oldest = oldest; // Oldest seen in this pass
       _vold = vold;
       _clean = clean && _dirty==Long.MAX_VALUE; // Looks like a clean K/V the whole time?
@@ -183,7 +183,10 @@ public abstract class DKV {
     Value val = H2O.get(key);
     // Hit in local cache?
     if( val != null ) {
-      if( val.rawMem() != null || val.rawPOJO() != null || val.isPersisted() ) return val;
+      if( val.rawMem() != null || val.rawPOJO() != null || val.rawOffHeap() != null || val.isPersisted() ) {
+        if( !key.home() ) ReplicaCache.hit();
+        return val;
+      }
       assert !key.home(); // Master must have *something*; we got nothing & need to fetch
     }
 
@@ -206,6 +209,7 @@ public abstract class DKV {
     if( tpk != null ) return tpk._xval;
 
     // Get data "the hard way"
+    ReplicaCache.miss();
     RPC<TaskGetKey> tgk = TaskGetKey.start(home,key);
     return blocking ? TaskGetKey.get(tgk) : null;
   }
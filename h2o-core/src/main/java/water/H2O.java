@@ -107,6 +107,48 @@ final public class H2O {
             "          Maximum number of threads in the low priority batch-work queue.\n" +
             "          (The default is 99.)\n" +
             "\n" +
+            "    -off_heap <megabytes>\n" +
+            "          Memory outside the Java heap used to hold cold data under\n" +
+            "          memory pressure, before spilling it to the ice_root.\n" +
+            "          (The default is 0, which disables it.)\n" +
+            "\n" +
+            "    -tcp_socks <count>\n" +
+            "          Maximum concurrent TCP connections to each other node.\n" +
+            "          Large transfers to a node beyond this many wait for a\n" +
+            "          connection to free up.\n" +
+            "          (The default is 2.)\n" +
+            "\n" +
+            "    -udp_batch_us <microseconds>\n" +
+            "          Window in which small packets to the same node are\n" +
+            "          coalesced into one datagram.  0 disables batching.\n" +
+            "          (The default is 0.)\n" +
+            "\n" +
+            "    -wire_compress <bytes>\n" +
+            "          Compress outgoing TCP pages of at least this many bytes.\n" +
+            "          Trades CPU for network bandwidth.\n" +
+            "          (The default is 0, which disables it.)\n" +
+            "\n" +
+            "    -replica_cache <megabytes>\n" +
+            "          Memory used to cache data fetched from other nodes; least\n" +
+            "          recently used copies are dropped beyond it.\n" +
+            "          (The default is 0, which means no limit.)\n" +
+            "\n" +
+            "    -mr_fanout <count>\n" +
+            "          Number of child nodes per node in the tree over which\n" +
+            "          distributed tasks spread and reduce their results.\n" +
+            "          (The default is 2.)\n" +
+            "\n" +
+            "    -trace_spans <count>\n" +
+            "          Record timed spans of task, RPC, DKV, parse and model\n" +
+            "          building work, keeping the last this many per node.\n" +
+            "          Export them with /3/Trace.\n" +
+            "          (The default is 0, which disables tracing.)\n" +
+            "\n" +
+            "    -parse_local_enums\n" +
+            "          Parse categorical columns into per-thread dictionaries,\n" +
+            "          merged into the node's shared one once per chunk.\n" +
+            "          Faster for high-cardinality columns.\n" +
+            "\n" +
             "    -client\n" +
             "          Launch H2O node in client mode.\n" +
             "\n" +
@@ -197,6 +239,30 @@ final public class H2O {
     /** -disable_web; disable web API port (used by Sparkling Water) */
     public boolean disable_web = false;
 
+    /** -off_heap=megabytes; budget for cold Chunk payloads parked outside the Java heap; 0 disables */
+    public int off_heap = 0;
+
+    /** -tcp_socks=count; max concurrent TCP connections to each peer node */
+    public int tcp_socks = 2;
+
+    /** -udp_batch_us=microseconds; window for coalescing small UDP packets per destination; 0 disables */
+    public int udp_batch_us = 0;
+
+    /** -wire_compress=bytes; compress outgoing TCP pages of at least this size; 0 disables */
+    public int wire_compress = 0;
+
+    /** -replica_cache=megabytes; budget for Values cached from remote homes; 0 is unbounded */
+    public int replica_cache = 0;
+
+    /** -mr_fanout=count; children per node in the MRTask node tree, 2 to 127 */
+    public int mr_fanout = 2;
+
+    /** -trace_spans=count; size of the per-node ring of recorded trace spans; 0 disables tracing */
+    public int trace_spans = 0;
+
+    /** -parse_local_enums; intern categorical strings per parse thread, merging per chunk */
+    public boolean parse_local_enums = false;
+
     //-----------------------------------------------------------------------------------
     // HDFS & AWS
     //-----------------------------------------------------------------------------------
@@ -383,6 +449,40 @@ final public class H2O {
         i = s.incrementAndCheck(i, args);
         ARGS.nthreads = s.parseInt(args[i]);
       }
+      else if (s.matches("off_heap")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.off_heap = s.parseInt(args[i]);
+      }
+      else if (s.matches("tcp_socks")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.tcp_socks = s.parseInt(args[i]);
+        if( ARGS.tcp_socks < 1 ) parseFailed("-tcp_socks must be at least 1");
+      }
+      else if (s.matches("udp_batch_us")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.udp_batch_us = s.parseInt(args[i]);
+      }
+      else if (s.matches("wire_compress")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.wire_compress = s.parseInt(args[i]);
+      }
+      else if (s.matches("replica_cache")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.replica_cache = s.parseInt(args[i]);
+      }
+      else if (s.matches("mr_fanout")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.mr_fanout = s.parseInt(args[i]);
+        if( ARGS.mr_fanout < 2 || ARGS.mr_fanout > 127 ) parseFailed("-mr_fanout must be between 2 and 127");
+      }
+      else if (s.matches("trace_spans")) {
+        i = s.incrementAndCheck(i, args);
+        ARGS.trace_spans = s.parseInt(args[i]);
+        if( ARGS.trace_spans < 0 ) parseFailed("-trace_spans must not be negative");
+      }
+      else if (s.matches("parse_local_enums")) {
+        ARGS.parse_local_enums = true;
+      }
       else if (s.matches("hdfs_config")) {
         i = s.incrementAndCheck(i, args);
         ARGS.hdfs_config = args[i];
@@ -1198,6 +1298,10 @@ final public class H2O {
     new UDPTimeOutThread().start();
     new H2ONode.AckAckTimeOutThread().start();
 
+    // Start the UDP batch flusher, which sends small coalesced packets once
+    // their batching window closes.
+    new UDPBatch.Flusher().start();
+
     // Start the TCPReceiverThread, to listen for TCP requests from other Cloud
     // Nodes. There should be only 1 of these, and it never shuts down.
     new TCPReceiverThread().start();
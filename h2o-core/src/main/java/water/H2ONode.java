@@ -29,6 +29,7 @@ public class H2ONode extends Iced<H2ONode> implements Comparable {
   public long _last_heard_from; // Time in msec since we last heard from this Node
   public volatile HeartBeat _heartbeat;  // My health info.  Changes 1/sec.
   public int _tcp_readers;               // Count of started TCP reader threads
+  final transient PeerStats _stats = new PeerStats(); // Traffic with this node, as seen from here
 
   // A JVM is uniquely named by machine IP address and port#
   public final H2Okey _key;
@@ -207,16 +208,26 @@ public class H2ONode extends Iced<H2ONode> implements Comparable {
   // A queue of available TCP sockets
   // re-usable TCP socket opened to this node, or null.
   // This is essentially a BlockingQueue/Stack that allows null.
-  private SocketChannel _socks[] = new SocketChannel[2];
+  // Sized by -tcp_socks: each concurrent large send to this node needs its
+  // own socket, and the receiver runs one reader thread per socket.
+  private SocketChannel _socks[] = new SocketChannel[Math.max(1,H2O.ARGS.tcp_socks)];
   private int _socksAvail=_socks.length;
+  // Time spent, and number of times, blocked waiting for a free socket
+  private long _tcpWaitNanos;
+  private int _tcpWaits;
   // Count of concurrent TCP requests both incoming and outgoing
   static final AtomicInteger TCPS = new AtomicInteger(0);
   SocketChannel getTCPSocket() throws IOException {
     // Under lock, claim an existing open socket if possible
     synchronized(this) {
       // Limit myself to the number of open sockets from node-to-node
-      while( _socksAvail == 0 )
-        try { wait(1000); } catch( InterruptedException ignored ) { }
+      if( _socksAvail == 0 ) {
+        long t0 = System.nanoTime();
+        while( _socksAvail == 0 )
+          try { wait(1000); } catch( InterruptedException ignored ) { }
+        _tcpWaitNanos += System.nanoTime()-t0;
+        _tcpWaits++;
+      }
       // Claim an open socket
       SocketChannel sock = _socks[--_socksAvail];
       if( sock != null ) {
@@ -243,6 +254,13 @@ public class H2ONode extends Iced<H2ONode> implements Comparable {
     if( sock == null ) TCPS.decrementAndGet();
     notify();
   }
+  /** @return Total msecs senders spent waiting for a free TCP socket to this
+   *  node; a large value suggests raising {@code -tcp_socks} */
+  public synchronized long tcpWaitMillis() { return _tcpWaitNanos/1000000; }
+  /** @return Number of sends that had to wait for a free TCP socket */
+  public synchronized int tcpWaits() { return _tcpWaits; }
+  /** @return This node's counters of traffic with this peer */
+  public PeerStats.Snapshot stats() { return _stats.snapshot(this); }
 
   // ---------------
   // The *outgoing* client-side calls; pending tasks this Node wants answered.
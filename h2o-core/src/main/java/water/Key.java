@@ -74,6 +74,11 @@ final public class Key<T extends Keyed> extends Iced<Key<T>> implements Comparab
    *  @return True is this is a {@link Chunk} Key */
   public final boolean isChunkKey() { return _kb != null && _kb.length > 0 && _kb[0] == CHK; }
 
+  /** True is this is the Key of a {@link Chunk} of data: a chunk Key with a
+   *  chunk number, not one of the per-Vec rollup or zone-map Keys.
+   *  @return True is this is a data {@link Chunk} Key */
+  public final boolean isDataChunkKey() { return isChunkKey() && _kb.length >= 10 && UnsafeUtils.get4(_kb,6) >= 0; }
+
   /** Returns the {@link Vec} Key from a {@link Chunk} Key.
    *  @return Returns the {@link Vec} Key from a {@link Chunk} Key. */
   public final Key getVecKey() { assert isChunkKey(); return water.fvec.Vec.getVecKey(this); }
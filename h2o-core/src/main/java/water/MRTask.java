@@ -3,6 +3,7 @@ package water;
 import jsr166y.CountedCompleter;
 import jsr166y.ForkJoinPool;
 import water.fvec.*;
+import water.nbhm.NonBlockingHashMap;
 import water.util.PrettyPrint;
 import water.fvec.Vec.VectorGroup;
 
@@ -59,12 +60,13 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   *
   *    internal "top-level" fields
   *    ---------------------------
-  *     - RPC<T> _nleft, _nrite: "child" node/JVMs that are doing work
+  *     - RPC<T>[] _nkids      : "child" node/JVMs that are doing work
   *     - boolean _topLocal    : "root" MRTask on a local machine
   *     - boolean _topGlobal   : "root" MRTask on the "root" node
   *     - T _left, _rite       : "child" MRTasks on a local machine
   *     - T _res               : "result" MRTask (everything reduced into here)
   *     - int _nlo,_nhi        : range of nodes to do remote work on (divide-conquer; see Diagram 2)
+  *     - T _kidRes            : results of the child nodes, reduced in child order as they land
   *     - Futures _fs          : _topLocal task blocks on _fs for _left and _rite to complete
   *
   *       Diagram 1: N is for Node; T is for Task
@@ -72,7 +74,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   *              3 node cloud              Inside one of the 'N' nodes:
   *                   N1                               T  _topLocal**
   *                 /   \                            /  \
-  *         N2 (_nleft)  N3 (_nrite)         T (_left)   T (_rite)
+  *         N2 (_nkids[0]) N3 (_nkids[1])    T (_left)   T (_rite)
   *
   *                  **: T is also _topGlobal if N==N1
   *
@@ -90,9 +92,10 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   *                ==>       setupLocal0 on N1
   *                            - topLocal=true
   *                            - _fs = new Futures()
-  *                            - nmid = (_nlo + _nhi) >> 1 => split the range of nodes (divide-conquer)
-  *                            - _nleft = remote_compute(_nlo,nmid) => chooses a node in range and does new RPC().call()
-  *                            - _nrite = remote_compute(nmid,_nhi)    serializing MRTask and call dinvoke on remote.
+  *                            - remote_compute(_nlo+1,_nhi) => split the range of nodes into up to
+  *                                fan-out subtrees (divide-conquer; 2 by default), and for each do
+  *                                new RPC().call() to its first node, serializing MRTask and calling
+  *                                dinvoke on remote.
   *                           /                                 \
   *                         /                                     \
   *                       /                                         \
@@ -146,8 +149,11 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   /** Appendables are treated separately (roll-ups computed in map/reduce style, can not be passed via K/V store).*/
   protected AppendableVec[] _appendables;
 
-  /** Internal field to track the left &amp; right remote nodes/JVMs to work on */
-  transient protected RPC<T> _nleft, _nrite;
+  /** Internal field to track the remote nodes/JVMs to work on, one per subtree */
+  transient protected RPC<T>[] _nkids;
+  // Results of the leading _nkidsReduced children, reduced as they land
+  transient T _kidRes;
+  transient int _nkidsReduced;
 
   /** Internal field to track if this is a top-level local call */
   transient protected boolean _topLocal; // Top-level local call, returning results over the wire
@@ -186,10 +192,67 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
 
   public String profString() { return _profile.toString(); }
   MRProfile _profile;
+  // Start of the node-local span, see Trace
+  transient long _traceStart;
 
   public void setProfile(boolean b) {_doProfile = b;}
   private boolean _doProfile = false;
 
+  /** Opt in to cross-node work-stealing, before a {@code doAll} over a Frame.
+   *  A node that finishes its own Chunks early then claims Chunks not yet
+   *  mapped on slower nodes, fetches them, and maps them itself, so one slow
+   *  or GC-ing node does not hold up the whole task.  Every Chunk is still
+   *  mapped exactly once (see {@link ChunkClaims}), but not necessarily on
+   *  its home node: map() must not assume its Chunks are local.  Costs a
+   *  few small RPCs per node, plus the fetch of each stolen Chunk.
+   *  @return this */
+  public T setStealing(boolean b) { _steal = b; return self(); }
+  private boolean _steal;
+  private long _stealId;        // Cloud-wide id of this task's Chunk claims
+  transient boolean _stolen;    // Map this one Chunk, though homed elsewhere
+  transient MRTask<T> _stealProto; // Unmapped copy that stolen leaves clone
+  private boolean stealing() { return _steal && _fr != null && !_run_local; }
+
+  /** Opt in to per-thread reduction.  Each F/J worker then reduces all the
+   *  leaves it maps into one task instance of its own, and only those few
+   *  instances are reduced at node level - instead of reducing pairwise up
+   *  the whole fork tree.  Pays off when reduce() is costly (e.g. large
+   *  histograms).  Results then arrive in no particular chunk order, so
+   *  reduce() must be commutative as well as associative.
+   *  @return this */
+  public T setThreadLocalReduce(boolean b) { _perThread = b; return self(); }
+  private boolean _perThread;
+  transient private NonBlockingHashMap<Thread,T> _accs; // Per-thread results, shared node-wide
+
+  /** Children per node in the tree over which this task spreads across the
+   *  cloud, and over which its results are reduced back; the default is
+   *  {@code -mr_fanout} (2, a binary tree).  A wider tree has fewer levels of
+   *  serial RPCs, but each inner node reduces more results.  Subtrees are cut
+   *  at subnet and host boundaries where possible, so results are reduced
+   *  within a host, then within a subnet, before crossing the wider network.
+   *  @return this */
+  public T setFanOut(int fanout) {
+    assert fanout >= 2 && fanout <= Byte.MAX_VALUE;
+    _fanout = (byte)fanout;
+    return self();
+  }
+  private byte _fanout;         // 0 for the -mr_fanout default
+
+  /** Opt in to accumulating leaves.  Small chunks are batched several to a
+   *  leaf task (about {@link #LEAF_BYTES} of stored input each), but by
+   *  default each chunk still maps into a fresh clone which is then reduced,
+   *  as map() may assume a fresh instance.  With this on, one instance maps
+   *  all the chunks of its leaf, saving the per-chunk clone and reduce too:
+   *  map() must then add into its results (allocating arrays only once)
+   *  rather than overwrite them.
+   *  @return this */
+  public T setAccumulatingLeaves(boolean b) { _leafAcc = b; return self(); }
+  private boolean _leafAcc;
+
+  /** Target bytes of stored (compressed) input mapped by one leaf task */
+  static final long LEAF_BYTES = 1<<20;
+  transient int _leafChunks;   // Chunks per leaf task; see leafChunks()
+
   /**
    * @return priority of this MRTask
    */
@@ -285,6 +348,13 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
    *  an array of Keys, and called once-per-Key on the Key's Home node */
   public void map( Key key ) { }
 
+  /** Override to skip whole chunks, e.g. those a {@link water.fvec.ZoneMap}
+   *  proves cannot match a row filter.  A skipped chunk index is neither
+   *  loaded nor mapped, and any output chunks for it are left empty; reduce()
+   *  may then see a task whose map() was never run.
+   *  @return true to skip chunk index {@code cidx} */
+  protected boolean skipChunk( int cidx ) { return false; }
+
   /** Override to combine results from 'mrt' into 'this' MRTask.  Both 'this'
    *  and 'mrt' are guaranteed to either have map() run on them, or be the
    *  results of a prior reduce().  Reduce is optional if, e.g., the result is
@@ -475,6 +545,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
     _fr = fr;                   // Record vectors to work on
     _nlo = selfidx(); _nhi = (short)H2O.CLOUD.size(); // Do Whole Cloud
     _run_local = run_local;     // Run locally by copying data, or run globally?
+    if( _steal ) _stealId = java.util.UUID.randomUUID().getLeastSignificantBits();
     setupLocal0();              // Local setup
     H2O.submitTask(this);       // Begin normal execution on a FJ thread
   }
@@ -515,6 +586,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
    */
   private void setupLocal0() {
     assert _profile==null;
+    _traceStart = Trace.start();
     _fs = new Futures();
     if(_doProfile) {
       _profile = new MRProfile(this);
@@ -525,15 +597,11 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
     int selfidx = selfidx();
     int nlo = subShift(selfidx);
     assert nlo < _nhi;
-    final int nmid = (nlo+_nhi)>>>1; // Mid-point
-    // Client mode: split left & right, but no local work
+    // Client mode: split into subtrees, but no local work
     if( H2O.ARGS.client ) {
       if(_doProfile)
-        _profile._rpcLstart = System.currentTimeMillis();
-      _nleft = _run_local ? null : remote_compute(nlo ,nmid);
-      if(_doProfile)
-        _profile._rpcRstart = System.currentTimeMillis();
-      _nrite = _run_local ? null : remote_compute(nmid,_nhi);
+        _profile._rpcLstart = _profile._rpcRstart = System.currentTimeMillis();
+      if( !_run_local ) remote_compute(nlo,_nhi);
       if(_doProfile)
         _profile._rpcRdone  = System.currentTimeMillis();
       setupLocal();               // Setup any user's shared local structures; want this for possible reduction ONTO client
@@ -541,14 +609,11 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
         _profile._localdone = System.currentTimeMillis();
       return;
     }
-    // Normal server mode: split left & right excluding self
+    // Normal server mode: split into subtrees excluding self
     if( !_run_local && nlo+1 < _nhi ) { // Have global work?
       if(_doProfile)
-        _profile._rpcLstart = System.currentTimeMillis();
-      _nleft = remote_compute(nlo+1,nmid);
-      if(_doProfile)
-        _profile._rpcRstart = System.currentTimeMillis();
-      _nrite = remote_compute( nmid,_nhi);
+        _profile._rpcLstart = _profile._rpcRstart = System.currentTimeMillis();
+      remote_compute(nlo+1,_nhi);
       if(_doProfile)
         _profile._rpcRdone  = System.currentTimeMillis();
     }
@@ -558,28 +623,178 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
       // block on.
       // get the Vecs from the K/V store, to avoid racing fetches from the map calls
       _fr.vecs();
+      _leafChunks = leafChunks();
+      if( stealing() && _hi > 0 ) ChunkClaims.open(_stealId,_fr.anyVec());
     } else if( _keys != null ) {    // Else doing a set of Keys
       _lo = 0;  _hi = _keys.length; // Do All Keys
     }
+    if( _perThread ) _accs = new NonBlockingHashMap<>();
     setupLocal();               // Setup any user's shared local structures
     if(_doProfile)
       _profile._localdone = System.currentTimeMillis();
   }
 
-  // Make an RPC call to some node in the middle of the given range.  Add a
-  // pending completion to self, so that we complete when the RPC completes.
-  private RPC<T> remote_compute( int nlo, int nhi ) {
-    if( nlo < nhi ) {  // have remote work
-      int node = addShift(nlo);
+  // Chunks per leaf task.  Small chunks are batched so one leaf maps about
+  // LEAF_BYTES of local data, saving the fork (task scheduling and its
+  // completion) per chunk.  Each chunk still maps into its own clone, which
+  // is then reduced, unless the task opted in to accumulating leaves.
+  // Always leave 4 leaves per worker thread, for load balance.  A leaf's
+  // range also spans chunks homed elsewhere, hence the scaling by cloud size.
+  private int leafChunks() {
+    int nchks = _hi-_lo;
+    if( nchks == 0 ) return 1;
+    int nodes = _run_local ? 1 : H2O.CLOUD.size();
+    int nthreads = H2O.ARGS.nthreads > 0 ? H2O.ARGS.nthreads : H2O.NUMCPUS;
+    long chkBytes = Math.max(1,chunkBytes());
+    long byBytes = LEAF_BYTES*nodes/chkBytes;
+    long byThreads = nchks/(4L*nthreads);
+    return (int)Math.max(1,Math.min(byBytes,byThreads));
+  }
+
+  // Average stored size of one chunk of the whole frame, over a sample of the
+  // chunks homed here; 8 bytes a value if none are stored (e.g. computed
+  // Vecs, or no local chunks).
+  private long chunkBytes() {
+    Vec vecs[] = _fr.vecs();
+    long bytes = 0;
+    int n = 0;
+    for( int cidx=_lo; cidx<_hi && n<16; cidx++ ) {
+      if( !vecs[0].chunkKey(cidx).home() ) continue;
+      for( Vec v : vecs ) {
+        Value val = H2O.get(v.chunkKey(cidx));
+        if( val != null ) bytes += val._max;
+      }
+      n++;
+    }
+    return bytes > 0 ? bytes/n : _fr.numRows()/(_hi-_lo)*_fr.numCols()*8;
+  }
+
+  // Split the given range of nodes into subtrees, and make an RPC call to the
+  // first node of each.  Add a pending completion to self per RPC, so that we
+  // complete when they all complete.
+  private void remote_compute( int nlo, int nhi ) {
+    if( nlo >= nhi ) return;    // No remote work
+    int[] cuts = subtrees(nlo,nhi,_fanout > 0 ? _fanout : H2O.ARGS.mr_fanout);
+    RPC<T>[] kids = _nkids = new RPC[cuts.length-1];
+    for( int i=0; i<kids.length; i++ ) {
+      int node = addShift(cuts[i]);
       assert node != H2O.SELF.index(); // Not the same as selfidx() if this is a client
       T mrt = copyAndInit();
-      mrt._nhi = (short) nhi;
+      mrt._nhi = (short)cuts[i+1];
+      mrt.setCompleter(null);     // KidDone is the RPC's only completer
       addToPendingCount(1);       // Not complete until the RPC returns
       // Set self up as needing completion by this RPC: when the ACK comes back
-      // we'll get a wakeup.
-      return new RPC<>(H2O.CLOUD._memary[node], mrt).addCompleter(this).call();
+      // its result gets reduced, and we get a wakeup.
+      kids[i] = new RPC<>(H2O.CLOUD._memary[node], mrt).addCompleter(new KidDone());
+    }
+    for( RPC<T> kid : kids ) kid.call(); // All in _nkids before any completes
+  }
+
+  // Cut the range of nodes [lo,hi) into up to fanout subtrees of about equal
+  // size; returns the cuts, starting with lo and ending with hi.  Each inner
+  // cut moves, by up to a quarter subtree, to where consecutive nodes differ
+  // most: subnet, else host.  Nodes are in address order, so this keeps hosts
+  // and subnets together in one subtree where it can.
+  private int[] subtrees( int lo, int hi, int fanout ) {
+    int n = Math.min(fanout,hi-lo);
+    int[] cuts = new int[n+1];
+    cuts[0] = lo;  cuts[n] = hi;
+    int slack = (hi-lo)/(4*n);
+    for( int i=1; i<n; i++ ) {
+      int ideal = lo+(int)((long)(hi-lo)*i/n);
+      int best = ideal, bestGap = gap(ideal);
+      for( int c=Math.max(cuts[i-1]+1,ideal-slack); c<=Math.min(hi-(n-i),ideal+slack); c++ ) {
+        int g = gap(c);
+        if( g > bestGap || (g == bestGap && Math.abs(c-ideal) < Math.abs(best-ideal)) ) { best = c;  bestGap = g; }
+      }
+      cuts[i] = best;
+    }
+    return cuts;
+  }
+
+  // How far apart the nodes just before and at relative index x are: 0 on the
+  // same host, 1 on the same subnet (all but the last address byte), else 2
+  private int gap( int x ) {
+    byte[] a = H2O.CLOUD._memary[addShift(x-1)]._key.getAddress().getAddress();
+    byte[] b = H2O.CLOUD._memary[addShift(x  )]._key.getAddress().getAddress();
+    if( java.util.Arrays.equals(a,b) ) return 0;
+    if( a.length != b.length ) return 2;
+    for( int i=0; i<a.length-1; i++ ) if( a[i] != b[i] ) return 2;
+    return 1;
+  }
+
+  // Completion of one child node's RPC: reduce its result right away, rather
+  // than after all local work - overlapping the reduce with local map work
+  // and with the other children's transfers.
+  private class KidDone extends H2O.H2OCountedCompleter {
+    KidDone() { super(MRTask.this); }
+    @Override public void compute2() { throw H2O.fail(); }
+    @Override public void onCompletion( CountedCompleter caller ) { reduceKids(); }
+    @Override public byte priority() { return MRTask.this.priority(); }
+  }
+
+  // Completion of the local map subtree of a stealing task: all home chunks
+  // are claimed, so close the claims and go help slower nodes, while this
+  // node's RPC children may still be running.
+  private class StealAfterLocal extends H2O.H2OCountedCompleter {
+    StealAfterLocal() { super(MRTask.this); }
+    @Override public void compute2() { throw H2O.fail(); }
+    @Override public void onCompletion( CountedCompleter caller ) {
+      reduce2(_left);  _left = null;
+      ChunkClaims.close(_stealId);
+      MRTask.this.addToPendingCount(1); // Not complete until the Thief is
+      new Thief(1,0).fork();
+    }
+    @Override public byte priority() { return MRTask.this.priority(); }
+  }
+
+  // One step of stealing: ask the node at offset k from self for a batch of
+  // unclaimed chunks, and map the batch here once the reply lands.  The ask
+  // is asynchronous, so no F/J thread blocks on a reply; each step forks the
+  // next, until every other node is out of chunks.  A node with no claims
+  // open yet (this task has not reached it) is asked again a few times.
+  private class Thief extends H2O.H2OCountedCompleter {
+    final int _k, _tries;       // Victim offset from self; empty replies so far
+    private RPC<ChunkClaims.StealTask> _rpc;
+    Thief( int k, int tries ) { super(MRTask.this); _k = k;  _tries = tries; }
+    @Override public void compute2() {
+      H2ONode nodes[] = H2O.CLOUD._memary;
+      if( _k >= nodes.length ) { tryComplete(); return; }
+      H2ONode victim = nodes[(selfidx()+_k)%nodes.length];
+      _rpc = new RPC<>(victim,new ChunkClaims.StealTask(_stealId)).addCompleter(this);
+      _rpc.call();              // Completes this step when the reply lands
+    }
+    @Override public void onCompletion( CountedCompleter caller ) {
+      if( _rpc == null ) return; // Asked every node
+      ChunkClaims.StealTask st = _rpc.get(); // Already in
+      mapStolen(st._cidxs);
+      int k = _k, tries = 0;    // Got some: ask the same node again
+      if( st._cidxs.length == 0 ) {
+        tries = _tries+1;
+        if( st._open || tries == ChunkClaims.STEAL_RETRIES ) { k++;  tries = 0; } // Done, or never showed claims
+      }
+      MRTask.this.addToPendingCount(1);
+      new Thief(k,tries).fork();
+    }
+    @Override public byte priority() { return MRTask.this.priority(); }
+  }
+
+  // Reduce all child results landed so far, but strictly in child order (as
+  // a binary tree reduced left then right), so reduce() need not commute.
+  private void reduceKids() {
+    synchronized( _nkids ) {
+      while( _nkidsReduced < _nkids.length && _nkids[_nkidsReduced].isDone() ) {
+        RPC<T> rpc = _nkids[_nkidsReduced++];
+        long t0 = Trace.start();
+        T mrt = rpc.get();      // Already in
+        // Unlike reduce2, results are in mrt directly not mrt._res.
+        if( mrt._nhi != -1L ) { // Any results at all?
+          if( _kidRes == null ) _kidRes = mrt;
+          else _kidRes.reduce4(mrt);
+        }
+        Trace.end(Trace.MRTASK,"reduce remote",getClass(),t0,rpc._target.index());
+      }
     }
-    return null; // nlo >= nhi => no remote work
   }
 
   /** Called from FJ threads to do local work.  The first called Task (which is
@@ -588,7 +803,17 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   @Override public final void compute2() {
     assert _left == null && _rite == null && _res == null;
     if(_doProfile) _profile._mapstart = System.currentTimeMillis();
-    if( (_hi-_lo) >= 2 ) { // Multi-chunk case: just divide-and-conquer to 1 chunk
+    if( _topLocal && stealing() && !H2O.ARGS.client && _hi > _lo ) {
+      // Map the local chunks as a subtree, so stealing starts the moment it
+      // is done - not once every RPC child below this node is done too
+      _stealProto = copyAndInit(); // Before any results land in this task
+      T local = copyAndInit();
+      local.setCompleter(new StealAfterLocal());
+      _left = local;            // For cancellation; reduced by StealAfterLocal
+      local.compute2();
+      return;
+    }
+    if( (_hi-_lo) > Math.max(_leafChunks,1) ) { // Multi-leaf case: just divide-and-conquer to 1 leaf
       final int mid = (_lo+_hi)>>>1; // Mid-point
       _left = copyAndInit();
       _rite = copyAndInit();
@@ -600,7 +825,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
       if(_doProfile) _profile._mapdone = System.currentTimeMillis();
       return;                   // Not complete until the fork completes
     }
-    // Zero or 1 chunks, and further chunk might not be homed here
+    // Zero or 1 leaf of chunks, and further chunks might not be homed here
     if( _fr==null ) {           // No Frame, so doing Keys?
       if( _keys == null ||     // Once-per-node mode
           _hi > _lo && _keys[_lo].home() ) {
@@ -609,64 +834,109 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
         _res = self();        // Save results since called map() at least once!
         if(_doProfile) _profile._closestart = System.currentTimeMillis();
       }
-    } else if( _hi > _lo ) {    // Frame, Single chunk?
-      Vec v0 = _fr.anyVec();
-      if( _run_local || v0.chunkKey(_lo).home() ) { // And chunk is homed here?
-
-        // Make decompression chunk headers for these chunks
-        Vec vecs[] = _fr.vecs();
-        Chunk bvs[] = new Chunk[vecs.length];
-        NewChunk [] appendableChunks = null;
-        for( int i=0; i<vecs.length; i++ )
-          if( vecs[i] != null ) {
-            assert _run_local || vecs[i].chunkKey(_lo).home()
-              : "Chunk="+_lo+" v0="+v0+", k="+v0.chunkKey(_lo)+"   v["+i+"]="+vecs[i]+", k="+vecs[i].chunkKey(_lo);
-            bvs[i] = vecs[i].chunkForChunkIdx(_lo);
-          }
-        if(_noutputs > 0){
-          final VectorGroup vg = vecs[0].group();
-          _appendables = new AppendableVec[_noutputs];
-          appendableChunks = new NewChunk[_noutputs];
-          for(int i = 0; i < _appendables.length; ++i){
-            _appendables[i] = new AppendableVec(vg.vecKey(_vid+i));
-            appendableChunks[i] = _appendables[i].chunkForChunkIdx(_lo);
-          }
-        }
-        // Call all the various map() calls that apply
-        if(_doProfile)
-          _profile._userstart = System.currentTimeMillis();
-        if( _fr.vecs().length == 1 ) map(bvs[0]);
-        if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1]);
-        if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2]);
-        if( true                  )  map(bvs );
-        if(_noutputs == 1){ // convenience versions for cases with single output.
-          if( appendableChunks == null ) throw H2O.fail(); // Silence IdeaJ warnings
-          if( _fr.vecs().length == 1 ) map(bvs[0], appendableChunks[0]);
-          if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1],appendableChunks[0]);
-          if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2],appendableChunks[0]);
-          if( true                  )  map(bvs,    appendableChunks[0]);
-        }
-        if(_noutputs == 2){ // convenience versions for cases with 2 outputs (e.g split).
-          if( appendableChunks == null ) throw H2O.fail(); // Silence IdeaJ warnings
-          if( _fr.vecs().length == 1 ) map(bvs[0], appendableChunks[0],appendableChunks[1]);
-          if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1],appendableChunks[0],appendableChunks[1]);
-          if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2],appendableChunks[0],appendableChunks[1]);
-          if( true                  )  map(bvs,    appendableChunks[0],appendableChunks[1]);
-        }
-        map(bvs,appendableChunks);
-        _res = self();          // Save results since called map() at least once!
-        // Further D/K/V put any new vec results.
-        if(_doProfile)
-          _profile._closestart = System.currentTimeMillis();
-        for( Chunk bv : bvs )  bv.close(_lo,_fs);
-        if(_noutputs > 0) for(NewChunk nch:appendableChunks)nch.close(_lo, _fs);
+    } else if( _hi > _lo && _leafAcc ) { // Frame, one accumulating leaf
+      for( int cidx=_lo; cidx<_hi; cidx++ ) mapChunk(cidx);
+    } else if( _hi > _lo ) {    // Frame, one leaf's worth of chunks?
+      // Each chunk maps into a fresh instance, as if it had a leaf of its
+      // own: the first into self, the rest into clones of the unmapped task,
+      // reduced into self in chunk order.
+      MRTask<T> proto = _hi-_lo > 1 ? copyAndInit() : null;
+      mapChunk(_lo);
+      for( int cidx=_lo+1; cidx<_hi; cidx++ ) {
+        MRTask<T> t = proto.copyAndInit();
+        t.mapChunk(cidx);
+        if( t._res == null ) continue;
+        if( _res == null ) _res = t._res;
+        else _res.reduce4(t._res);
       }
     }
+    if( _accs != null && _res != null ) accumulate();
     if(_doProfile)
       _profile._mapdone = System.currentTimeMillis();
     tryComplete();
   }
 
+  // Map one chunk into this instance; sets _res if map() was called.
+  private void mapChunk( int cidx ) {
+    Vec v0 = _fr.anyVec();
+    // Map the chunk if homed here, unless stolen by an idle node already
+    boolean mine = _stolen || _run_local ||
+      (v0.chunkKey(cidx).home() && (!stealing() || ChunkClaims.claim(_stealId,cidx)));
+    if( mine && skipChunk(cidx) ) {
+      // Skipped: load nothing, but still lay down empty output chunks
+      NewChunk [] appendableChunks = newAppendables(_fr.vecs(),cidx);
+      if(_noutputs > 0) for(NewChunk nch:appendableChunks)nch.close(cidx, _fs);
+      _res = self();
+    } else if( mine ) {       // And chunk is homed (or stolen) here?
+      long t0 = Trace.start();
+
+      // Make decompression chunk headers for these chunks
+      Vec vecs[] = _fr.vecs();
+      Chunk bvs[] = new Chunk[vecs.length];
+      for( int i=0; i<vecs.length; i++ )
+        if( vecs[i] != null ) {
+          assert _run_local || _stolen || vecs[i].chunkKey(cidx).home()
+            : "Chunk="+cidx+" v0="+v0+", k="+v0.chunkKey(cidx)+"   v["+i+"]="+vecs[i]+", k="+vecs[i].chunkKey(cidx);
+          bvs[i] = vecs[i].chunkForChunkIdx(cidx);
+        }
+      NewChunk [] appendableChunks = newAppendables(vecs,cidx);
+      // Call all the various map() calls that apply
+      if(_doProfile)
+        _profile._userstart = System.currentTimeMillis();
+      if( _fr.vecs().length == 1 ) map(bvs[0]);
+      if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1]);
+      if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2]);
+      if( true                  )  map(bvs );
+      if(_noutputs == 1){ // convenience versions for cases with single output.
+        if( appendableChunks == null ) throw H2O.fail(); // Silence IdeaJ warnings
+        if( _fr.vecs().length == 1 ) map(bvs[0], appendableChunks[0]);
+        if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1],appendableChunks[0]);
+        if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2],appendableChunks[0]);
+        if( true                  )  map(bvs,    appendableChunks[0]);
+      }
+      if(_noutputs == 2){ // convenience versions for cases with 2 outputs (e.g split).
+        if( appendableChunks == null ) throw H2O.fail(); // Silence IdeaJ warnings
+        if( _fr.vecs().length == 1 ) map(bvs[0], appendableChunks[0],appendableChunks[1]);
+        if( _fr.vecs().length == 2 ) map(bvs[0], bvs[1],appendableChunks[0],appendableChunks[1]);
+        if( _fr.vecs().length == 3 ) map(bvs[0], bvs[1], bvs[2],appendableChunks[0],appendableChunks[1]);
+        if( true                  )  map(bvs,    appendableChunks[0],appendableChunks[1]);
+      }
+      map(bvs,appendableChunks);
+      _res = self();          // Save results since called map() at least once!
+      // Further D/K/V put any new vec results.
+      if(_doProfile)
+        _profile._closestart = System.currentTimeMillis();
+      for( Chunk bv : bvs )  bv.close(cidx,_fs);
+      if(_noutputs > 0) for(NewChunk nch:appendableChunks)nch.close(cidx, _fs);
+      Trace.end(Trace.MRTASK,_stolen ? "map stolen" : "map",getClass(),t0,cidx);
+    }
+  }
+
+  // Per-thread reduction: fold this leaf's results into the worker thread's
+  // own instance; postLocal() gathers them.  Only this thread ever touches
+  // its instance before then.
+  private void accumulate() {
+    Thread t = Thread.currentThread();
+    T acc = _accs.get(t);
+    if( acc == null ) _accs.put(t,_res);
+    else acc.reduce4(_res);
+    _res = null;
+  }
+
+  // Make the output AppendableVecs and their NewChunks for chunk cidx, or
+  // null if this task has no outputs.
+  private NewChunk[] newAppendables( Vec vecs[], int cidx ) {
+    if( _noutputs == 0 ) return null;
+    final VectorGroup vg = vecs[0].group();
+    _appendables = new AppendableVec[_noutputs];
+    NewChunk [] appendableChunks = new NewChunk[_noutputs];
+    for(int i = 0; i < _appendables.length; ++i){
+      _appendables[i] = new AppendableVec(vg.vecKey(_vid+i));
+      appendableChunks[i] = _appendables[i].chunkForChunkIdx(cidx);
+    }
+    return appendableChunks;
+  }
+
   /** OnCompletion - reduce the left &amp; right into self.  Called internal by
    *  F/J.  Not expected to be user-called. */
   @Override public final void onCompletion( CountedCompleter caller ) {
@@ -707,11 +977,33 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
   // Block for other queued pending tasks.
   // Copy any final results into 'this', such that a return of 'this' has the results.
   protected void postLocal() {
-    reduce3(_nleft);            // Reduce global results from neighbors.
-    reduce3(_nrite);
+    long traceStart = _traceStart; // Before copyOver
+    if( _stealProto != null ) { ChunkClaims.drop(_stealId);  _stealProto = null; }
+    if( _accs != null ) {       // Gather per-thread results
+      for( T acc : _accs.values() )
+        if( _res == null ) _res = acc;
+        else _res.reduce4(acc);
+      _accs = null;
+    }
+    if( _nkids != null ) {      // Reduce global results from neighbors.
+      reduceKids();             // All landed by now; usually reduced already
+      // Note: because _fs is transient it is not set or cleared by the RPC.
+      // Because the MRT object is a clone of 'self' it's likely to contain a
+      // ptr to the self _fs which will be not-null and still have local
+      // pending blocks.  Not much can be asserted there.
+      if(_doProfile)
+        for( RPC<T> rpc : _nkids ) _profile.gather(rpc.get()._profile, rpc.size_rez());
+      if( _kidRes != null ) {
+        if( _res == null ) _res = _kidRes;
+        else _res.reduce4(_kidRes);
+        _kidRes = null;
+      }
+    }
     if(_doProfile)
       _profile._remoteBlkDone = System.currentTimeMillis();
+    long t0 = Trace.start();
     _fs.blockForPending();
+    Trace.end(Trace.MRTASK,"block pending",getClass(),t0,-1);
     if(_doProfile)
       _profile._localBlkDone = System.currentTimeMillis();
     // Finally, must return all results in 'this' because that is the API -
@@ -729,23 +1021,21 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
         _fr.postWrite(_fs).blockForPending();
       postGlobal();             // User's continuation work
     }
-
+    Trace.end(Trace.MRTASK,"node local",getClass(),traceStart,-1);
   }
 
-  // Block for RPCs to complete, then reduce global results into self results
-  private void reduce3( RPC<T> rpc ) {
-    if( rpc == null ) return;
-    T mrt = rpc.get();          // This is a blocking remote call
-    // Note: because _fs is transient it is not set or cleared by the RPC.
-    // Because the MRT object is a clone of 'self' it's likely to contain a ptr
-    // to the self _fs which will be not-null and still have local pending
-    // blocks.  Not much can be asserted there.
-    if(_doProfile)
-      _profile.gather(mrt._profile, rpc.size_rez());
-    // Unlike reduce2, results are in mrt directly not mrt._res.
-    if( mrt._nhi != -1L ) {     // Any results at all?
-      if( _res == null ) _res = mrt;
-      else _res.reduce4(mrt);
+  // Map stolen chunks here, each in a fresh leaf cloned from the unmapped
+  // prototype, and reduce them into the local results.
+  private void mapStolen( int cidxs[] ) {
+    if( cidxs.length == 0 ) return;
+    ChunkPrefetcher.ofChunks(_fr.vecs(),cidxs,cidxs.length).use(-1); // Fetch the whole batch
+    for( int cidx : cidxs ) {
+      T leaf = _stealProto.copyAndInit();
+      leaf.setCompleter(null);  // Run inline; results reduced right here
+      leaf._lo = cidx;  leaf._hi = cidx+1;
+      leaf._stolen = true;
+      leaf.compute2();
+      reduce2(leaf);
     }
   }
 
@@ -758,7 +1048,9 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
         _appendables[i].reduce(mrt._appendables[i]);
     if( _ex == null ) _ex = mrt._ex;
     // User's reduction
+    long t0 = Trace.start();
     reduce(mrt);
+    Trace.end(Trace.MRTASK,"reduce",getClass(),t0,-1);
   }
 
   // Full local work-tree cancellation
@@ -773,6 +1065,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
    *  expected to be user-called.  */
   @Override public final boolean onExceptionalCompletion( Throwable ex, CountedCompleter caller ) {
     if( !hasException() ) setException(ex);
+    if( _topLocal && stealing() ) ChunkClaims.drop(_stealId);
     self_cancel1();
     // Block for completion - we don't want the work, but we want all the
     // workers stopped before we complete this task.  Otherwise this task quits
@@ -782,8 +1075,8 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
 
     // Since blocking can throw (generally the same exception, again and again)
     // catch & ignore, keeping only the first one we already got.
-    if( _nleft != null ) try { _nleft.get(); } catch( Throwable ignore ) { } _nleft = null;
-    if( _nrite != null ) try { _nrite.get(); } catch( Throwable ignore ) { } _nrite = null;
+    if( _nkids != null )
+      for( RPC<T> rpc : _nkids ) try { rpc.get(); } catch( Throwable ignore ) { }
 
     return super.onExceptionalCompletion(ex, caller);
   }
@@ -794,7 +1087,7 @@ public abstract class MRTask<T extends MRTask<T>> extends DTask<T> implements Fo
     x._topGlobal = false;
     x.setCompleter(this); // Set completer, what used to be a final field
     x._topLocal = false;  // Not a top job
-    x._nleft = x._nrite = null;
+    x._nkids = null;  x._kidRes = null;  x._nkidsReduced = 0;  x._stealProto = null;
     x. _left = x. _rite = null;
     x._fs = _fs;
     if( _doProfile )  x._profile = new MRProfile(this);
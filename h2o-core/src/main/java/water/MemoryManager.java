@@ -63,6 +63,11 @@ abstract public class MemoryManager {
   // Singleton, allocated now so I do not allocate during an OOM event.
   static private final Cleaner.Histo myHisto = new Cleaner.Histo();
 
+  // Budget for cold Chunk payloads parked in direct (off-heap) memory by the
+  // Cleaner.  Usage is the sum over the local K/V store, as counted by the
+  // Cleaner histogram; only the Cleaner checks it, when it parks a Chunk.
+  static long OFF_HEAP_MAX() { return (long)H2O.ARGS.off_heap<<20; }
+
   // A monitonically increasing total count memory allocated via MemoryManager.
   // Useful in tracking total memory consumed by algorithms - just ask for the
   // before & after amounts and diff them.
@@ -97,7 +102,8 @@ abstract public class MemoryManager {
     final long freeHeap = MEM_MAX - heapUsed;
     assert freeHeap >= 0 : "I am really confused about the heap usage; MEM_MAX="+MEM_MAX+" heapUsed="+heapUsed;
     // Current memory held in the K/V store.
-    final long cacheUsage = myHisto.histo(false)._cached;
+    final Cleaner.Histo h = myHisto.histo(false);
+    final long cacheUsage = h._cached;
     // Our best guess of POJO object usage: Heap_used minus cache used
     final long pojoUsedGC = Math.max(heapUsed - cacheUsage,0);
 
@@ -140,7 +146,7 @@ abstract public class MemoryManager {
     }
 
     // No logging if under memory pressure: can deadlock the cleaner thread
-    String s = m+msg+", HEAP_LAST_GC="+(heapUsed>>20)+"M, KV="+(cacheUsage>>20)+"M, POJO="+(pojoUsedGC>>20)+"M, free="+(freeHeap>>20)+"M, MAX="+(MEM_MAX>>20)+"M, DESIRED="+(Cleaner.DESIRED>>20)+"M"+(oom?" OOM!":" NO-OOM");
+    String s = m+msg+", HEAP_LAST_GC="+(heapUsed>>20)+"M, KV="+(cacheUsage>>20)+"M, POJO="+(pojoUsedGC>>20)+"M, free="+(freeHeap>>20)+"M, MAX="+(MEM_MAX>>20)+"M, OFFHEAP="+(h._offheap>>20)+"M, REPLICAS="+(ReplicaCache.bytes()>>20)+"M, DESIRED="+(Cleaner.DESIRED>>20)+"M"+(oom?" OOM!":" NO-OOM");
     if( CAN_ALLOC ) Log.trace(s);
     else            System.err.println(s);
   }
@@ -197,20 +203,18 @@ abstract public class MemoryManager {
      * Limit to touching global vars in the Boot class.
      */
     @Override public void handleNotification(Notification notification, Object handback) {
-      // TODO:  re-enable when this works.
-
-//      String notifType = notification.getType();
-//      if( notifType.equals(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED)) {
-//        // Memory used after this FullGC
-//        Cleaner.TIME_AT_LAST_GC = System.currentTimeMillis();
-//        Cleaner.HEAP_USED_AT_LAST_GC = _allMemBean.getHeapMemoryUsage().getUsed();
-//        MEM_LOW_CRITICAL = Cleaner.HEAP_USED_AT_LAST_GC > (MEM_MAX - (MEM_MAX >> 2));
-//        if( Cleaner.HEAP_USED_AT_LAST_GC > (MEM_MAX - (MEM_MAX >> 1))) { // emergency measure - really low on memory, stop allocations right now!
-//          setMemLow();
-//        } else // enable new allocations (even if cleaner is still running, we have enough RAM)
-//          setMemGood();
-//        Cleaner.kick_store_cleaner();
-//      }
+      String notifType = notification.getType();
+      if( notifType.equals(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED)) {
+        // Memory used after this FullGC
+        Cleaner.TIME_AT_LAST_GC = System.currentTimeMillis();
+        Cleaner.HEAP_USED_AT_LAST_GC = _allMemBean.getHeapMemoryUsage().getUsed();
+        MEM_LOW_CRITICAL = Cleaner.HEAP_USED_AT_LAST_GC > (MEM_MAX - (MEM_MAX >> 2));
+        if( Cleaner.HEAP_USED_AT_LAST_GC > (MEM_MAX - (MEM_MAX >> 1))) { // emergency measure - really low on memory, stop allocations right now!
+          setMemLow();
+        } else // enable new allocations (even if cleaner is still running, we have enough RAM)
+          setMemGood();
+        Cleaner.kick_store_cleaner();
+      }
     }
   }
 
@@ -0,0 +1,74 @@
+package water;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** Continuous traffic counters for one peer, kept by its {@link H2ONode} on
+ *  this side of the link: RPC round-trip latencies (as a log2 histogram),
+ *  bytes and messages each way, RPC resends and NACKs.  Gathered cluster-wide
+ *  by {@link water.init.NetworkStats}.
+ */
+public final class PeerStats {
+  /** Latency buckets: bucket {@code i} counts round trips of
+   *  {@code [2^(i-1),2^i)} microseconds; bucket 0 is under 1usec, and the
+   *  last bucket holds everything from about 8 seconds up. */
+  public static final int BUCKETS = 24;
+
+  private final AtomicLongArray _rtt = new AtomicLongArray(BUCKETS);
+  private final AtomicLong _rttNanos = new AtomicLong();
+  private final AtomicLong _bytesSent = new AtomicLong(), _bytesRecv = new AtomicLong();
+  private final AtomicLong _msgsSent = new AtomicLong(), _msgsRecv = new AtomicLong();
+  private final AtomicLong _resends = new AtomicLong(), _nacks = new AtomicLong();
+
+  static int bucket( long nanos ) {
+    long us = nanos/1000;
+    return us <= 0 ? 0 : Math.min(BUCKETS-1,64-Long.numberOfLeadingZeros(us));
+  }
+
+  /** An RPC to this peer got its answer, {@code nanos} after the first send */
+  void rtt( long nanos ) { _rtt.incrementAndGet(bucket(nanos));  _rttNanos.addAndGet(nanos); }
+  /** A whole message (UDP packet or TCP stream) went to / came from this peer */
+  void io( boolean read, int bytes ) {
+    if( read ) { _msgsRecv.incrementAndGet();  _bytesRecv.addAndGet(bytes); }
+    else       { _msgsSent.incrementAndGet();  _bytesSent.addAndGet(bytes); }
+  }
+  void resend() { _resends.incrementAndGet(); }
+  void nack  () { _nacks  .incrementAndGet(); }
+
+  /** @return A point-in-time copy of the counters for peer {@code h2o} */
+  Snapshot snapshot( H2ONode h2o ) {
+    Snapshot s = new Snapshot();
+    s._rtt = new long[BUCKETS];
+    for( int i=0; i<BUCKETS; i++ ) s._rtt[i] = _rtt.get(i);
+    s._rttNanos = _rttNanos.get();
+    s._bytesSent = _bytesSent.get();  s._bytesRecv = _bytesRecv.get();
+    s._msgsSent  = _msgsSent .get();  s._msgsRecv  = _msgsRecv .get();
+    s._resends   = _resends  .get();  s._nacks     = _nacks    .get();
+    s._tcpWaits  = h2o.tcpWaits();    s._tcpWaitMs = h2o.tcpWaitMillis();
+    return s;
+  }
+
+  /** Counters for one peer, as seen by one node */
+  public static class Snapshot extends Iced {
+    public long[] _rtt;         // Round trip latency histogram, see BUCKETS
+    public long _rttNanos;      // Sum of all round trip latencies
+    public long _bytesSent, _bytesRecv, _msgsSent, _msgsRecv;
+    public long _resends, _nacks;
+    public long _tcpWaits, _tcpWaitMs; // Waits for a free TCP socket to the peer
+
+    /** @return Count of answered RPCs */
+    public long rpcs() { long n=0; for( long x : _rtt ) n += x; return n; }
+    /** @return Mean round trip in msec, or 0 if no RPCs */
+    public double meanMs() { long n = rpcs(); return n==0 ? 0 : _rttNanos/1e6/n; }
+    /** @return Upper bound, in msec, of the latency bucket holding quantile
+     *  {@code q} of the round trips; 0 if no RPCs */
+    public double quantileMs( double q ) {
+      long n = rpcs();
+      if( n == 0 ) return 0;
+      long want = (long)Math.ceil(q*n), seen = 0;
+      for( int i=0; i<BUCKETS; i++ )
+        if( (seen += _rtt[i]) >= want ) return (1L<<i)/1e3;
+      return (1L<<BUCKETS)/1e3;
+    }
+  }
+}
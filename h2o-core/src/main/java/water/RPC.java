@@ -65,6 +65,8 @@ public class RPC<V extends DTask> implements Future<V>, Delayed, ForkJoinPool.Ma
 
   // Time we started this sucker up.  Controls re-send behavior.
   final long _started;
+  final long _startedNs;        // For round-trip latency, see PeerStats
+  final long _traceStart;       // Round trip span, see Trace
   long _retry;                  // When we should attempt a retry
 
   int _resendsCnt;
@@ -114,6 +116,8 @@ public class RPC<V extends DTask> implements Future<V>, Delayed, ForkJoinPool.Ma
     _target = target;
     _dt = dtask;
     _started = System.currentTimeMillis();
+    _startedNs = System.nanoTime();
+    _traceStart = Trace.start();
     _retry = RETRY_MS;
   }
   RPC<V> setTaskNum() {
@@ -567,6 +571,8 @@ public class RPC<V extends DTask> implements Future<V>, Delayed, ForkJoinPool.Ma
       UDPTimeOutThread.PENDING.remove(this);
       _dt.read(ab);             // Read the answer (under lock?)
       _size_rez = ab.size();    // Record received size
+      _target._stats.rtt(System.nanoTime()-_startedNs);
+      Trace.end(Trace.RPC,"rpc",_dt.getClass(),_traceStart,_target.index());
       ab.close();               // Also finish the read (under lock?  even if canceled, since need to drain TCP)
       if( !isCancelled() )      // Can be canceled already (locally by MRTask while recieving remote answer)
         _dt.onAck();            // One time only execute (before sending ACKACK)
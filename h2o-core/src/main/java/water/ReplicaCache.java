@@ -0,0 +1,114 @@
+package water;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import water.nbhm.ConcurrentAutoTable;
+import water.nbhm.NonBlockingHashMap;
+import water.util.Log;
+
+/** Local cache of Values fetched from remote homes (via {@link TaskGetKey}).
+ *  <p>
+ *  Replicas are held in the local K/V store like any other Value, but unlike
+ *  home data they can always be re-fetched.  This class keeps them to a byte
+ *  budget ({@code -replica_cache}, in megabytes; 0 is unbounded) so that
+ *  broadcast-heavy work (e.g. merge hash tables, model broadcasts) cannot
+ *  crowd out home Chunks.  When over budget, the least recently touched
+ *  replicas are dropped from the local store, exactly as a
+ *  {@link TaskInvalidateKey} from their home would drop them, and the home is
+ *  told to stop listing this node as a replica.  The next {@link DKV#get}
+ *  simply misses and fetches again.
+ *  <p>
+ *  Under memory pressure the {@link Cleaner} also drops stale replicas
+ *  before it starts spilling home data.
+ */
+public final class ReplicaCache {
+  private ReplicaCache() {}
+
+  // Tracked replicas; the Value is the one installed by TaskGetKey.  Stale
+  // entries (the mapping was since invalidated or overwritten) are purged
+  // lazily by the next eviction pass.
+  private static final NonBlockingHashMap<Key,Value> REPLICAS = new NonBlockingHashMap<>();
+  private static final AtomicLong BYTES = new AtomicLong();
+  // Hits and misses are bumped by every get of a remote Key, on every core:
+  // striped counters, so the gets do not all contend on one cache line.
+  private static final ConcurrentAutoTable HITS = new ConcurrentAutoTable(), MISSES = new ConcurrentAutoTable();
+  private static final AtomicLong EVICTIONS = new AtomicLong();
+  private static final ReentrantLock EVICTING = new ReentrantLock();
+
+  /** @return Byte budget for replicas; 0 if unbounded */
+  static long MAX() { return (long)H2O.ARGS.replica_cache<<20; }
+
+  /** @return Count of local gets of remote Keys served from the cache */
+  public static long hits() { return HITS.get(); }
+  /** @return Count of local gets of remote Keys that went to the home node */
+  public static long misses() { return MISSES.get(); }
+  /** @return Count of replicas dropped to stay in budget or under memory pressure */
+  public static long evictions() { return EVICTIONS.get(); }
+  /** @return Bytes of tracked replicas (including not-yet-purged stale ones) */
+  public static long bytes() { return BYTES.get(); }
+
+  static void hit () { HITS  .increment(); }
+  static void miss() { MISSES.increment(); }
+
+  // Track a replica just installed by a TaskGetKey, and get back under budget
+  static void add( Key key, Value val ) {
+    Value old = REPLICAS.put(key,val);
+    BYTES.addAndGet(val._max - (old == null ? 0 : old._max));
+    long max = MAX();
+    if( max > 0 && BYTES.get() > max )
+      evict(max - (max>>3), Long.MAX_VALUE); // Evict down to 7/8ths, to amortize the pass
+  }
+
+  /** Drop replicas not touched since {@code age}; called by the Cleaner when
+   *  forced to free memory.
+   *  @return bytes freed */
+  static long evictOlderThan( long age ) { return evict(0,age); }
+
+  // Drop least-recently-touched replicas until at most 'target' bytes remain,
+  // but only replicas last touched before 'age'.  One evictor at a time;
+  // racing adders just go on, and the next add re-checks the budget.
+  private static long evict( long target, long age ) {
+    if( !EVICTING.tryLock() ) return 0;
+    long freed = 0;
+    try {
+      ArrayList<Value> live = new ArrayList<>();
+      for( Key k : REPLICAS.keySet() ) {
+        Value v = REPLICAS.get(k);
+        if( v == null ) continue;
+        if( H2O.raw_get(k) != v ) { forget(k,v); continue; } // Stale: invalidated or overwritten
+        live.add(v);
+      }
+      Collections.sort(live,new Comparator<Value>() {
+          @Override public int compare( Value a, Value b ) { return Long.compare(a._lastAccessedTime,b._lastAccessedTime); }
+        });
+      for( Value v : live ) {
+        if( BYTES.get() <= target || v._lastAccessedTime >= age ) break;
+        if( v.isLockable() ) continue; // Like the Cleaner, never toss out Lockables
+        Key k = v._key;
+        if( TaskInvalidateKey.release(k,v) ) { // A racing install wins
+          EVICTIONS.incrementAndGet();
+          freed += v._max;
+        }
+        forget(k,v);
+      }
+    } finally {
+      EVICTING.unlock();
+    }
+    // No logging if under memory pressure: can deadlock the cleaner thread
+    if( freed > 0 && MemoryManager.canAlloc() ) Log.debug("Replica cache evicted "+(freed>>20)+"M, now "+(BYTES.get()>>20)+"M");
+    return freed;
+  }
+
+  private static void forget( Key k, Value v ) {
+    if( REPLICAS.remove(k,v) ) BYTES.addAndGet(-v._max);
+  }
+
+  /** Pretty print the counters */
+  public static String stats() {
+    return "replicas="+(BYTES.get()>>20)+"M, hits="+HITS.get()+", misses="+MISSES.get()+", evictions="+EVICTIONS.get();
+  }
+}
@@ -25,8 +25,10 @@ public class TaskGetKey extends DTask<TaskGetKey> {
   static Value get( H2ONode target, Key key ) { return get(start(target,key)); }
 
   static Value get(RPC<TaskGetKey> rpc) {
+    long t0 = Trace.start();
     TaskGetKey tgk = rpc.get();                  // Block for it
     TGKS.putIfMatchUnlocked(tgk._xkey,null,rpc); // Clear from dup cache
+    Trace.end(Trace.DKV,"remote get",tgk._xkey,t0,tgk._val == null ? -1 : tgk._val._max);
     return tgk._val;
   }
   // Start an RPC to fetch a Value, handling short-cutting dup-fetches
@@ -38,10 +40,14 @@ public class TaskGetKey extends DTask<TaskGetKey> {
     RPC<TaskGetKey> rpc = new RPC(target,new TaskGetKey(key),1.0f);
     if( (old=TGKS.putIfMatchUnlocked(key,rpc,null)) != null )
       return old;               // Failed because an old exists
+    TaskInvalidateKey.awaitRelease(key); // Home drops a released replica before re-listing it
     rpc.setTaskNum().call();    // Start the op
     return rpc;                 // Successful install of a fresh RPC
   }
 
+  // A fetch of key from here is in progress
+  static boolean inFlight( Key key ) { return TGKS.get(key) != null; }
+
   private TaskGetKey( Key key ) { _key = _xkey = key; }
 
   // Top-level non-recursive invoke
@@ -80,6 +86,7 @@ public class TaskGetKey extends DTask<TaskGetKey> {
     if( old != null && !old.isEmpty() ) old=null;
     Value res = H2O.putIfMatch(_xkey,_val,old);
     if( res != old ) _val = res;
+    else if( _val != null ) ReplicaCache.add(_xkey,_val); // Installed a fresh replica
   }
 
   // Received an ACKACK; executes on the node sending the Value
@@ -1,5 +1,7 @@
 package water;
 
+import water.nbhm.NonBlockingHashMap;
+
 /** Invalidate cached value on remote. */
 class TaskInvalidateKey extends TaskPutKey {
   private TaskInvalidateKey(Key key){super(key,null);}
@@ -7,4 +9,55 @@ class TaskInvalidateKey extends TaskPutKey {
   static void invalidate( H2ONode h2o, Key key, Futures fs ) {
     fs.add(RPC.call(h2o,new TaskInvalidateKey(key)));
   }
+
+  // Replica releases in flight to their homes.  A fetch or put of the same
+  // Key from this node waits for the release to land first, lest the home
+  // clear this node's replica bit just after setting it for the newer copy.
+  private static final NonBlockingHashMap<Key,RPC<Release>> RELEASES = new NonBlockingHashMap<>();
+
+  /** Invalidate the replica {@code val} cached on this node, as a remote
+   *  invalidate from its home would, and tell the home to stop listing this
+   *  node as a replica.  Only if {@code val} is still the mapping, so a racing
+   *  fresh fetch or local write wins.
+   *  @return true if {@code val} was dropped */
+  static boolean release( Key key, Value val ) {
+    assert !key.home();         // Only replicas; home data is the Cleaner's
+    Paxos.lockCloud(key);
+    if( H2O.putIfMatch(key,null,val) != val ) return false;
+    RPC<Release> rpc = new RPC<>(key.home_node(),new Release(key));
+    RELEASES.put(key,rpc);
+    // A fetch or put started before the release was listed does not wait for
+    // it; then the home keeps the bit, and at worst invalidates an empty
+    // mapping later.  (Both sides list themselves first, then look.)
+    rpc._dt._clear = !TaskGetKey.inFlight(key) && H2O.raw_get(key) == null;
+    rpc.call();
+    return true;
+  }
+
+  /** Block until any release of {@code key} sent from here has landed */
+  static void awaitRelease( Key key ) {
+    RPC<Release> rpc = RELEASES.get(key);
+    if( rpc != null ) rpc.get();
+  }
+
+  /** Clear the sender's replica bit on the home */
+  static class Release extends DTask<Release> {
+    Key _key;
+    boolean _clear;
+    transient Key _xkey;
+    Release( Key key ) { _key = _xkey = key; }
+    @Override public void dinvoke( H2ONode sender ) {
+      assert _key.home();
+      Value val = H2O.raw_get(_key);
+      if( _clear && val != null ) val.clearReplica(sender);
+      _key = null;              // No return result
+      tryComplete();
+    }
+    @Override public void compute2() { throw H2O.fail(); }
+    @Override public void onAck() {
+      RPC<Release> rpc = RELEASES.get(_xkey);
+      if( rpc != null && rpc._dt == this ) RELEASES.remove(_xkey,rpc);
+    }
+    @Override public byte priority() { return H2O.INVALIDATE_PRIORITY; }
+  }
 }
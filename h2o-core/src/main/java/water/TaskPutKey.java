@@ -14,6 +14,7 @@ public class TaskPutKey extends DTask<TaskPutKey> {
   transient Key _xkey;
 
   static void put( H2ONode h2o, Key key, Value val, Futures fs, boolean dontCache) {
+    TaskInvalidateKey.awaitRelease(key); // Home drops a released replica before re-listing it
     fs.add(RPC.call(h2o,new TaskPutKey(key,val,dontCache)));
   }
 
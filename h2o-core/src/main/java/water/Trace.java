@@ -0,0 +1,103 @@
+package water;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Low-overhead span tracer: timed intervals of task-level work (MRTask map
+ *  and reduce phases, RPC round trips, remote DKV gets, parse stages, model
+ *  building iterations), kept per node in a fixed-size ring and exported
+ *  cluster-wide as a Chrome trace by {@link water.init.TraceCollector}.
+ *  Enabled with {@code -trace_spans <count>}; when off a span costs one
+ *  static read.
+ *
+ *  <p>Usage is a pair of calls around the work:
+ *  <pre>
+ *    long t0 = Trace.start();
+ *    ... work ...
+ *    Trace.end(Trace.MRTASK,"map",getClass(),t0,cidx);
+ *  </pre>
+ *  The {@code who} argument (typically a Class or a Key) is only turned into
+ *  text on export, so recording a span does not allocate.
+ *
+ *  <p>Slots are written field by field without locking; a snapshot taken
+ *  while the ring wraps may show a span with mixed fields.  That is fine for
+ *  a diagnostic.  {@link TimeLine} still records the packet level events.
+ */
+public final class Trace {
+  public static final byte MRTASK=0, RPC=1, DKV=2, PARSE=3, MODEL=4;
+  public static final String[] CATEGORIES = {"mrtask","rpc","dkv","parse","model"};
+
+  // Timestamps are nanoTime relative to BOOT_NS; BOOT_MS is the wall clock at
+  // the same instant, used to line up the nodes on export.
+  private static final long BOOT_NS = System.nanoTime();
+  private static final long BOOT_MS = System.currentTimeMillis();
+
+  // Ring size, a power of 2; null when tracing is off.  Read on first use,
+  // after the command line was parsed.
+  private static final Ring RING = H2O.ARGS.trace_spans > 0 ? new Ring(H2O.ARGS.trace_spans) : null;
+
+  /** @return True if spans are being recorded */
+  public static boolean enabled() { return RING != null; }
+
+  /** @return An opaque span start for {@link #end}, or 0 if tracing is off */
+  public static long start() { return RING == null ? 0 : System.nanoTime()-BOOT_NS+1; }
+
+  /** Record a span begun at {@code start}; a no-op if {@code start} is 0.
+   *  @param cat One of the category constants
+   *  @param what Span name; should be a constant string
+   *  @param who What the span worked on, e.g. a task Class or a Key; may be null
+   *  @param arg A span-specific number, e.g. a chunk index; -1 for none */
+  public static void end( byte cat, String what, Object who, long start, long arg ) {
+    if( start == 0 || RING == null ) return;
+    RING.add(cat,what,who,start-1,System.nanoTime()-BOOT_NS+1-start,arg);
+  }
+
+  /** @return A copy of this node's recorded spans, oldest first */
+  public static Spans snapshot() { return RING == null ? new Spans(0) : RING.snapshot(); }
+
+  private static final class Ring {
+    final int _mask;
+    final AtomicLong _next = new AtomicLong();
+    final long[] _start, _dur, _arg, _tid;
+    final byte[] _cat;
+    final String[] _what;
+    final Object[] _who;
+    Ring( int n ) {
+      int len = Integer.highestOneBit(Math.max(n,2)-1)<<1; // Round up to a power of 2
+      _mask = len-1;
+      _start = new long[len];  _dur = new long[len];  _arg = new long[len];  _tid = new long[len];
+      _cat = new byte[len];  _what = new String[len];  _who = new Object[len];
+    }
+    void add( byte cat, String what, Object who, long start, long dur, long arg ) {
+      int i = (int)(_next.getAndIncrement() & _mask);
+      _start[i] = start;  _dur[i] = dur;  _arg[i] = arg;
+      _tid[i] = Thread.currentThread().getId();
+      _cat[i] = cat;  _what[i] = what;  _who[i] = who;
+    }
+    Spans snapshot() {
+      long hi = _next.get(), lo = Math.max(0,hi-(_mask+1));
+      Spans s = new Spans((int)(hi-lo));
+      for( long k=lo; k<hi; k++ ) {
+        int i = (int)(k & _mask), j = (int)(k-lo);
+        s._start[j] = _start[i];  s._dur[j] = _dur[i];  s._arg[j] = _arg[i];  s._tid[j] = _tid[i];
+        s._cat[j] = _cat[i];  s._what[j] = _what[i];
+        Object who = _who[i];
+        s._who[j] = who == null ? null : who instanceof Class ? ((Class)who).getSimpleName() : who.toString();
+      }
+      return s;
+    }
+  }
+
+  /** One node's spans; times in nanoseconds since {@link #_bootMs} */
+  public static class Spans extends Iced {
+    public long _bootMs = BOOT_MS;
+    public long[] _start, _dur, _arg, _tid;
+    public byte[] _cat;
+    public String[] _what, _who;
+    public Spans() { this(0); }
+    Spans( int n ) {
+      _start = new long[n];  _dur = new long[n];  _arg = new long[n];  _tid = new long[n];
+      _cat = new byte[n];  _what = new String[n];  _who = new String[n];
+    }
+    public int size() { return _start.length; }
+  }
+}
@@ -39,7 +39,8 @@ public abstract class UDP {
     // We'll hang on to these packets; filter out dup sends and auto-reply
     // identical result ACK packets.
     exec(false,new RPC.RemoteHandler(),H2O.DESERIAL_PRIORITY), // Remote hi-q execution request
-    i_o (false,new UDP.IO_record(),(byte)-1); // Only used to profile I/O
+    i_o (false,new UDP.IO_record(),(byte)-1), // Only used to profile I/O
+    batch(false,new UDPBatch(),H2O.MAX_PRIORITY); // Several small packets to one node; see UDPBatch
     
     final UDP _udp;           // The Callable S.A.M. instance
     final byte _prior;        // Priority
@@ -0,0 +1,138 @@
+package water;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import water.nbhm.NonBlockingHashMap;
+import water.util.Log;
+
+/**
+ * Coalesces small UDP packets (task sends, ACKs, ACKACKs, NACKs) headed to
+ * the same node into one datagram.
+ * <p>
+ * A packet to a node we have not sent to within the last window goes out
+ * at once, so an idle link pays no extra latency.  Packets that follow
+ * within the window are appended to a pending batch, which is sent when it
+ * fills up or when the window closes.  Set the window with
+ * {@code -udp_batch_us}; 0 turns batching off.
+ * <p>
+ * Wire format: {@code [batch ctrl][port]} then, per packet,
+ * {@code [length:2][packet]}, where each packet carries its own ctrl and
+ * port bytes as if sent alone.  {@link UDPReceiverThread} splits a batch and
+ * hands each packet to the normal packet handling.
+ */
+class UDPBatch extends UDP {
+  // Handled inline by the UDPReceiverThread, see unpack()
+  @Override AutoBuffer call(AutoBuffer ab) { throw H2O.fail(); }
+  @Override String print16( AutoBuffer ab ) { return "batch"; }
+
+  private static final int HDR = 1+2;   // Batch ctrl + port
+  private static final NonBlockingHashMap<H2ONode,Pending> PENDING = new NonBlockingHashMap<>();
+  private static final DelayQueue<Flush> FLUSHES = new DelayQueue<>();
+
+  static long windowNanos() { return H2O.ARGS.udp_batch_us*1000L; }
+
+  // Packet types worth batching: the high-rate request/reply traffic.
+  // Cloud-control packets (heartbeats, timelines, reboots) go out alone.
+  private static boolean batchable( int ctrl ) {
+    return ctrl == udp.exec.ordinal() || ctrl == udp.ack.ordinal() || ctrl == udp.ackack.ordinal() ||
+           ctrl == udp.nack.ordinal() || ctrl == udp.fetchack.ordinal();
+  }
+
+  /** Offer a flipped, ready-to-send packet for batching.
+   *  @return false if the caller should send it now itself */
+  static boolean offer( H2ONode h2o, ByteBuffer bb ) throws IOException {
+    final long window = windowNanos();
+    final int n = bb.remaining();
+    if( window <= 0 || h2o == H2O.SELF || HDR+2+n > AutoBuffer.MTU || !batchable(bb.get(0)&0xFF) )
+      return false;
+    Pending p = PENDING.get(h2o);
+    if( p == null ) {
+      Pending p2 = PENDING.putIfAbsent(h2o,p = new Pending(h2o));
+      if( p2 != null ) p = p2;
+    }
+    synchronized(p) {
+      long now = System.nanoTime();
+      if( p._len == 0 && now-p._lastSend >= window ) {
+        p._lastSend = now;      // Idle link: caller sends right away
+        return false;
+      }
+      if( p._len+2+n > AutoBuffer.MTU ) p.send(); // Full; ship what we have
+      if( p._len == 0 ) {       // Start a new batch
+        p._bb.clear();
+        p._bb.put((byte)udp.batch.ordinal()).putChar((char)H2O.H2O_PORT);
+        p._len = HDR;
+        FLUSHES.add(new Flush(p,now+window));
+      }
+      p._bb.putChar((char)n).put(bb);
+      p._len += 2+n;
+    }
+    return true;
+  }
+
+  // Split a received batch; hand each packet to the usual handling as if it
+  // had arrived alone.  Closes the batch buffer.
+  static void unpack( AutoBuffer ab ) throws IOException {
+    H2ONode h2o = ab._h2o;
+    try {
+      while( ab.remaining() > 0 ) {
+        int n = ab.get2();
+        UDPReceiverThread.basic_packet_handling(new AutoBuffer(h2o,ab.getA1(n)));
+      }
+    } finally {
+      ab._size = 0;             // Its packets were counted one by one
+      ab.close();
+    }
+  }
+
+  // Per-destination pending batch
+  private static class Pending {
+    final H2ONode _h2o;
+    final ByteBuffer _bb = ByteBuffer.allocate(AutoBuffer.MTU).order(ByteOrder.nativeOrder());
+    int _len;                   // Bytes pending, 0 if none
+    long _lastSend = Long.MIN_VALUE/2;
+    Pending( H2ONode h2o ) { _h2o = h2o; }
+    // Send the pending batch; caller holds the lock
+    void send() throws IOException {
+      if( _len == 0 ) return;
+      _bb.flip();
+      try {
+        water.init.NetworkInit.CLOUD_DGRAM.send(_bb,_h2o._key);
+      } finally {               // A failed batch is dropped, like any lost packet
+        _len = 0;
+        _lastSend = System.nanoTime();
+      }
+    }
+  }
+
+  // A scheduled flush of one batch.  A batch sent early (because it filled
+  // up) leaves a stale Flush behind, which then flushes a later batch early
+  // or finds nothing to do.
+  private static class Flush implements Delayed {
+    final Pending _p;
+    final long _when;
+    Flush( Pending p, long when ) { _p = p; _when = when; }
+    @Override public long getDelay( TimeUnit unit ) { return unit.convert(_when-System.nanoTime(),TimeUnit.NANOSECONDS); }
+    @Override public int compareTo( Delayed d ) { return Long.compare(_when,((Flush)d)._when); }
+  }
+
+  /** Sends batches as their windows close. */
+  static class Flusher extends Thread {
+    Flusher() { super("UDP-Batch"); setDaemon(true); setPriority(MAX_PRIORITY-1); }
+    @Override public void run() {
+      while( true ) {
+        try {
+          Pending p = FLUSHES.take()._p;
+          synchronized(p) { p.send(); }
+        } catch( InterruptedException ignore ) {
+        } catch( IOException e ) {
+          Log.warn("UDP batch send failed; the RPC layer will retry: "+e);
+        }
+      }
+    }
+  }
+}
@@ -87,6 +87,11 @@ public class UDPReceiverThread extends Thread {
       UDP.udp.timeline._udp.call(ab);
       return;
     }
+    // Batch of small packets?  Each one gets handled as if it came alone.
+    if( ctrl == UDP.udp.batch.ordinal() ) {
+      if( drop == 0 ) UDPBatch.unpack(ab);
+      return;
+    }
 
     // Suicide packet?  Short-n-sweet...
     if( ctrl == UDP.udp.rebooted.ordinal())
@@ -7,6 +7,7 @@ import water.fvec.Vec;
 import water.util.Log;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
@@ -95,6 +96,36 @@ public final class Value extends Iced implements ForkJoinPool.ManagedBlocker {
   private volatile Freezable _pojo;
   Freezable rawPOJO() { return _pojo; }
 
+  // ---
+  // A direct (off-heap) copy of _mem, parked there by the Cleaner for cold
+  // Chunks under memory pressure; null otherwise.  Only ever present when both
+  // _mem and _pojo have been dropped, and cleared again on reload.  The native
+  // memory is released by GC once no Value refers to it.
+  private transient volatile ByteBuffer _offHeap;
+  final ByteBuffer rawOffHeap() { return _offHeap; }
+
+  /** Move the serialized form of a Chunk off-heap, dropping both heap forms.
+   *  @return false if there is no heap copy to move, or no direct memory
+   *  left to move it to; the heap forms are then kept. */
+  final boolean storeOffHeap() {
+    assert _key.isChunkKey();
+    byte[] m = _mem;
+    Freezable pojo = _pojo;
+    if( m == null && pojo instanceof Chunk ) m = ((Chunk)pojo).getBytes();
+    if( m == null || m.length != _max ) return false;
+    ByteBuffer bb;
+    try { bb = ByteBuffer.allocateDirect(m.length); }
+    catch( OutOfMemoryError oom ) { // "Direct buffer memory": -XX:MaxDirectMemorySize is below the budget
+      Log.warn("Out of direct memory parking "+_key+" off-heap: "+oom.getMessage());
+      return false;
+    }
+    bb.put(m).flip();
+    _offHeap = bb;
+    _mem = null;
+    _pojo = null;
+    return true;
+  }
+
   /** Invalidate byte[] cache.  Only used to eagerly free memory, for data
    *  which is expected to be read-once. */
   public final void freeMem() {
@@ -120,11 +151,21 @@ public final class Value extends Iced implements ForkJoinPool.ManagedBlocker {
       if( pojo instanceof Chunk ) return (_mem = ((Chunk)pojo).getBytes());
       else return (_mem = pojo.write(new AutoBuffer()).buf());
     if( _max == 0 ) return (_mem = new byte[0]);
+    ByteBuffer offHeap = _offHeap; // Read once!
+    if( offHeap != null ) {     // Parked off-heap; copy back and un-park
+      byte[] b = MemoryManager.malloc1(_max);
+      offHeap.duplicate().get(b);
+      _mem = b;                 // Publish the heap copy before un-parking
+      _offHeap = null;
+      return b;
+    }
+    mem = _mem;                 // Racing un-park may have just published
+    if( mem != null ) return mem;
     return (_mem = loadPersist());
   }
   // Just an empty shell of a Value, no local data but the Value is "real".
   // Any attempt to look at the Value will require a remote fetch.
-  final boolean isEmpty() { return _max > 0 && _mem==null && _pojo == null && !isPersisted(); }
+  final boolean isEmpty() { return _max > 0 && _mem==null && _pojo == null && _offHeap == null && !isPersisted(); }
 
   /** The FAST path get-POJO as an {@link Iced} subclass - final method for
    *  speed.  Will (re)build the POJO from the _mem array.  Never returns NULL.
@@ -340,6 +381,9 @@ public final class Value extends Iced implements ForkJoinPool.ManagedBlocker {
   // and the normal serializer then might ship over a null instead of the
   // intended byte[].  Also, the value is NOT on the deserialize'd machines disk
   @Override public AutoBuffer write_impl( AutoBuffer ab ) {
+    // A Chunk parked off-heap ships straight from there, without un-parking
+    ByteBuffer offHeap = _mem == null && _pojo == null ? _offHeap : null;
+    if( offHeap != null ) return ab.put1(_persist).put2(_type).putBuf(offHeap);
     return ab.put1(_persist).put2(_type).putA1(memOrLoad());
   }
   // Custom serializer: set _max from _mem length; set replicas & timestamp.
@@ -510,6 +554,13 @@ public final class Value extends Iced implements ForkJoinPool.ManagedBlocker {
     return fs;
   }
 
+  /** Clear h2o from the replica list, after it dropped its replica */
+  void clearReplica( H2ONode h2o ) {
+    assert _key.home(); // Only the HOME node for a key tracks replicas
+    byte[] r = _replicas;
+    if( r != null ) r[h2o._unique_idx] = 0;
+  }
+
   /** Initialize the _replicas field for a PUT.  On the Home node (for remote
    *  PUTs), it is initialized to the one replica we know about, and not
    *  read-locked.  Used on a new Value about to be PUT on the Home node. */
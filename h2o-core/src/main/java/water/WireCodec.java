@@ -0,0 +1,129 @@
+package water;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/** Optional compression of {@link AutoBuffer} TCP streams.
+ *  <p>
+ *  With {@code -wire_compress <bytes>} set, a sender opening a TCP stream
+ *  writes a single {@link #MAGIC} byte first, and then ships every page of
+ *  the stream as a frame {@code [raw length:4][wire length:4][bytes]}.
+ *  Pages of at least that many bytes are deflated at the fastest level;
+ *  smaller pages, and pages that do not shrink, are stored as-is (wire
+ *  length equals raw length).  The stream's own bytes - including the
+ *  closing handshake byte - are unchanged underneath.
+ *  <p>
+ *  No handshake is needed: a receiver detects the magic byte (never a valid
+ *  first byte, which is a small packet type) and decodes accordingly, so
+ *  nodes with and without the option can talk to each other.
+ *  <p>
+ *  Raw and on-the-wire byte counts for all TCP traffic, compressed or not,
+ *  are kept here and reported by {@link water.util.WaterMeterIo}.
+ */
+public final class WireCodec {
+  static final int MAGIC = 0xFF;
+  private static final int HDR = 4+4;
+
+  // Raw (stream) and wire (socket) bytes, sent and received
+  private static final AtomicLong RAW_SENT = new AtomicLong(), WIRE_SENT = new AtomicLong();
+  private static final AtomicLong RAW_RECV = new AtomicLong(), WIRE_RECV = new AtomicLong();
+  static void sent( long raw, long wire ) { RAW_SENT.addAndGet(raw);  WIRE_SENT.addAndGet(wire); }
+  static void recv( long raw, long wire ) { RAW_RECV.addAndGet(raw);  WIRE_RECV.addAndGet(wire); }
+  public static long rawBytesSent () { return RAW_SENT .get(); }
+  public static long wireBytesSent() { return WIRE_SENT.get(); }
+  public static long rawBytesRecv () { return RAW_RECV .get(); }
+  public static long wireBytesRecv() { return WIRE_RECV.get(); }
+
+  /** @return true if new outgoing TCP streams should be compressed */
+  static boolean enabled() { return H2O.ARGS.wire_compress > 0; }
+
+  // Codec state is per-thread: a stream is written by one thread, and read by
+  // one TCP reader thread.
+  private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+    @Override protected Deflater initialValue() { return new Deflater(Deflater.BEST_SPEED,true); }
+  };
+  private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+    @Override protected Inflater initialValue() { return new Inflater(true); }
+  };
+
+  private final byte[] _raw;          // One page, uncompressed
+  private final byte[] _wire;         // One frame, as on the wire
+  private boolean _started;           // Sender: magic byte written
+  private int _pos, _lim;             // Receiver: undelivered bytes of _raw
+
+  WireCodec( int pageSize ) {
+    _raw  = MemoryManager.malloc1(pageSize);
+    _wire = MemoryManager.malloc1(1+HDR+pageSize+(pageSize>>3)+64); // Room for incompressible data
+  }
+
+  /** Ship the flipped page in {@code bb} as one frame; empties {@code bb}. */
+  void write( ByteChannel chan, ByteBuffer bb ) throws IOException {
+    final int raw = bb.remaining();
+    bb.get(_raw,0,raw);
+    ByteBuffer out = ByteBuffer.wrap(_wire).order(ByteOrder.nativeOrder());
+    if( !_started ) { out.put((byte)MAGIC);  _started = true; }
+    int wire = raw;
+    if( raw >= H2O.ARGS.wire_compress ) {
+      Deflater def = DEFLATER.get();
+      def.reset();
+      def.setInput(_raw,0,raw);
+      def.finish();
+      int n = def.deflate(_wire,out.position()+HDR,_wire.length-out.position()-HDR);
+      if( def.finished() && n < raw ) wire = n;
+    }
+    out.putInt(raw).putInt(wire);
+    if( wire == raw ) out.put(_raw,0,raw);     // Stored
+    else out.position(out.position()+wire);    // Already deflated in place
+    out.flip();
+    final int len = out.remaining();
+    while( out.hasRemaining() ) chan.write(out);
+    sent(raw,len);
+  }
+
+  /** Deliver decoded stream bytes into {@code dst}, reading the next frame
+   *  from {@code chan} if needed.  Never over-reads past the current frame.
+   *  @return bytes delivered, at least 1 */
+  int read( ByteChannel chan, ByteBuffer dst ) throws IOException {
+    while( _pos == _lim ) readFrame(chan);
+    int n = Math.min(dst.remaining(),_lim-_pos);
+    dst.put(_raw,_pos,n);
+    _pos += n;
+    return n;
+  }
+
+  private void readFrame( ByteChannel chan ) throws IOException {
+    ByteBuffer hdr = ByteBuffer.wrap(_wire,0,HDR).order(ByteOrder.nativeOrder());
+    readFully(chan,hdr);
+    hdr.flip();
+    final int raw = hdr.getInt(), wire = hdr.getInt();
+    if( raw < 0 || raw > _raw.length || wire < 0 || wire > raw )
+      throw new IOException("Corrupt compressed TCP frame: raw="+raw+", wire="+wire);
+    if( wire == raw ) {                        // Stored
+      readFully(chan,ByteBuffer.wrap(_raw,0,raw));
+    } else {
+      readFully(chan,ByteBuffer.wrap(_wire,0,wire));
+      Inflater inf = INFLATER.get();
+      inf.reset();
+      inf.setInput(_wire,0,wire);
+      try {
+        if( inf.inflate(_raw,0,raw) != raw ) throw new IOException("Short compressed TCP frame");
+      } catch( DataFormatException e ) {
+        throw new IOException("Corrupt compressed TCP frame",e);
+      }
+    }
+    _pos = 0;  _lim = raw;
+    recv(raw,HDR+wire);
+  }
+
+  private static void readFully( ByteChannel chan, ByteBuffer bb ) throws IOException {
+    while( bb.hasRemaining() )
+      if( chan.read(bb) == -1 ) throw new EOFException("Compressed TCP frame cut short");
+  }
+}
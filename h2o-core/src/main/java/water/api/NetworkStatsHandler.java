@@ -0,0 +1,10 @@
+package water.api;
+
+import water.init.NetworkStats;
+
+public class NetworkStatsHandler extends Handler {
+  @SuppressWarnings("unused") // called through reflection by RequestServer
+  public NetworkStatsV3 fetch(int version, NetworkStatsV3 js) {
+    return js.fillFromImpl(new NetworkStats().execImpl());
+  }
+}
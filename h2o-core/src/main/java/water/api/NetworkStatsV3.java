@@ -0,0 +1,30 @@
+package water.api;
+
+import water.init.NetworkStats;
+
+public class NetworkStatsV3 extends RequestSchema<NetworkStats, NetworkStatsV3> {
+  @API(help="Nodes", direction = API.Direction.OUTPUT)
+  public String[] nodes;
+  @API(help="Answered RPCs (from node, to node)", direction = API.Direction.OUTPUT)
+  public long[][] rpcs;
+  @API(help="Mean RPC round-trip times in milliseconds (from node, to node)", direction = API.Direction.OUTPUT)
+  public double[][] rtt_mean_ms;
+  @API(help="Median RPC round-trip times in milliseconds, as a log2 histogram bucket bound (from node, to node)", direction = API.Direction.OUTPUT)
+  public double[][] rtt_p50_ms;
+  @API(help="99th percentile RPC round-trip times in milliseconds, as a log2 histogram bucket bound (from node, to node)", direction = API.Direction.OUTPUT)
+  public double[][] rtt_p99_ms;
+  @API(help="Bytes sent (from node, to node)", direction = API.Direction.OUTPUT)
+  public long[][] bytes_sent;
+  @API(help="Bytes received (by node, from node)", direction = API.Direction.OUTPUT)
+  public long[][] bytes_recv;
+  @API(help="RPC resends after a timeout (from node, to node)", direction = API.Direction.OUTPUT)
+  public long[][] resends;
+  @API(help="NACKs received for resent RPCs (by node, from node)", direction = API.Direction.OUTPUT)
+  public long[][] nacks;
+  @API(help="Sends that waited for a free TCP socket (from node, to node)", direction = API.Direction.OUTPUT)
+  public long[][] tcp_waits;
+  @API(help="Milliseconds spent waiting for a free TCP socket (from node, to node)", direction = API.Direction.OUTPUT)
+  public long[][] tcp_wait_ms;
+  @API(help="Per-link statistics", direction = API.Direction.OUTPUT)
+  public TwoDimTableV3 table;
+}
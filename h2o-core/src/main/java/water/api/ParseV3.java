@@ -44,6 +44,9 @@ public class ParseV3 extends RequestSchema<Iced, ParseV3> {
   @API(help="NA strings for columns")
   String[][] na_strings;
 
+  @API(help="Indices of columns to skip; skipped columns are not tokenized or stored")
+  int[] skipped_columns;
+
   @API(help="Size of individual parse tasks", direction=API.Direction.INPUT)
   int chunk_size;
 
@@ -271,6 +271,9 @@ public class Schema<I extends Iced, S extends Schema<I,S>> extends Iced {
           if ("Gini".equals(name)) // proper name
             continue;
 
+          if ("traceEvents".equals(name) || "displayTimeUnit".equals(name)) // fixed by the Chrome trace format
+            continue;
+
           if (name.endsWith("AUC")) // trainAUC, validAUC
             continue;
 
@@ -0,0 +1,10 @@
+package water.api;
+
+import water.init.TraceCollector;
+
+public class TraceHandler extends Handler {
+  @SuppressWarnings("unused") // called through reflection by RequestServer
+  public TraceV3 fetch(int version, TraceV3 js) {
+    return js.fillFromImpl(new TraceCollector().execImpl());
+  }
+}
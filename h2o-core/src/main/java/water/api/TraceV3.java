@@ -0,0 +1,84 @@
+package water.api;
+
+import water.Iced;
+import water.Trace;
+import water.init.TraceCollector;
+
+import java.util.ArrayList;
+
+/** Recorded spans of all nodes in the Chrome trace event format, loadable in
+ *  chrome://tracing or Perfetto: one "complete" (ph X) event per span, with
+ *  the node as the process and the JVM thread as the thread, plus a
+ *  process_name metadata (ph M) event naming each node.  Node clocks are
+ *  lined up by wall clock, so skew between machines shifts their spans.
+ */
+public class TraceV3 extends RequestSchema<TraceCollector, TraceV3> {
+  // The field name is fixed by the trace format
+  @API(help="Trace events, in the Chrome trace event format", direction=API.Direction.OUTPUT)
+  public TraceEventV3[] traceEvents;
+
+  @API(help="Time unit of the ts and dur fields", direction=API.Direction.OUTPUT)
+  public String displayTimeUnit = "ms";
+
+  public static class TraceEventV3 extends Schema<Iced, TraceEventV3> {
+    @API(help="Span name", direction=API.Direction.OUTPUT)
+    public String name;
+    @API(help="Span category", direction=API.Direction.OUTPUT)
+    public String cat;
+    @API(help="Event type: X for a span, M for metadata", direction=API.Direction.OUTPUT)
+    public String ph;
+    @API(help="Start, in microseconds", direction=API.Direction.OUTPUT)
+    public double ts;
+    @API(help="Duration, in microseconds", direction=API.Direction.OUTPUT)
+    public double dur;
+    @API(help="Node index", direction=API.Direction.OUTPUT)
+    public int pid;
+    @API(help="JVM thread id", direction=API.Direction.OUTPUT)
+    public long tid;
+    @API(help="Span details", direction=API.Direction.OUTPUT)
+    public TraceArgsV3 args;
+    public TraceEventV3() {}
+  }
+
+  public static class TraceArgsV3 extends Schema<Iced, TraceArgsV3> {
+    @API(help="Node name, for metadata events", direction=API.Direction.OUTPUT)
+    public String name;
+    @API(help="What the span worked on: task class, key, ...", direction=API.Direction.OUTPUT)
+    public String who;
+    @API(help="Span specific number: chunk index, peer node, tree index, ...; -1 for none", direction=API.Direction.OUTPUT)
+    public long arg;
+    public TraceArgsV3() {}
+  }
+
+  @Override public TraceV3 fillFromImpl(TraceCollector tc) {
+    // Earliest boot time is the zero of the trace
+    long t0 = Long.MAX_VALUE;
+    for( Trace.Spans s : tc.spans ) t0 = Math.min(t0,s._bootMs);
+    ArrayList<TraceEventV3> events = new ArrayList<>();
+    for( int n=0; n<tc.spans.length; n++ ) {
+      TraceEventV3 m = new TraceEventV3();
+      m.name = "process_name";  m.ph = "M";  m.pid = n;
+      m.args = new TraceArgsV3();
+      m.args.name = tc.nodes[n];
+      events.add(m);
+      Trace.Spans s = tc.spans[n];
+      double base = (s._bootMs-t0)*1e3; // usec
+      for( int i=0; i<s.size(); i++ ) {
+        TraceEventV3 e = new TraceEventV3();
+        e.name = s._what[i];
+        e.cat = Trace.CATEGORIES[s._cat[i]];
+        e.ph = "X";
+        e.ts = base+s._start[i]/1e3;
+        e.dur = s._dur[i]/1e3;
+        e.pid = n;
+        e.tid = s._tid[i];
+        e.args = new TraceArgsV3();
+        e.args.who = s._who[i];
+        e.args.arg = s._arg[i];
+        events.add(e);
+      }
+    }
+    traceEvents = events.toArray(new TraceEventV3[events.size()]);
+    return this;
+  }
+}
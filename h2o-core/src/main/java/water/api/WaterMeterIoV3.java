@@ -10,6 +10,18 @@ public class WaterMeterIoV3 extends RequestSchema<WaterMeterIo, WaterMeterIoV3>
   @API(help="array of IO info", direction = API.Direction.OUTPUT)
   public WaterMeterIo.IoStatsEntry persist_stats[];
 
+  @API(help="Node-to-node TCP bytes sent, before compression", direction = API.Direction.OUTPUT)
+  public long tcp_raw_bytes_sent;
+
+  @API(help="Node-to-node TCP bytes sent, on the wire", direction = API.Direction.OUTPUT)
+  public long tcp_wire_bytes_sent;
+
+  @API(help="Node-to-node TCP bytes received, after decompression", direction = API.Direction.OUTPUT)
+  public long tcp_raw_bytes_recv;
+
+  @API(help="Node-to-node TCP bytes received, on the wire", direction = API.Direction.OUTPUT)
+  public long tcp_wire_bytes_recv;
+
   // Version&Schema-specific filling into the implementation object
   public WaterMeterIo createImpl() {
     WaterMeterIo obj = new WaterMeterIo();
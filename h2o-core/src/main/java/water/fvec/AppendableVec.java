@@ -28,6 +28,9 @@ public class AppendableVec extends Vec {
   public static final byte STRING = 6;
 
   private byte[] _chunkTypes;
+  // Per-chunk zone map, filled in as chunks close; NaN min/max until then
+  private double[] _zmins = nans(4), _zmaxs = nans(4);
+  private long[] _znas = new long[4];
 
   public void setTypes(byte [] ts) {
     _chunkTypes = ts;
@@ -67,14 +70,25 @@ public class AppendableVec extends Vec {
   // A NewVector chunk was "closed" - completed.  Add it's info to the roll-up.
   // This call is made in parallel across all node-local created chunks, but is
   // not called distributed.
-  synchronized void closeChunk( NewChunk chk ) {
+  void closeChunk( NewChunk chk, Chunk compressed ) {
+    // Summarize before taking the lock: it decodes the whole chunk
+    final byte type = chk.type();
+    final double[] zmin = nans(1), zmax = nans(1);
+    final long[] zna = new long[1];
+    if( type != UUID && type != STRING )
+      ZoneMap.summarize(compressed,zmin,zmax,zna,0);
+    synchronized( this ) { closeChunk(chk,type,zmin[0],zmax[0],zna[0]); }
+  }
+  private void closeChunk( NewChunk chk, byte type, double zmin, double zmax, long zna ) {
     final int cidx = chk._cidx - _chunkOff;
     while( cidx >= _chunkTypes.length )
       _chunkTypes = Arrays.copyOf(_chunkTypes,_chunkTypes.length<<1);
     while( cidx >= _tmp_espc.length ) // should not happen if espcs are preallocated and shared!
       _tmp_espc = Arrays.copyOf(_tmp_espc, _tmp_espc.length<<1);
+    growZones(cidx+1);
     _tmp_espc[cidx] = chk._len;
-    _chunkTypes[cidx] = chk.type();
+    _chunkTypes[cidx] = type;
+    _zmins[cidx] = zmin;  _zmaxs[cidx] = zmax;  _znas[cidx] = zna;
     _naCnt += chk.naCnt();
     _enumCnt += chk.enumCnt();
     _strCnt += chk.strCnt();
@@ -104,6 +118,11 @@ public class AppendableVec extends Vec {
     assert _key.equals(av._key):"mismatched keys " + _key + ", " + av._key;
     System.arraycopy(av._tmp_espc, 0, _tmp_espc, av._chunkOff, av._tmp_espc.length);
     System.arraycopy(av._chunkTypes, 0, _chunkTypes, av._chunkOff, av._tmp_espc.length); // intentionally espc length which is guaranteed to be correct length, types may be longer!
+    growZones(av._chunkOff+av._tmp_espc.length);
+    av.growZones(av._tmp_espc.length);
+    System.arraycopy(av._zmins, 0, _zmins, av._chunkOff, av._tmp_espc.length);
+    System.arraycopy(av._zmaxs, 0, _zmaxs, av._chunkOff, av._tmp_espc.length);
+    System.arraycopy(av._znas , 0, _znas , av._chunkOff, av._tmp_espc.length);
     _strCnt += av._strCnt;
     _naCnt += av._naCnt;
     _enumCnt += av._enumCnt;
@@ -138,6 +157,14 @@ public class AppendableVec extends Vec {
     }
     for( int i =0 ; i < t1.length; ++i)
       _chunkTypes[i] |= t1[i];
+    // Combine zone maps; each chunk was summarized by exactly one side
+    if( _zmins != nv._zmins ) {
+      growZones(nv._zmins.length);
+      for( int i=0; i<nv._zmins.length; i++ )
+        if( !Double.isNaN(nv._zmins[i]) || nv._znas[i] != 0 ) {
+          _zmins[i] = nv._zmins[i];  _zmaxs[i] = nv._zmaxs[i];  _znas[i] = nv._znas[i];
+        }
+    }
     _naCnt += nv._naCnt;
     _enumCnt += nv._enumCnt;
     _strCnt += nv._strCnt;
@@ -186,10 +213,13 @@ public class AppendableVec extends Vec {
     // Make Chunks other than the dominant type fail out to NAs.  This includes
     // converting numeric chunks to NAs in Enum columns - we cannot reverse
     // print the numbers to get the original text for the Enum back.
+    growZones(nchunk);
     for(int i = 0; i < nchunk; ++i)
       if(_chunkTypes[i] != idx && 
-         !(idx==ENUM && _chunkTypes[i]==NUMBER && genEnumCol)) // Odd case: numeric chunks being forced/treated as a boolean enum
+         !(idx==ENUM && _chunkTypes[i]==NUMBER && genEnumCol)) { // Odd case: numeric chunks being forced/treated as a boolean enum
         DKV.put(chunkKey(i), new C0DChunk(Double.NaN, (int) _tmp_espc[i]),fs);
+        _zmins[i] = _zmaxs[i] = Double.NaN;  _znas[i] = _tmp_espc[i];
+      }
 
     byte type;
     switch( idx ) {
@@ -213,9 +243,22 @@ public class AppendableVec extends Vec {
     // Replacement plain Vec for AppendableVec.
     Vec vec = new Vec(_key, espc, domain(), type);
     DKV.put(_key,vec,fs);       // Inject the header
+    // Per-chunk zone map, for the types that compare as numbers
+    if( type == T_NUM || type == T_ENUM || type == T_TIME )
+      DKV.put(vec.zoneMapKey(), new ZoneMap(Arrays.copyOf(_zmins,nchunk),Arrays.copyOf(_zmaxs,nchunk),Arrays.copyOf(_znas,nchunk),espc),fs);
     return vec;
   }
 
+  private void growZones( int n ) {
+    if( n <= _zmins.length ) return;
+    int len = Math.max(n,_zmins.length<<1);
+    int old = _zmins.length;
+    _zmins = Arrays.copyOf(_zmins,len);  Arrays.fill(_zmins,old,len,Double.NaN);
+    _zmaxs = Arrays.copyOf(_zmaxs,len);  Arrays.fill(_zmaxs,old,len,Double.NaN);
+    _znas  = Arrays.copyOf(_znas ,len);
+  }
+  private static double[] nans( int n ) { double[] ds = new double[n]; Arrays.fill(ds,Double.NaN); return ds; }
+
   // Default read/write behavior for AppendableVecs
   @Override protected boolean readable() { return false; }
   @Override protected boolean writable() { return true ; }
@@ -0,0 +1,152 @@
+package water.fvec;
+
+import water.*;
+import water.util.ArrayUtils;
+import water.util.Log;
+import water.util.PrettyPrint;
+
+/** Plan a chunk layout (an espc) for rebalancing a Frame into a given number
+ *  of chunks, such that each node ends up holding a share of the data in
+ *  proportion to its measured throughput, and as few bytes as possible change
+ *  node.
+ *
+ *  <p>Chunk homes are fixed by chunk index (see {@link Key}), so the only
+ *  freedom is where each chunk starts.  The chunks are sized in row order:
+ *  each gets an equal part of what its home node still has to take, measured
+ *  in compressed bytes (plus one byte per row, so constant columns still
+ *  count).  A chunk boundary that falls inside a source chunk is then moved
+ *  to that source chunk's end if the source chunk lives on the new chunk's
+ *  home, or to its start if not - when that costs at most {@link #SNAP} of
+ *  the chunk's budget.  Later chunks on the same node absorb the difference.
+ *
+ *  <p>Node throughput is the heartbeat's Linpack GFlops, or the number of
+ *  usable cores when some node has not run the benchmark yet.
+ */
+final class BalancedLayout {
+  /** Largest boundary move, as a fraction of the chunk's byte budget */
+  static final double SNAP = 0.25;
+
+  private final long[] _src;    // Source chunk starts, plus the row count
+  private final double[] _cum;  // Cost of all source chunks before each one
+  private final int[] _srcHome; // Source chunk home node index
+
+  private BalancedLayout( Frame in ) {
+    Vec v0 = in.anyVec();
+    _src = v0._espc;
+    int nsrc = _src.length-1;
+    long[] bytes = new ChunkBytes().doAll(in)._bytes;
+    _cum = new double[nsrc+1];
+    _srcHome = new int[nsrc];
+    for( int s=0; s<nsrc; s++ ) {
+      long rows = _src[s+1]-_src[s];
+      _cum[s+1] = _cum[s] + (rows == 0 ? 0 : bytes[s]+rows);
+      _srcHome[s] = v0.chunkKey(s).home_node().index();
+    }
+  }
+
+  /** @return A start row per chunk, plus the total row count, for
+   *  {@code nchunks} chunks of a new Vec with key {@code vkey} */
+  static long[] espc( Frame in, Key vkey, int nchunks ) {
+    return new BalancedLayout(in).plan(vkey,nchunks);
+  }
+
+  private long[] plan( Key vkey, int nchunks ) {
+    H2ONode[] nodes = H2O.CLOUD._memary;
+    int[] home = new int[nchunks];
+    int[] left = new int[nodes.length]; // Chunks still to size, per node
+    for( int c=0; c<nchunks; c++ ) left[home[c] = Vec.chunkKey(vkey,c).home_node().index()]++;
+    // Each node's share of the total cost; only nodes homing a chunk count
+    double[] rem = speeds(nodes);
+    double w = 0;
+    for( int n=0; n<nodes.length; n++ ) w += left[n] == 0 ? (rem[n] = 0) : rem[n];
+    double total = _cum[_cum.length-1];
+    for( int n=0; n<nodes.length; n++ ) rem[n] = total*rem[n]/w;
+
+    long nrows = _src[_src.length-1];
+    long[] espc = new long[nchunks+1];
+    long p = 0, moved = 0;
+    double at = 0;              // Cost before row p
+    for( int c=0; c<nchunks; c++ ) {
+      int h = home[c];
+      double budget = Math.max(0,rem[h])/left[h];
+      long e = c == nchunks-1 ? nrows : Math.max(p,rowAt(at+budget));
+      if( e < nrows && c < nchunks-1 ) { // Snap to a source chunk boundary?
+        int s = srcChunk(e);
+        if( e > _src[s] ) {
+          if( _srcHome[s] == h && costAt(_src[s+1])-costAt(e) <= SNAP*budget ) e = _src[s+1];
+          else if( _srcHome[s] != h && _src[s] >= p && costAt(e)-costAt(_src[s]) <= SNAP*budget ) e = _src[s];
+        }
+      }
+      double ce = costAt(e);
+      moved += movedBytes(p,e,h);
+      rem[h] -= ce-at;
+      left[h]--;
+      espc[c+1] = p = e;
+      at = ce;
+    }
+    Log.info("Balanced layout of "+nchunks+" chunks moves about "+PrettyPrint.bytes(moved)+" of "+PrettyPrint.bytes((long)total)+" between nodes");
+    return espc;
+  }
+
+  // Node throughputs, in cloud order
+  private static double[] speeds( H2ONode[] nodes ) {
+    double[] gflops = new double[nodes.length], cores = new double[nodes.length];
+    boolean benched = true;
+    for( int n=0; n<nodes.length; n++ ) {
+      HeartBeat hb = nodes[n]._heartbeat;
+      gflops[n] = hb._gflops;
+      cores[n] = Math.max(1,hb._cpus_allowed > 0 ? hb._cpus_allowed : hb._num_cpus);
+      benched &= gflops[n] > 0;
+    }
+    return benched ? gflops : cores;
+  }
+
+  // Source chunk holding row r; the last non-empty one for the final row
+  private int srcChunk( long r ) {
+    int lo = 0, hi = _src.length-1;
+    while( lo+1 < hi ) {
+      int mid = (lo+hi)>>>1;
+      if( _src[mid] <= r ) lo = mid; else hi = mid;
+    }
+    return lo;
+  }
+
+  // Cost of all rows before row r
+  private double costAt( long r ) {
+    int s = srcChunk(r);
+    long rows = _src[s+1]-_src[s];
+    return rows == 0 ? _cum[s] : _cum[s] + (_cum[s+1]-_cum[s])*(r-_src[s])/rows;
+  }
+
+  // First row at which the cost before it reaches x
+  private long rowAt( double x ) {
+    int lo = 0, hi = _cum.length-1;
+    while( lo+1 < hi ) {
+      int mid = (lo+hi)>>>1;
+      if( _cum[mid] <= x ) lo = mid; else hi = mid;
+    }
+    double cost = _cum[lo+1]-_cum[lo];
+    if( cost == 0 ) return _src[lo];
+    long r = _src[lo] + (long)Math.ceil((x-_cum[lo])/cost*(_src[lo+1]-_src[lo]));
+    return Math.min(r,_src[lo+1]);
+  }
+
+  // Source bytes in rows [p,e) not already living on node h
+  private long movedBytes( long p, long e, int h ) {
+    long moved = 0;
+    for( int s = srcChunk(p); s < _src.length-1 && _src[s] < e; s++ )
+      if( _srcHome[s] != h )
+        moved += (long)(costAt(Math.min(e,_src[s+1]))-costAt(Math.max(p,_src[s])));
+    return moved;
+  }
+
+  // Compressed bytes of each chunk, summed over all columns
+  private static class ChunkBytes extends MRTask<ChunkBytes> {
+    long[] _bytes;
+    @Override public void map( Chunk[] cs ) {
+      _bytes = new long[cs[0].vec().nChunks()];
+      for( Chunk c : cs ) _bytes[cs[0].cidx()] += c.byteSize();
+    }
+    @Override public void reduce( ChunkBytes cb ) { ArrayUtils.add(_bytes,cb._bytes); }
+  }
+}
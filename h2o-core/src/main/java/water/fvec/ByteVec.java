@@ -52,6 +52,47 @@ public class ByteVec extends Vec {
     }
   }
 
+  /** @return Index of the chunk holding byte {@code off}, or the number of
+   *  chunks for the end of the data */
+  public int chunkOfByte(long off) { return elem2ChunkIdx(off); }
+
+  /** Open a stream view over bytes {@code [from,to)} of the underlying data.
+   *  As for {@link #openStream(Key)}, {@code read(null,0,0)} is a back-channel
+   *  read of the chunk index; here it counts from 1 for the chunk holding
+   *  {@code from}. */
+  public InputStream openStream(final Key job_key, final long from, final long to) {
+    return new InputStream() {
+      private final int _first = elem2ChunkIdx(from);
+      private long _pos = from, _start; // Stream position; start of _c0
+      private int _cidx = _first;
+      private C1NChunk _c0;
+      @Override public int available() {
+        if( _pos >= to ) return 0;
+        if( _c0 == null || _pos >= _start+_c0._len ) {
+          _c0 = chunkForChunkIdx(_cidx = elem2ChunkIdx(_pos));
+          _start = chunk2StartElem(_cidx);
+          if (job_key != null)
+            Job.update(Math.min(to,_start+_c0._len)-_pos,job_key);
+        }
+        return (int)(Math.min(to,_start+_c0._len)-_pos);
+      }
+      @Override public void close() { _pos = to; _c0 = null; }
+      @Override public int read() throws IOException {
+        return available() == 0 ? -1 : 0xFF&_c0._mem[C1NChunk._OFF+(int)(_pos++-_start)];
+      }
+      @Override public int read(byte[] b, int off, int len) {
+        if( b==null ) return _cidx-_first+1; // Back-channel read of cidx
+        int sz = available();
+        if( sz == 0 )
+          return -1;
+        len = Math.min(len,sz);
+        System.arraycopy(_c0._mem,C1NChunk._OFF+(int)(_pos-_start),b,off,len);
+        _pos += len;
+        return len;
+      }
+    };
+  }
+
   /** Open a stream view over the underlying data  */
   public InputStream openStream(final Key job_key) {
     return new InputStream() {
@@ -20,6 +20,20 @@ public class C1Chunk extends Chunk {
     return (res == _NA)?Double.NaN:res;
   }
   @Override protected final boolean isNA_impl( int i ) { return (0xFF&_mem[i+_OFF]) == _NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) {
+      int res = 0xFF&_mem[i+_OFF];
+      vals[i-from] = res == _NA ? Double.NaN : res;
+    }
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) {
+      long res = 0xFF&_mem[i+_OFF];
+      vals[i-from] = res == _NA ? na : res;
+    }
+    return vals;
+  }
   @Override boolean set_impl(int i, long l) {
     if( !(0 <= l && l < 255) ) return false;
     _mem[i+_OFF] = (byte)l;
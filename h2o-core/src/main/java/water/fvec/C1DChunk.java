@@ -0,0 +1,85 @@
+package water.fvec;
+
+import water.AutoBuffer;
+import water.util.UnsafeUtils;
+
+/**
+ * The dictionary compression function: a small set (at most 255) of
+ * arbitrary distinct doubles, with a 1-byte code per row.  Code 0xFF is the
+ * marker for N/A.
+ */
+public class C1DChunk extends Chunk {
+  static final int _NA = 0xFF;
+  static final int MAX_DICT = 255;
+  // Header: 4 bytes of dictionary length, then 8 bytes per dictionary entry.
+  // Then one code byte per row, starting at _off.
+  private transient int _off;
+  private transient double[] _dict;
+  C1DChunk( byte[] bs ) { _mem=bs; _start = -1; init(); }
+  private void init() {
+    int n = UnsafeUtils.get4(_mem,0);
+    _dict = new double[n];
+    for( int j=0; j<n; j++ ) _dict[j] = UnsafeUtils.get8d(_mem,4+(j<<3));
+    _off = 4+(n<<3);
+    set_len(_mem.length-_off);
+  }
+
+  // Serialized size of a dictionary chunk
+  static int bytes( int ndict, int len ) { return 4+(ndict<<3)+len; }
+
+  // Build a dictionary chunk from the distinct values and per-row codes
+  static C1DChunk make( double[] dict, int ndict, byte[] codes, int len ) {
+    byte[] bs = new byte[bytes(ndict,len)];
+    UnsafeUtils.set4(bs,0,ndict);
+    for( int j=0; j<ndict; j++ ) UnsafeUtils.set8d(bs,4+(j<<3),dict[j]);
+    System.arraycopy(codes,0,bs,4+(ndict<<3),len);
+    return new C1DChunk(bs);
+  }
+
+  @Override public boolean hasFloat() { return true; }
+  @Override protected final long at8_impl( int i ) {
+    int res = 0xFF&_mem[i+_off];
+    if( res == _NA ) throw new IllegalArgumentException("at8_abs but value is missing");
+    return (long)_dict[res];
+  }
+  @Override protected final double atd_impl( int i ) {
+    int res = 0xFF&_mem[i+_off];
+    return res == _NA ? Double.NaN : _dict[res];
+  }
+  @Override protected final boolean isNA_impl( int i ) { return (0xFF&_mem[i+_off]) == _NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    final double[] dict = _dict;
+    for( int i=from; i<to; i++ ) {
+      int res = 0xFF&_mem[i+_off];
+      vals[i-from] = res == _NA ? Double.NaN : dict[res];
+    }
+    return vals;
+  }
+  @Override boolean set_impl(int i, long l) { return (long)(double)l == l && set_impl(i,(double)l); }
+  @Override boolean set_impl(int i, double d) {
+    if( Double.isNaN(d) ) return setNA_impl(i);
+    for( int j=0; j<_dict.length; j++ )
+      if( _dict[j] == d ) { _mem[i+_off] = (byte)j; return true; }
+    return false;               // Not in the dictionary
+  }
+  @Override boolean set_impl(int i, float f ) { return set_impl(i,(double)f); }
+  @Override boolean setNA_impl(int idx) { _mem[idx+_off] = (byte)_NA; return true; }
+  @Override public NewChunk inflate_impl(NewChunk nc) {
+    nc.set_sparseLen(0);
+    nc.set_len(0);
+    final int len = _len;
+    for( int i=0; i<len; i++ ) {
+      int res = 0xFF&_mem[i+_off];
+      if( res == _NA ) nc.addNA();
+      else             nc.addNum(_dict[res]);
+    }
+    return nc;
+  }
+  @Override public AutoBuffer write_impl(AutoBuffer bb) { return bb.putA1(_mem,_mem.length); }
+  @Override public C1DChunk read_impl(AutoBuffer bb) {
+    _mem = bb.bufClose();
+    _start = -1;  _cidx = -1;
+    init();
+    return this;
+  }
+}
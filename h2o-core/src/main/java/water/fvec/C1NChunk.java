@@ -12,6 +12,14 @@ public class C1NChunk extends Chunk {
   @Override protected final long   at8_impl( int i ) { return 0xFF&_mem[i]; }
   @Override protected final double atd_impl( int i ) { return 0xFF&_mem[i]; }
   @Override protected final boolean isNA_impl( int i ) { return false; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) vals[i-from] = 0xFF&_mem[i+_OFF];
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) vals[i-from] = 0xFF&_mem[i+_OFF];
+    return vals;
+  }
   @Override boolean set_impl(int i, long l  ) { return false; }
   @Override boolean set_impl(int i, double d) { return false; }
   @Override boolean set_impl(int i, float f ) { return false; }
@@ -20,6 +20,20 @@ public class C2Chunk extends Chunk {
     return res == _NA?Double.NaN:res;
   }
   @Override protected final boolean isNA_impl( int i ) { return UnsafeUtils.get2(_mem,(i<<1)+_OFF) == _NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) {
+      int res = UnsafeUtils.get2(_mem,(i<<1)+_OFF);
+      vals[i-from] = res == _NA ? Double.NaN : res;
+    }
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) {
+      int res = UnsafeUtils.get2(_mem,(i<<1)+_OFF);
+      vals[i-from] = res == _NA ? na : res;
+    }
+    return vals;
+  }
   @Override boolean set_impl(int idx, long l) {
     if( !(Short.MIN_VALUE < l && l <= Short.MAX_VALUE) ) return false;
     UnsafeUtils.set2(_mem,(idx<<1)+_OFF,(short)l);
@@ -19,6 +19,20 @@ public class C4Chunk extends Chunk {
     return res == _NA?Double.NaN:res;
   }
   @Override protected final boolean isNA_impl( int i ) { return UnsafeUtils.get4(_mem,i<<2) == _NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) {
+      long res = UnsafeUtils.get4(_mem,i<<2);
+      vals[i-from] = res == _NA ? Double.NaN : res;
+    }
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) {
+      long res = UnsafeUtils.get4(_mem,i<<2);
+      vals[i-from] = res == _NA ? na : res;
+    }
+    return vals;
+  }
   @Override boolean set_impl(int idx, long l) {
     if( !(Integer.MIN_VALUE < l && l <= Integer.MAX_VALUE) ) return false;
     UnsafeUtils.set4(_mem,idx<<2,(int)l);
@@ -18,6 +18,10 @@ public class C4FChunk extends Chunk {
     return Float.isNaN(res)?Double.NaN:res;
   }
   @Override protected final boolean isNA_impl( int i ) { return Float.isNaN(UnsafeUtils.get4f(_mem,i<<2)); }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) vals[i-from] = UnsafeUtils.get4f(_mem,i<<2); // NaN widens to NaN
+    return vals;
+  }
   @Override boolean set_impl(int idx, long l) { return false; }
   @Override boolean set_impl(int i, double d) { return false; }
   @Override boolean set_impl(int i, float f ) {
@@ -1,6 +1,7 @@
 package water.fvec;
 
 import water.*;
+import water.util.PrettyPrint;
 import water.util.UnsafeUtils;
 
 /**
@@ -12,25 +13,35 @@ public class C4SChunk extends Chunk {
   private double _scale;
   public double scale() { return _scale; }
   private long _bias;
+  private double _div;          // 10^k for a fractional scale of 10^-k; else 0
   @Override public boolean hasFloat(){ return _scale != (long)_scale; }
   C4SChunk( byte[] bs, long bias, double scale ) { _mem=bs; _start = -1; set_len((_mem.length - _OFF) >> 2);
-    _bias = bias; _scale = scale;
+    _bias = bias; _scale = scale; _div = PrettyPrint.scaleDivisor(scale);
     UnsafeUtils.set8d(_mem,0,scale);
     UnsafeUtils.set8 (_mem,8,bias );
   }
   @Override protected final long at8_impl( int i ) {
     long res = UnsafeUtils.get4(_mem,(i<<2)+_OFF);
     if( res == _NA ) throw new IllegalArgumentException("at8_abs but value is missing");
-    return (long)((res + _bias)*_scale);
+    return (long)decode(res+_bias);
   }
   @Override protected final double atd_impl( int i ) {
     long res = UnsafeUtils.get4(_mem,(i<<2)+_OFF);
-    return (res == _NA)?Double.NaN:(res + _bias)*_scale;
+    return (res == _NA)?Double.NaN:decode(res+_bias);
   }
+  private double decode( long le ) { return PrettyPrint.unscale(le,_scale,_div); }
   @Override protected final boolean isNA_impl( int i ) { return UnsafeUtils.get4(_mem,(i<<2)+_OFF) == _NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    final long bias = _bias;  final double scale = _scale, div = _div;
+    for( int i=from; i<to; i++ ) {
+      long res = UnsafeUtils.get4(_mem,(i<<2)+_OFF);
+      vals[i-from] = res == _NA ? Double.NaN : PrettyPrint.unscale(res+bias,scale,div);
+    }
+    return vals;
+  }
   @Override boolean set_impl(int idx, long l) {
     long res = (long)(l/_scale)-_bias; // Compressed value
-    double d = (res+_bias)*_scale;     // Reverse it
+    double d = decode(res+_bias);      // Reverse it
     if( (long)d != l ) return false;   // Does not reverse cleanly?
     if( !(Integer.MIN_VALUE < res && res <= Integer.MAX_VALUE) ) return false; // Out-o-range for a int array
     UnsafeUtils.set4(_mem,(idx<<2)+_OFF,(int)res);
@@ -62,6 +73,7 @@ public class C4SChunk extends Chunk {
     set_len((_mem.length-_OFF)>>2);
     _scale= UnsafeUtils.get8d(_mem,0);
     _bias = UnsafeUtils.get8 (_mem,8);
+    _div = PrettyPrint.scaleDivisor(_scale);
     return this;
   }
 }
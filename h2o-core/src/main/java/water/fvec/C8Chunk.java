@@ -19,6 +19,20 @@ public class C8Chunk extends Chunk {
     return res == _NA?Double.NaN:res;
   }
   @Override protected final boolean isNA_impl( int i ) { return UnsafeUtils.get8(_mem, i << 3)==_NA; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) {
+      long res = UnsafeUtils.get8(_mem,i<<3);
+      vals[i-from] = res == _NA ? Double.NaN : res;
+    }
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) {
+      long res = UnsafeUtils.get8(_mem,i<<3);
+      vals[i-from] = res == _NA ? na : res;
+    }
+    return vals;
+  }
   @Override boolean set_impl(int idx, long l) { return false; }
   @Override boolean set_impl(int i, double d) { return false; }
   @Override boolean set_impl(int i, float f ) { return false; }
@@ -0,0 +1,144 @@
+package water.fvec;
+
+import java.util.Arrays;
+import water.AutoBuffer;
+import water.util.UnsafeUtils;
+
+/**
+ * The run-length compression function: long runs of repeated values (sorted
+ * keys, bucketed timestamps, ...) are held as a list of (run-end, value)
+ * pairs.  Values are either all 'long's (with C8Chunk's NA marker) or all
+ * 'double's (NaN for NA), mirroring the Chunk this was compressed from.
+ */
+public class CRLChunk extends Chunk {
+  // Header: 4 bytes of len, 4 bytes of run count, 4 bytes of long/double flag.
+  // Then an int row-end (exclusive) per run, then an 8-byte value per run.
+  static final int _OFF=4+4+4;
+  private transient int _nruns;
+  private transient boolean _isLong;
+  private transient int _lastRun; // Racy cache of the last run hit; any value is a valid hint
+  CRLChunk( byte[] bs ) { _mem=bs; _start = -1; init(); }
+  private void init() {
+    set_len(UnsafeUtils.get4(_mem,0));
+    _nruns = UnsafeUtils.get4(_mem,4);
+    _isLong = UnsafeUtils.get4(_mem,8) != 0;
+    assert _mem.length == _OFF+_nruns*(4+8);
+  }
+
+  // Serialized size of a run-length chunk with so many runs
+  static int bytes( int nruns ) { return _OFF+nruns*(4+8); }
+
+  // Build a run-length chunk from the run-ends and raw 8-byte values.
+  static CRLChunk make( int len, int nruns, int[] ends, long[] vals, boolean isLong ) {
+    byte[] bs = new byte[bytes(nruns)];
+    UnsafeUtils.set4(bs,0,len);
+    UnsafeUtils.set4(bs,4,nruns);
+    UnsafeUtils.set4(bs,8,isLong?1:0);
+    final int voff = _OFF+(nruns<<2);
+    for( int r=0; r<nruns; r++ ) {
+      UnsafeUtils.set4(bs,_OFF+(r<<2),ends[r]);
+      UnsafeUtils.set8(bs,voff+(r<<3),vals[r]);
+    }
+    return new CRLChunk(bs);
+  }
+
+  private int end( int r ) { return UnsafeUtils.get4(_mem,_OFF+(r<<2)); }
+  private long val( int r ) { return UnsafeUtils.get8(_mem,_OFF+(_nruns<<2)+(r<<3)); }
+  // Find the run holding row i.  Row-sequential scans hit the cached run (or
+  // the next one); random access falls back to a binary search on run-ends.
+  private int run( int i ) {
+    int r = _lastRun;
+    if( r < _nruns && i < end(r) && (r==0 || end(r-1) <= i) ) return r;
+    if( r+1 < _nruns && end(r) <= i && i < end(r+1) ) return (_lastRun = r+1);
+    int lo=0, hi=_nruns-1;
+    while( lo < hi ) {
+      int mid = (lo+hi)>>>1;
+      if( end(mid) <= i ) lo = mid+1;
+      else hi = mid;
+    }
+    return (_lastRun = lo);
+  }
+
+  @Override public boolean hasFloat() { return !_isLong; }
+  @Override protected final long at8_impl( int i ) {
+    long res = val(run(i));
+    if( _isLong ) {
+      if( res == C8Chunk._NA ) throw new IllegalArgumentException("at8_abs but value is missing");
+      return res;
+    }
+    double d = Double.longBitsToDouble(res);
+    if( Double.isNaN(d) ) throw new IllegalArgumentException("at8_abs but value is missing");
+    return (long)d;
+  }
+  @Override protected final double atd_impl( int i ) {
+    long res = val(run(i));
+    if( _isLong ) return res == C8Chunk._NA ? Double.NaN : res;
+    return Double.longBitsToDouble(res);
+  }
+  @Override protected final boolean isNA_impl( int i ) {
+    long res = val(run(i));
+    return _isLong ? res == C8Chunk._NA : Double.isNaN(Double.longBitsToDouble(res));
+  }
+  // Bulk reads fill whole runs at a time
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int r = from < to ? run(from) : _nruns, row = from; r < _nruns && row < to; r++ ) {
+      final long res = val(r);
+      final double d = _isLong ? (res == C8Chunk._NA ? Double.NaN : res) : Double.longBitsToDouble(res);
+      final int end = Math.min(end(r),to);
+      Arrays.fill(vals,row-from,end-from,d);
+      row = end;
+    }
+    return vals;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int r = from < to ? run(from) : _nruns, row = from; r < _nruns && row < to; r++ ) {
+      final long res = val(r);
+      long l;
+      if( _isLong ) l = res == C8Chunk._NA ? na : res;
+      else { double d = Double.longBitsToDouble(res); l = Double.isNaN(d) ? na : (long)d; }
+      final int end = Math.min(end(r),to);
+      Arrays.fill(vals,row-from,end-from,l);
+      row = end;
+    }
+    return vals;
+  }
+  // Writes succeed in-place only if they do not change the value
+  @Override boolean set_impl(int i, long l) {
+    long res = val(run(i));
+    return _isLong ? (l != C8Chunk._NA && res == l) : Double.longBitsToDouble(res) == l;
+  }
+  @Override boolean set_impl(int i, double d) {
+    if( _isLong ) return (long)d == d && set_impl(i,(long)d);
+    return Double.longBitsToDouble(val(run(i))) == d;
+  }
+  @Override boolean set_impl(int i, float f ) { return set_impl(i,(double)f); }
+  @Override boolean setNA_impl(int idx) { return isNA_impl(idx); }
+  @Override public NewChunk inflate_impl(NewChunk nc) {
+    nc.set_sparseLen(0);
+    nc.set_len(0);
+    int row = 0;
+    for( int r=0; r<_nruns; r++ ) {
+      final long res = val(r);
+      final int end = end(r);
+      if( _isLong ) {
+        for( ; row<end; row++ )
+          if( res == C8Chunk._NA ) nc.addNA();
+          else nc.addNum(res,0);
+      } else {
+        final double d = Double.longBitsToDouble(res);
+        for( ; row<end; row++ )
+          if( Double.isNaN(d) ) nc.addNA();
+          else nc.addNum(d);
+      }
+    }
+    assert row == _len;
+    return nc;
+  }
+  @Override public AutoBuffer write_impl(AutoBuffer bb) { return bb.putA1(_mem,_mem.length); }
+  @Override public CRLChunk read_impl(AutoBuffer bb) {
+    _mem = bb.bufClose();
+    _start = -1;  _cidx = -1;
+    init();
+    return this;
+  }
+}
@@ -11,6 +11,29 @@ public final class CX0Chunk extends CXIChunk {
   @Override protected final long at8_impl(int idx) {return getId(findOffset(idx)) == idx?1:0;}
   @Override protected final double atd_impl(int idx) { return at8_impl(idx); }
   @Override protected final boolean isNA_impl( int i ) { return false; }
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    Arrays.fill(vals,0,to-from,0);
+    for( int off = firstOffset(from); off < _mem.length; off += ridsz() ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      vals[id-from] = 1;
+    }
+    return vals;
+  }
+  @Override int getSparseDoubles_impl(double[] vals, int[] ids) {
+    final int slen = nonzeros(ids);
+    Arrays.fill(vals,0,slen,1);
+    return slen;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    Arrays.fill(vals,0,to-from,0);
+    for( int off = firstOffset(from); off < _mem.length; off += ridsz() ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      vals[id-from] = 1;
+    }
+    return vals;
+  }
   @Override double min() { return 0; }
   @Override double max() { return 1; }
 
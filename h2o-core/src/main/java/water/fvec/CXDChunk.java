@@ -3,6 +3,7 @@ package water.fvec;
 import water.H2O;
 import water.util.UnsafeUtils;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 public class CXDChunk extends CXIChunk {
@@ -33,6 +34,36 @@ public class CXDChunk extends CXIChunk {
     return Double.isNaN(getFValue(off));
   }
 
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    Arrays.fill(vals,0,to-from,0);
+    final int inc = ridsz() + valsz();
+    for( int off = firstOffset(from); off < _mem.length; off += inc ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      vals[id-from] = getFValue(off);
+    }
+    return vals;
+  }
+  @Override int getSparseDoubles_impl(double[] vals, int[] ids) {
+    final int slen = sparseLen(), inc = ridsz() + valsz();
+    for( int i=0, off=_OFF; i<slen; i++, off+=inc ) {
+      ids[i] = getId(off);
+      vals[i] = getFValue(off);
+    }
+    return slen;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    Arrays.fill(vals,0,to-from,0);
+    final int inc = ridsz() + valsz();
+    for( int off = firstOffset(from); off < _mem.length; off += inc ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      double d = getFValue(off);
+      vals[id-from] = Double.isNaN(d) ? na : (long)d;
+    }
+    return vals;
+  }
+
   @Override public NewChunk inflate_impl(NewChunk nc) {
     final int slen = sparseLen();
     nc.set_len(_len);
@@ -4,6 +4,7 @@ import water.AutoBuffer;
 import water.H2O;
 import water.util.UnsafeUtils;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 // Sparse chunk.
@@ -75,6 +76,41 @@ public class CXIChunk extends Chunk {
     return getIValue(off) == NAS[_valsz_log];
   }
 
+  @Override double[] getDoubles_impl(double[] vals, int from, int to) {
+    Arrays.fill(vals,0,to-from,0);
+    final int inc = _ridsz + _valsz;
+    final long na = NAS[_valsz_log];
+    for( int off = firstOffset(from); off < _mem.length; off += inc ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      long v = getIValue(off);
+      vals[id-from] = v == na ? Double.NaN : v;
+    }
+    return vals;
+  }
+  @Override int getSparseDoubles_impl(double[] vals, int[] ids) {
+    final int slen = sparseLen(), inc = _ridsz + _valsz;
+    final long na = NAS[_valsz_log];
+    for( int i=0, off=_OFF; i<slen; i++, off+=inc ) {
+      ids[i] = getId(off);
+      long v = getIValue(off);
+      vals[i] = v == na ? Double.NaN : v;
+    }
+    return slen;
+  }
+  @Override long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    Arrays.fill(vals,0,to-from,0);
+    final int inc = _ridsz + _valsz;
+    final long nav = NAS[_valsz_log];
+    for( int off = firstOffset(from); off < _mem.length; off += inc ) {
+      int id = getId(off);
+      if( id >= to ) break;
+      long v = getIValue(off);
+      vals[id-from] = v == nav ? na : v;
+    }
+    return vals;
+  }
+
   @Override public NewChunk inflate_impl(NewChunk nc) {
     final int slen = sparseLen();
     nc.set_len(_len);
@@ -151,6 +187,14 @@ public class CXIChunk extends Chunk {
     return y;
   }
 
+  // offset of the first stored element with row id >= from, or _mem.length if none
+  protected final int firstOffset(int from) {
+    if( sparseLen() == 0 || from >= _len ) return _mem.length;
+    int off = findOffset(from);
+    if( getId(off) < from ) off += _ridsz + _valsz;
+    return off;
+  }
+
   @Override public final int nextNZ(int rid){
     final int off = rid == -1?_OFF:findOffset(rid);
     int x = getId(off);
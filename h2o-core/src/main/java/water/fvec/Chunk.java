@@ -252,8 +252,8 @@ public abstract class Chunk extends Iced implements Cloneable {
   public final double atd(int i) { return _chk2 == null ? atd_impl(i) : _chk2. atd_impl(i); }
 
   /** Load a {@code long} value using chunk-relative row numbers.  Floating
-   *  point values are silently rounded to a long.  Throws if the value is
-   *  missing.
+   *  point values are silently truncated toward zero, as by a {@code (long)}
+   *  cast.  Throws if the value is missing.
    *  @return long value at the given row, or throw if the value is missing */
   public final long at8(int i) { return _chk2 == null ? at8_impl(i) : _chk2. at8_impl(i); }
 
@@ -277,6 +277,30 @@ public abstract class Chunk extends Iced implements Cloneable {
    *  @return String value or null if missing. */
   public final ValueString atStr(ValueString vstr, int i) { return _chk2 == null ? atStr_impl(vstr,i) : _chk2.atStr_impl(vstr,i); }
 
+  /** Bulk load {@code double} values for chunk-relative rows {@code [from,to)}
+   *  into {@code vals[0..to-from)}; missing values are returned as NaN.  One
+   *  call decodes the whole block in a tight per-encoding loop, instead of a
+   *  virtual {@link #atd} call per row.
+   *  @return the passed-in {@code vals} array */
+  public final double[] getDoubles(double[] vals, int from, int to) {
+    assert 0 <= from && from <= to && to <= _len && vals.length >= to-from;
+    return _chk2 == null ? getDoubles_impl(vals,from,to) : _chk2.getDoubles_impl(vals,from,to);
+  }
+
+  /** Bulk load all rows as {@code double} values; missing values are NaN.
+   *  @return the passed-in {@code vals} array */
+  public final double[] getDoubles(double[] vals) { return getDoubles(vals,0,_len); }
+
+  /** Bulk load {@code long} values for chunk-relative rows {@code [from,to)}
+   *  into {@code vals[0..to-from)}.  Floating point values are silently
+   *  truncated toward zero, as by {@link #at8}; missing values are returned
+   *  as {@code na}.
+   *  @return the passed-in {@code vals} array */
+  public final long[] getIntegers(long[] vals, int from, int to, long na) {
+    assert 0 <= from && from <= to && to <= _len && vals.length >= to-from;
+    return _chk2 == null ? getIntegers_impl(vals,from,to,na) : _chk2.getIntegers_impl(vals,from,to,na);
+  }
+
 
   /** Write a {@code long} using absolute row numbers.  There is no way to
    *  write a missing value with this call.  Under rare circumstances this can
@@ -489,6 +513,17 @@ public abstract class Chunk extends Iced implements Cloneable {
   long at16l_impl(int idx) { throw new IllegalArgumentException("Not a UUID"); }
   long at16h_impl(int idx) { throw new IllegalArgumentException("Not a UUID"); }
   ValueString atStr_impl(ValueString vstr, int idx) { throw new IllegalArgumentException("Not a String"); }
+
+  /** Chunk-specific bulk readers; the defaults fall back to the per-row
+   *  readers, encodings override with a direct decode loop.  Not a public API */
+  double[] getDoubles_impl(double[] vals, int from, int to) {
+    for( int i=from; i<to; i++ ) vals[i-from] = atd_impl(i);
+    return vals;
+  }
+  long[] getIntegers_impl(long[] vals, int from, int to, long na) {
+    for( int i=from; i<to; i++ ) vals[i-from] = isNA_impl(i) ? na : at8_impl(i);
+    return vals;
+  }
   
   /** Chunk-specific writer.  Returns false if the value does not fit in the
    *  current compression scheme.  */
@@ -519,6 +554,28 @@ public abstract class Chunk extends Iced implements Cloneable {
     return _len;
   }
 
+  /** Sparse bulk read: fill {@code ids} with the chunk-relative rows visited
+   *  by {@link #nextNZ} (the stored values for sparse chunks, all rows for
+   *  dense ones) and {@code vals} with their values, NaN if missing.  Sparse
+   *  encodings decode in one pass over the stored values, so the cost is
+   *  proportional to the non-zeros, not to {@link #_len}.  Arrays must be at
+   *  least {@link #sparseLen} long ({@link #_len} if this Chunk has been
+   *  written into).
+   *  @return count of values filled in */
+  public final int getSparseDoubles(double[] vals, int[] ids) {
+    return _chk2 == null ? getSparseDoubles_impl(vals,ids) : _chk2.getSparseDoubles_impl(vals,ids);
+  }
+  int getSparseDoubles_impl(double[] vals, int[] ids) {
+    if( !isSparse() ) {
+      getDoubles_impl(vals,0,_len);
+      for( int i=0; i<_len; i++ ) ids[i] = i;
+      return _len;
+    }
+    int n = 0;
+    for( int i=nextNZ(-1); i<_len; i=nextNZ(i) ) { ids[n] = i; vals[n++] = atd_impl(i); }
+    return n;
+  }
+
   /** Report the Chunk min-value (excluding NAs), or NaN if unknown.  Actual
    *  min can be higher than reported.  Used to short-cut RollupStats for
    *  constant and boolean chunks. */
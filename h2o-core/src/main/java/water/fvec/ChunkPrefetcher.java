@@ -0,0 +1,57 @@
+package water.fvec;
+
+import water.DKV;
+import water.Key;
+
+/**
+ * Hides remote-fetch latency for callers that walk chunks homed elsewhere
+ * (misaligned Vecs, row-index slicing, row-sequential {@link Vec#at} access,
+ * client nodes).  Given the order in which chunks will be used, it starts
+ * non-blocking fetches ({@link DKV#prefetch}) for the next few chunks ahead
+ * of use.  No more than a bounded window is ever started ahead of the
+ * consumer, so a long walk does not flood the network or the local cache.
+ *
+ * <p>Fetches are best-effort: a chunk that has not arrived when it is needed
+ * is fetched as usual, and duplicate fetches of the same Key share one RPC.
+ */
+public final class ChunkPrefetcher {
+  /** Default count of chunks fetched ahead of use. */
+  public static final int WINDOW = 4;
+
+  private final Vec[] _vecs;    // Vecs fetched together, same chunk layout
+  private final int[] _order;   // Chunk indices in order of use
+  private final int _window;
+  private int _issued;          // Next position in _order to start fetching
+
+  private ChunkPrefetcher( Vec[] vecs, int[] order, int window ) {
+    _vecs = vecs;  _order = order;  _window = window;
+  }
+
+  /** Prefetch the given chunk indices of the given Vecs, in the given order. */
+  public static ChunkPrefetcher ofChunks( Vec[] vecs, int[] cidxs, int window ) {
+    return new ChunkPrefetcher(vecs,cidxs,window);
+  }
+
+  /** Note that the chunk at position {@code pos} in the chunk list is about
+   *  to be used, and start fetching the window that follows it. */
+  public void use( int pos ) {
+    final int lim = Math.min(pos+1+_window,_order.length);
+    if( _issued < pos+1 ) _issued = pos+1; // The used chunk is fetched by the caller
+    for( ; _issued < lim; _issued++ )
+      for( Vec v : _vecs ) prefetch(v,_order[_issued]);
+  }
+
+  /** Start fetching all chunks of {@code v} holding rows {@code [lo,hi)};
+   *  used by tasks reading a misaligned Vec over a known row range. */
+  public static void prefetchRows( Vec v, long lo, long hi ) {
+    if( lo >= hi ) return;
+    int c0 = v.elem2ChunkIdx(lo), c1 = v.elem2ChunkIdx(hi-1);
+    for( int c=c0; c<=c1; c++ ) prefetch(v,c);
+  }
+
+  static void prefetch( Vec v, int cidx ) {
+    if( v instanceof WrappedVec ) return; // Chunks are computed, not fetched
+    Key k = v.chunkKey(cidx);
+    if( !k.home() ) DKV.prefetch(k); // Local chunks need no help
+  }
+}
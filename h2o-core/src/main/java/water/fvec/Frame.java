@@ -938,7 +938,7 @@ public class Frame extends Lockable<Frame> {
     vecs[c2.length] = frows.anyVec();
     names[c2.length] = "predicate";
     Frame ff = new Frame(names, vecs);
-    return new DeepSelect().doAll(c2.length,ff).outputFrame(names(c2),domains(c2));
+    return new DeepSelect(frows.anyVec().zoneMap()).doAll(c2.length,ff).outputFrame(names(c2),domains(c2));
   }
 
   // Slice and return in the form of new chunks.
@@ -955,10 +955,15 @@ public class Frame extends Lockable<Frame> {
       long  last_c0 = anyv._espc[last_ci];            // ...         last chunk start
       long  last_c1 = anyv._espc[last_ci + 1];        // ...         last chunk end
       Chunk[] last_cs = new Chunk[vecs.length];       // ...         last chunks
-      for (int c = 0; c < _cols.length; c++) {
+      for (int c = 0; c < _cols.length; c++)
         vecs[c] = _base.vecs()[_cols[c]];
+      // Rows may come from anywhere in the base frame: start fetching the
+      // chunks they live in, in order of use, a few ahead of the copy loop
+      ChunkPrefetcher pf = ChunkPrefetcher.ofChunks(vecs,chunkOrder(ix[0],anyv,last_ci),ChunkPrefetcher.WINDOW);
+      int pos = 0;
+      pf.use(pos);
+      for (int c = 0; c < vecs.length; c++)
         last_cs[c] = vecs[c].chunkForChunkIdx(last_ci);
-      }
       for (int i = 0; i < ix[0]._len; i++) {
         // select one row
         r = ix[0].at8(i);   // next row to select
@@ -970,6 +975,7 @@ public class Frame extends Lockable<Frame> {
             last_ci = anyv.elem2ChunkIdx(r);
             last_c0 = anyv._espc[last_ci];
             last_c1 = anyv._espc[last_ci + 1];
+            pf.use(++pos);
             for (int c = 0; c < vecs.length; c++)
               last_cs[c] = vecs[c].chunkForChunkIdx(last_ci);
           }
@@ -980,6 +986,25 @@ public class Frame extends Lockable<Frame> {
         }
       }
     }
+    // The sequence of base chunk indices the copy loop above switches to,
+    // starting with ci
+    private static int[] chunkOrder(Chunk ix, Vec anyv, int ci) {
+      final long nrow = anyv.length();
+      int[] order = new int[4];
+      int n = 0;
+      order[n++] = ci;
+      long c0 = anyv._espc[ci], c1 = anyv._espc[ci + 1];
+      for (int i = 0; i < ix._len; i++) {
+        long r = ix.at8(i);
+        if (r < 0 || r >= nrow || (c0 <= r && r < c1)) continue;
+        ci = anyv.elem2ChunkIdx(r);
+        c0 = anyv._espc[ci];
+        c1 = anyv._espc[ci + 1];
+        if (n == order.length) order = Arrays.copyOf(order, n<<1);
+        order[n++] = ci;
+      }
+      return Arrays.copyOf(order, n);
+    }
   }
 
 
@@ -1155,6 +1180,13 @@ public class Frame extends Lockable<Frame> {
    *  Last column is a bit vec indicating whether or not to take the row.
    */
   private static class DeepSelect extends MRTask<DeepSelect> {
+    final ZoneMap _zm;          // Zone map of the predicate, or null
+    DeepSelect( ZoneMap zm ) { _zm = zm; }
+    // Predicate chunks that are all zero or all NA select nothing; skip them
+    // without loading any of the selected columns.
+    @Override protected boolean skipChunk( int cidx ) {
+      return _zm != null && (_zm.allNA(cidx) || (_zm.min(cidx) == 0 && _zm.max(cidx) == 0));
+    }
     @Override public void map( Chunk chks[], NewChunk nchks[] ) {
       Chunk pred = chks[chks.length-1];
       for(int i = 0; i < pred._len; ++i) {
@@ -0,0 +1,176 @@
+package water.fvec;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import water.*;
+import water.parser.Categorical;
+
+/** Grow a Frame in place by the rows of another, without rewriting the rows
+ *  it already has: the new rows become extra trailing chunks of the existing
+ *  Vecs, which keep their Keys.
+ *
+ *  <p>Columns are matched by position and must be of the same type; an all-NA
+ *  column may be appended to any column but a String or UUID one.  New
+ *  categorical levels go after the existing ones, so existing rows keep their
+ *  codes and only the appended chunks are recoded.  Rollups and zone maps
+ *  that were already computed are extended from the appended chunks alone,
+ *  except for recoded categorical columns: theirs are dropped and recomputed
+ *  on demand.
+ *
+ *  <p>Appending is refused if another Frame holds any of the Vecs, or if a
+ *  Vec group has members outside the Frame: those would no longer line up
+ *  with the grown Vecs.  The caller holds the write lock on the Frame and
+ *  updates it with the returned Vecs.
+ */
+public final class FrameAppender {
+  private FrameAppender() {}
+
+  /** Append the rows of {@code delta} to {@code fr}.
+   *  @return The grown Vecs of {@code fr}, already in the K/V store */
+  public static Vec[] append( Frame fr, Frame delta ) {
+    final Vec[] vecs = fr.vecs(), dvecs = delta.vecs();
+    final int ncols = vecs.length;
+    if( dvecs.length != ncols )
+      throw new IllegalArgumentException("Cannot append "+dvecs.length+" columns to a frame of "+ncols+" columns");
+    checkUnshared(fr);
+    String[][] domains = new String[ncols][];
+    int[][] maps = new int[ncols][];
+    for( int j=0; j<ncols; j++ ) {
+      Vec v = vecs[j], d = dvecs[j];
+      String name = fr.names()[j];
+      if( v.getClass() != Vec.class )
+        throw new IllegalArgumentException("Column "+name+" cannot be appended to: its values are computed, not stored");
+      if( d._type != v._type && (d._type != Vec.T_BAD || v.isString() || v.isUUID()) )
+        throw new IllegalArgumentException("Column "+name+" is "+v.get_type_str()+" but the appended rows are "+d.get_type_str());
+      domains[j] = v.domain();
+      if( v.isEnum() && d.isEnum() ) {
+        domains[j] = mergeDomains(v.domain(),d.domain(),maps,j);
+        if( domains[j].length > Categorical.MAX_ENUM_SIZE )
+          throw new IllegalArgumentException("Column "+name+" would have more than "+Categorical.MAX_ENUM_SIZE+" levels");
+      }
+    }
+    if( delta.numRows() == 0 ) return vecs;
+
+    // New layout: the delta's chunks after ours
+    final long[] espc = vecs[0]._espc, despc = dvecs[0]._espc;
+    final int n = espc.length-1, m = despc.length-1;
+    final long rows = espc[n];
+    long[] nespc = Arrays.copyOf(espc,n+m+1);
+    for( int i=1; i<=m; i++ ) nespc[n+i] = rows+despc[i];
+
+    // Summaries of the existing rows, fetched before anything changes
+    RollupStats[] rss = new RollupStats[ncols];
+    ZoneMap[] zms = new ZoneMap[ncols];
+    for( int j=0; j<ncols; j++ ) {
+      if( maps[j] != null ) continue;
+      rss[j] = RollupStats.getOrNull(vecs[j]);
+      ZoneMap zm = vecs[j].zoneMap(), dzm = dvecs[j].zoneMap();
+      if( zm != null && dzm != null && zm.nChunks() == n && dzm.nChunks() == m )
+        zms[j] = concat(zm,dzm,nespc);
+    }
+
+    Key[] keys = new Key[ncols];
+    for( int j=0; j<ncols; j++ ) keys[j] = vecs[j]._key;
+    new CopyChunks(keys,maps,n).doAll(delta);
+
+    Futures fs = new Futures();
+    Vec[] nvecs = new Vec[ncols];
+    for( int j=0; j<ncols; j++ ) {
+      Vec v = vecs[j];
+      Vec nv = nvecs[j] = new Vec(v._key,nespc,domains[j],v._type);
+      DKV.put(nv._key,nv,fs);
+      RollupStats rs = rss[j] == null ? null : RollupStats.append(rss[j],dvecs[j],rows,!v.isString() && !v.isUUID());
+      if( rs != null ) DKV.put(nv.rollupStatsKey(),rs,fs);
+      else DKV.remove(nv.rollupStatsKey(),fs);
+      if( zms[j] != null ) DKV.put(nv.zoneMapKey(),zms[j],fs);
+      else DKV.remove(nv.zoneMapKey(),fs);
+    }
+    fs.blockForPending();
+    return nvecs;
+  }
+
+  // Throw if growing the Vecs of fr in place would misalign any other Vec
+  private static void checkUnshared( Frame fr ) {
+    HashSet<Key> keys = new HashSet<>(Arrays.asList(fr.keys()));
+    for( Map.Entry<String,Frame> e : KeySnapshot.globalSnapshot().fetchAll(Frame.class).entrySet() ) {
+      if( e.getKey().equals(fr._key.toString()) ) continue;
+      for( Key k : e.getValue().keys() )
+        if( keys.contains(k) )
+          throw new IllegalArgumentException("Cannot append to frame "+fr._key+": its column "+k+" is also in frame "+e.getKey());
+    }
+    HashSet<Key> groups = new HashSet<>();
+    for( Vec v : fr.vecs() ) {
+      Vec.VectorGroup vg = v.group();
+      if( !groups.add(vg._key) ) continue;
+      Vec.VectorGroup cur = DKV.getGet(vg._key);
+      int len = cur == null ? 1 : cur._len;
+      for( int id=0; id<len; id++ ) {
+        Key k = vg.vecKey(id);
+        if( !keys.contains(k) && DKV.get(k) != null )
+          throw new IllegalArgumentException("Cannot append to frame "+fr._key+": vec "+k+" outside it shares its chunk layout");
+      }
+    }
+  }
+
+  // Existing levels first, then the delta's new ones in its order; fills in
+  // the delta code to merged code mapping
+  private static String[] mergeDomains( String[] dom, String[] ddom, int[][] maps, int j ) {
+    HashMap<String,Integer> codes = new HashMap<>();
+    for( int i=0; i<dom.length; i++ ) codes.put(dom[i],i);
+    String[] merged = Arrays.copyOf(dom,dom.length+ddom.length);
+    int[] map = new int[ddom.length];
+    int len = dom.length;
+    boolean identity = true;
+    for( int i=0; i<ddom.length; i++ ) {
+      Integer c = codes.get(ddom[i]);
+      if( c == null ) codes.put(merged[len] = ddom[i], c = len++);
+      identity &= c == i;
+      map[i] = c;
+    }
+    maps[j] = identity ? null : map;
+    return Arrays.copyOf(merged,len);
+  }
+
+  private static ZoneMap concat( ZoneMap zm, ZoneMap dzm, long[] espc ) {
+    int n = zm.nChunks(), m = dzm.nChunks();
+    double[] mins = Arrays.copyOf(zm._mins,n+m), maxs = Arrays.copyOf(zm._maxs,n+m);
+    long[] nas = Arrays.copyOf(zm._naCnts,n+m);
+    System.arraycopy(dzm._mins,0,mins,n,m);
+    System.arraycopy(dzm._maxs,0,maxs,n,m);
+    System.arraycopy(dzm._naCnts,0,nas,n,m);
+    return new ZoneMap(mins,maxs,nas,espc);
+  }
+
+  // Store each delta chunk as chunk _off+cidx of the matching Vec, recoding
+  // categoricals with a non-trivial mapping
+  private static class CopyChunks extends MRTask<CopyChunks> {
+    final Key[] _keys;
+    final int[][] _maps;
+    final int _off;
+    CopyChunks( Key[] keys, int[][] maps, int off ) { _keys = keys; _maps = maps; _off = off; }
+    @Override public void map( Chunk[] cs ) {
+      final int cidx = _off+cs[0].cidx();
+      for( int j=0; j<cs.length; j++ ) {
+        Chunk c = cs[j], c2;
+        int[] map = _maps[j];
+        if( map == null ) {
+          c2 = (Chunk)c.clone();
+          c2._vec = null;
+          c2._start = -1;
+          c2._cidx = -1;
+          c2._mem = c2._mem.clone();
+        } else {
+          NewChunk nc = new NewChunk(null,cidx);
+          for( int i=0; i<c._len; i++ )
+            if( c.isNA(i) ) nc.addNA();
+            else nc.addNum(map[(int)c.at8(i)],0);
+          c2 = nc.compress();
+        }
+        DKV.put(Vec.chunkKey(_keys[j],cidx),c2,_fs,true);
+      }
+    }
+  }
+}
@@ -6,6 +6,7 @@ import water.H2O;
 import water.MemoryManager;
 import water.parser.ParseTime;
 import water.parser.ValueString;
+import water.util.FastDouble;
 import water.util.PrettyPrint;
 import water.util.UnsafeUtils;
 
@@ -246,6 +247,12 @@ public class NewChunk extends Chunk {
   }
 
   public void addEnum(int e) {append2(e,Integer.MIN_VALUE+1);}
+  /** Rewrite the categorical codes added so far as {@code map[code]} */
+  public void remapEnums(int[] map) {
+    if( _xs == null ) return;   // Switched to doubles or strings: no codes left
+    for( int i = 0; i < sparseLen(); ++i )
+      if( isEnum2(i) ) _ls[i] = map[(int)_ls[i]];
+  }
   public void addNA() {
     if( isUUID() ) addUUID(C16Chunk._LO_NA, C16Chunk._HI_NA);
     else if( isString() ) addStr(null);
@@ -256,7 +263,7 @@ public class NewChunk extends Chunk {
     if( isUUID() || isString() ) addNA();
     else if(_ds != null) {
       assert _ls == null;
-      addNum(val*PrettyPrint.pow10(exp));
+      addNum(FastDouble.toDouble(val,exp));
     } else {
       if( val == 0 ) exp = 0;// Canonicalize zero
       long t;                // Remove extra scaling
@@ -557,7 +564,7 @@ public class NewChunk extends Chunk {
   public Chunk new_close() {
     Chunk chk = compress();
     if(_vec instanceof AppendableVec)
-      ((AppendableVec)_vec).closeChunk(this);
+      ((AppendableVec)_vec).closeChunk(this,chk);
     return chk;
   }
   public void close(Futures fs) { close(_cidx,fs); }
@@ -567,7 +574,7 @@ public class NewChunk extends Chunk {
     double [] ds = MemoryManager.malloc8d(sparseLen());
     for(int i = 0; i < sparseLen(); ++i)
       if(isNA2(i) || isEnum2(i)) ds[i] = Double.NaN;
-      else  ds[i] = _ls[i]*PrettyPrint.pow10(_xs[i]);
+      else  ds[i] = FastDouble.toDouble(_ls[i],_xs[i]);
     _ls = null;
     _xs = null;
     _ds = ds;
@@ -690,7 +697,7 @@ public class NewChunk extends Chunk {
   // Return the data so compressed.
 
   public Chunk compress() {
-    Chunk res = compress2();
+    Chunk res = recompress(compress2());
     // force everything to null after compress to free up the memory
     _id = null;
     _xs = null;
@@ -701,6 +708,86 @@ public class NewChunk extends Chunk {
     return res;
   }
 
+  // Second-level encodings, tried over the Chunk picked by compress2: long
+  // runs of repeated values (CRLChunk), or a small set of distinct doubles
+  // (C1DChunk).  Both are lossless w.r.t. the first choice (they hold exactly
+  // what it decodes to), and are only taken if they at least halve its size.
+  // Both scans quit as soon as that size is out of reach, so a chunk that
+  // does not compress further costs only a prefix scan; a byte-per-row chunk
+  // is only tried for runs, as a dictionary cannot halve it.
+  private static Chunk recompress( Chunk c ) {
+    if( c instanceof C0LChunk || c instanceof C0DChunk || c instanceof C16Chunk ||
+        c instanceof CStrChunk || c.isSparse() ) return c;
+    final int len = c._len;
+    final int budget = c._mem.length>>1;
+    if( len < 2 ) return c;
+    Chunk rle = chunkRLE(c,budget);
+    Chunk dict = c.hasFloat() ? chunkDict(c,budget) : null;
+    if( rle  != null && (dict == null || rle._mem.length <= dict._mem.length) ) return rle;
+    if( dict != null ) return dict;
+    return c;
+  }
+
+  // Run-length encode c, or return null if that does not fit in budget bytes.
+  // Runs are found on raw 8-byte values: longs with C8Chunk's NA for integer
+  // chunks, canonical double bits otherwise.
+  private static Chunk chunkRLE( Chunk c, int budget ) {
+    final int len = c._len;
+    final int maxruns = (budget-CRLChunk._OFF)/(4+8);
+    if( maxruns < 1 ) return null;
+    final boolean isLong = !c.hasFloat();
+    int[]  ends = new int [Math.min(maxruns,16)];
+    long[] vals = new long[ends.length];
+    int nruns = 0;
+    long prev = 0;
+    for( int i=0; i<len; i++ ) {
+      long v = isLong
+        ? (c.isNA(i) ? C8Chunk._NA : c.at8(i))
+        : Double.doubleToLongBits(c.atd(i));
+      if( i > 0 && v == prev ) continue;
+      if( nruns == maxruns ) return null; // Too many runs; not worth it
+      if( nruns == ends.length ) {
+        ends = Arrays.copyOf(ends,Math.min(maxruns,nruns<<1));
+        vals = Arrays.copyOf(vals,ends.length);
+      }
+      if( nruns > 0 ) ends[nruns-1] = i;
+      vals[nruns++] = prev = v;
+    }
+    ends[nruns-1] = len;
+    return CRLChunk.make(len,nruns,ends,vals,isLong);
+  }
+
+  // Dictionary encode c, or return null if there are more than 255 distinct
+  // doubles or the result does not fit in budget bytes.
+  private static Chunk chunkDict( Chunk c, int budget ) {
+    final int len = c._len;
+    if( C1DChunk.bytes(1,len) > budget ) return null;
+    // Open-addressed hash of distinct double bits -> dictionary code
+    final int mask = 511;
+    long[] keys = new long[mask+1];
+    short[] codes = new short[mask+1];
+    Arrays.fill(codes,(short)-1);
+    double[] dict = new double[C1DChunk.MAX_DICT];
+    byte[] bs = MemoryManager.malloc1(len);
+    int ndict = 0;
+    for( int i=0; i<len; i++ ) {
+      double d = c.atd(i);
+      if( Double.isNaN(d) ) { bs[i] = (byte)C1DChunk._NA; continue; }
+      long bits = Double.doubleToRawLongBits(d);
+      int h = (int)(bits^(bits>>>29)^(bits>>>41))&mask;
+      while( codes[h] != -1 && keys[h] != bits ) h = (h+1)&mask;
+      if( codes[h] == -1 ) {
+        if( ndict == C1DChunk.MAX_DICT ) return null;
+        if( C1DChunk.bytes(ndict+1,len) > budget ) return null;
+        keys[h] = bits;
+        codes[h] = (short)ndict;
+        dict[ndict++] = d;
+      }
+      bs[i] = (byte)codes[h];
+    }
+    return C1DChunk.make(dict,ndict,bs,len);
+  }
+
   private static long leRange(long lemin, long lemax){
     if(lemin < 0 && lemax >= (Long.MAX_VALUE + lemin))
       return Long.MAX_VALUE; // if overflow return 64 as the max possible value
@@ -812,7 +899,7 @@ public class NewChunk extends Chunk {
       long t;                   // Remove extra scaling
       while( l!=0 && (t=l/10)*10==l ) { l=t; x++; }
       // Compute per-chunk min/max
-      double d = l*PrettyPrint.pow10(x);
+      double d = FastDouble.toDouble(l,x);
       if( d < min ) { min = d; llo=l; xlo=x; }
       if( d > max ) { max = d; lhi=l; xhi=x; }
       floatOverflow = l < Integer.MIN_VALUE+1 || l > Integer.MAX_VALUE;
@@ -886,6 +973,10 @@ public class NewChunk extends Chunk {
       return chunkD();
     final long leRange = leRange(lemin,lemax);
     if( fpoint ) {
+      // Scaled chunks decode by dividing by an exact 10^-xmin; past that, or
+      // past 2^53, they would not give back the parsed doubles bit-for-bit
+      if( -xmin > 22 || Math.max(Math.abs(lemin),Math.abs(lemax)) >= (1L<<53) )
+        return chunkD();
       if( (int)lemin == lemin && (int)lemax == lemax ) {
         if(leRange < 255) // Fits in scaled biased byte?
           return new C1SChunk( bufX(lemin,xmin,C1SChunk._OFF,0),lemin,PrettyPrint.pow10(xmin));
@@ -983,7 +1074,7 @@ public class NewChunk extends Chunk {
         UnsafeUtils.set2(buf,off,(short)_id[i]);
       else
         UnsafeUtils.set4(buf,off,_id[i]);
-      final double dval = _ds == null?isNA2(i)?Double.NaN:_ls[i]*PrettyPrint.pow10(_xs[i]):_ds[i];
+      final double dval = _ds == null?isNA2(i)?Double.NaN:FastDouble.toDouble(_ls[i],_xs[i]):_ds[i];
       switch(valsz){
         case 4:
           UnsafeUtils.set4f(buf, off + ridsz, (float) dval);
@@ -1034,7 +1125,7 @@ public class NewChunk extends Chunk {
     for(int i = 0; i < _len; ++i){
       double d = 0;
       if(_id == null || _id.length == 0 || (j < _id.length && _id[j] == i)) {
-        d = _ds != null?_ds[j]:(isNA2(j)||isEnum(j))?Double.NaN:_ls[j]*PrettyPrint.pow10(_xs[j]);
+        d = _ds != null?_ds[j]:(isNA2(j)||isEnum(j))?Double.NaN:FastDouble.toDouble(_ls[j],_xs[j]);
         ++j;
       }
       UnsafeUtils.set8d(bs, 8*i, d);
@@ -1182,7 +1273,7 @@ public class NewChunk extends Chunk {
     }
     // if exponent is Integer.MIN_VALUE (for missing value) or >=0, then go the integer path (at8_impl)
     // negative exponents need to be handled right here
-    if( _ds == null ) return isNA2(i) || _xs[i] >= 0 ? at8_impl(i) : _ls[i]*Math.pow(10,_xs[i]);
+    if( _ds == null ) return isNA2(i) || _xs[i] >= 0 ? at8_impl(i) : FastDouble.toDouble(_ls[i],_xs[i]);
     assert _xs==null; return _ds[i];
   }
   @Override protected long at16l_impl(int idx) {
@@ -18,6 +18,10 @@ import java.util.Iterator;
  *  It *does not* guarantee even chunk-node placement.  (This can not currently
  *  be done in H2O, since the placement of chunks is governed only by key-hash
  *  /vector group/ for Vecs)
+ *
+ *  With {@link #setBalanced} the chunks instead get unequal row counts, chosen
+ *  so that each node holds bytes in proportion to its speed and rows stay on
+ *  the node already holding them where possible; see {@link BalancedLayout}.
  */
 public class RebalanceDataSet extends H2O.H2OCountedCompleter {
   final Frame _in;
@@ -27,6 +31,7 @@ public class RebalanceDataSet extends H2O.H2OCountedCompleter {
   final Key _jobKey;
   final transient Vec.VectorGroup _vg;
   transient long [] _espc;
+  boolean _balanced;
 
   /**
    * Constructor for make-compatible task.
@@ -54,6 +59,11 @@ public class RebalanceDataSet extends H2O.H2OCountedCompleter {
     _vg = new Vec.VectorGroup();
   }
 
+  /** Size chunks by bytes and node speed, keeping rows in place where
+   *  possible, instead of by equal row counts.  Ignored when making a Frame
+   *  compatible with another one. */
+  public RebalanceDataSet setBalanced(boolean balanced) { _balanced = balanced; return this; }
+
   public Frame getResult(){join(); return _out;}
 
   @Override public void compute2() {
@@ -63,7 +73,9 @@ public class RebalanceDataSet extends H2O.H2OCountedCompleter {
     // on each one of them.  RebalanceTask will fetch the appropriate training_frame
     // chunks and fetch the data from them.
     long[] espc;
+    Key vkey = _vg.addVec();
     if (_espc != null) espc = _espc;
+    else if (_balanced) espc = BalancedLayout.espc(_in, vkey, _nchunks);
     else {
       int rpc = (int) (_in.numRows() / _nchunks);
       int rem = (int) (_in.numRows() % _nchunks);
@@ -79,7 +91,7 @@ public class RebalanceDataSet extends H2O.H2OCountedCompleter {
       assert espc[espc.length - 1] == _in.numRows() : "unexpected number of rows, expected " + _in.numRows() + ", got " + espc[espc.length - 1];
     }
     final Vec[] srcVecs = _in.vecs();
-    _out = new Frame(_okey,_in.names(), new Vec(_vg.addVec(),espc).makeCons(srcVecs.length,0L,_in.domains(),_in.types()));
+    _out = new Frame(_okey,_in.names(), new Vec(vkey,espc).makeCons(srcVecs.length,0L,_in.domains(),_in.types()));
     _out.delete_and_lock(_jobKey);
     new RebalanceTask(this,srcVecs).asyncExec(_out);
   }
@@ -39,6 +39,8 @@ class RollupStats extends Iced {
   long _rows, _nzCnt, _size, _pinfs, _ninfs;
   boolean _isInt=true;
   double[] _mins, _maxs;
+  // Rows bulk-decoded at a time by the dense-chunk passes
+  private static final int BLK = 1<<10;
 
   // Expensive histogram & percentiles
   // Computed in a 2nd pass, on-demand, by calling computeHisto
@@ -71,7 +73,8 @@ class RollupStats extends Iced {
   private static RollupStats makeComputing() { return new RollupStats(-1); }
   static RollupStats makeMutating () { return new RollupStats(-2); }
 
-  private RollupStats map( Chunk c ) {
+  // Checksum rows as if the chunk started rowOff rows further on
+  private RollupStats map( Chunk c, long rowOff ) {
     _size = c.byteSize();
     Arrays.fill(_mins, Double.MAX_VALUE);
     Arrays.fill(_maxs,-Double.MAX_VALUE);
@@ -81,7 +84,7 @@ class RollupStats extends Iced {
     if (isString) _isInt = false;
     // Checksum support
     long checksum = 0;
-    long start = c._start;
+    long start = c._start+rowOff;
     long l = 81985529216486895L;
 
     // Check for popular easy cases: All Constant
@@ -108,9 +111,11 @@ class RollupStats extends Iced {
       int zs = c._len-c.sparseLen(); // Easy zeros
       int nans = 0;
       // Hard-count sparse-but-zero (weird case of setting a zero over a non-zero)
-      for( int i=c.nextNZ(-1); i< c._len; i=c.nextNZ(i) )
-        if( c.isNA(i) ) nans++;
-        else if( c.at8(i)==0 ) zs++;
+      double[] ds = new double[c.sparseLen()];
+      int n = c.getSparseDoubles(ds,new int[ds.length]);
+      for( int k=0; k<n; k++ )
+        if( Double.isNaN(ds[k]) ) nans++;
+        else if( (long)ds[k]==0 ) zs++;
       int os = c._len-zs-nans;  // Ones
       _nzCnt = os;
       _naCnt = nans;
@@ -124,6 +129,7 @@ class RollupStats extends Iced {
 
 
     // Walk the non-zeros
+    double[] sds = null;  int[] sids = null;  int snz = 0; // Sparse values, kept for the sigma pass
     if( isUUID ) {   // UUID columns do not compute min/max/mean/sigma
       for( int i=c.nextNZ(-1); i< c._len; i=c.nextNZ(i) ) {
         if( c.isNA(i) ) _naCnt++;
@@ -147,28 +153,47 @@ class RollupStats extends Iced {
           checksum ^= (17 * (start+i)) ^ 23*l;
       }
 
-    } else {                    // Numeric
+    } else if( c.isSparse() ) { // Numeric, sparse: walk only the stored values
       double sum = 0;
-      for( int i=c.nextNZ(-1); i< c._len; i=c.nextNZ(i) ) {
-        double d = c.atd(i);
+      sds = new double[c.sparseLen()];
+      sids = new int[sds.length];
+      snz = c.getSparseDoubles(sds,sids);
+      for( int k=0; k<snz; k++ ) {
+        final int i = sids[k];
+        double d = sds[k];
         if( Double.isNaN(d) ) _naCnt++;
         else {                  // All other columns have useful rollups
           l = c.hasFloat()?Double.doubleToRawLongBits(d):c.at8(i);
-          if( d == Double.POSITIVE_INFINITY ) _pinfs++;
-          else if( d == Double.NEGATIVE_INFINITY ) _ninfs++;
-          else {
-            if( d != 0 ) _nzCnt++;
-            min(d);  max(d);
-            sum += d;
-            _rows++;
-            if( _isInt && ((long)d) != d ) _isInt = false;
-          }
+          sum += roll(d);
         }
         if(l != 0) // ignore 0s in checksum to be consistent with sparse chunks
           checksum ^= (17 * (start+i)) ^ 23*l;
       }
       if(Double.isNaN(_mean)) _mean = sum;
       else _mean += sum;
+
+    } else {                    // Numeric, dense: bulk-decode a block at a time
+      double sum = 0;
+      final boolean hasFloat = c.hasFloat();
+      final double[] ds = new double[Math.min(BLK,c._len)];
+      final long[] ls = hasFloat ? null : new long[ds.length];
+      for( int b=0; b<c._len; b+=BLK ) {
+        final int e = Math.min(b+BLK,c._len);
+        c.getDoubles(ds,b,e);
+        if( !hasFloat ) c.getIntegers(ls,b,e,0);
+        for( int i=b; i<e; i++ ) {
+          double d = ds[i-b];
+          if( Double.isNaN(d) ) _naCnt++;
+          else {
+            l = hasFloat?Double.doubleToRawLongBits(d):ls[i-b];
+            sum += roll(d);
+          }
+          if(l != 0) // ignore 0s in checksum to be consistent with sparse chunks
+            checksum ^= (17 * (start+i)) ^ 23*l;
+        }
+      }
+      if(Double.isNaN(_mean)) _mean = sum;
+      else _mean += sum;
     }
     _checksum = checksum;
 
@@ -190,11 +215,26 @@ class RollupStats extends Iced {
       int zeros = c._len - c.sparseLen();
       double sigma = mean*mean*zeros;
       // Handle all non-zero rows
-      for( int i=c.nextNZ(-1); i< c._len; i=c.nextNZ(i) ) {
-        double d = c.atd(i);
-        if( !Double.isNaN(d) ) {
-          d -= mean;
-          sigma += d*d;
+      if( sds != null ) {
+        for( int k=0; k<snz; k++ ) {
+          double d = sds[k];
+          if( !Double.isNaN(d) ) {
+            d -= mean;
+            sigma += d*d;
+          }
+        }
+      } else {
+        final double[] ds = new double[Math.min(BLK,c._len)];
+        for( int b=0; b<c._len; b+=BLK ) {
+          final int n = Math.min(BLK,c._len-b);
+          c.getDoubles(ds,b,b+n);
+          for( int i=0; i<n; i++ ) {
+            double d = ds[i];
+            if( !Double.isNaN(d) ) {
+              d -= mean;
+              sigma += d*d;
+            }
+          }
         }
       }
       _sigma = sigma;
@@ -202,6 +242,20 @@ class RollupStats extends Iced {
     return this;
   }
 
+  // Fold in one non-missing numeric value; returns its contribution to the sum
+  private double roll( double d ) {
+    if( d == Double.POSITIVE_INFINITY ) _pinfs++;
+    else if( d == Double.NEGATIVE_INFINITY ) _ninfs++;
+    else {
+      if( d != 0 ) _nzCnt++;
+      min(d);  max(d);
+      _rows++;
+      if( _isInt && ((long)d) != d ) _isInt = false;
+      return d;
+    }
+    return 0;
+  }
+
   private void reduce( RollupStats rs ) {
     for( double d : rs._mins ) min(d);
     for( double d : rs._maxs ) max(d);
@@ -234,22 +288,57 @@ class RollupStats extends Iced {
         { double tmp = _maxs[i];  _maxs[i] = d;  d = tmp; }
   }
 
+  // Turn the reduced sum of squares into sigma, and blank the extremes past
+  // the row count
+  private void finish() {
+    _sigma = Math.sqrt(_sigma/(_rows-1));
+    if (_rows < 5) for (int i=0; i<5-_rows; i++) {  // Fix PUBDEV-150 for files under 5 rows
+      _maxs[4-i] = Double.NaN;
+      _mins[4-i] = Double.NaN;
+    }
+  }
+
+  /** Rollups of a Vec grown by appending the rows of {@code delta} to its
+   *  first {@code rows} rows, given the ready rollups {@code rs} of those rows.
+   *  Only the appended rows are read.  The histogram and percentiles are left
+   *  to be recomputed on demand.
+   *  @param math False for String and UUID Vecs, which have no min/max */
+  static RollupStats append( RollupStats rs, Vec delta, long rows, boolean math ) {
+    RollupStats all = (RollupStats)rs.clone();
+    all._tsk = null;
+    all._bins = null;
+    Arrays.fill(all._pctiles, Double.NaN);
+    all._checksum ^= rows;      // Undo the length salt
+    // Back from sigma to the sum of squares; one row's sigma is 0/0, but its
+    // sum of squares is 0
+    if( all._rows == 1 && !Double.isNaN(all._mean) ) all._sigma = 0;
+    else if( all._rows > 1 && !Double.isNaN(all._sigma) ) all._sigma = all._sigma*all._sigma*(all._rows-1);
+    if( math ) {                // Reopen the slots blanked for short Vecs
+      for( int i=0; i<all._mins.length; i++ ) if( Double.isNaN(all._mins[i]) ) all._mins[i] = Double.MAX_VALUE;
+      for( int i=0; i<all._maxs.length; i++ ) if( Double.isNaN(all._maxs[i]) ) all._maxs[i] = -Double.MAX_VALUE;
+    }
+    RollupStats drs = new Roll(rows).doAll(delta)._rs;
+    if( drs != null ) all.reduce(drs);
+    all._checksum ^= rows+delta.length();
+    all.finish();
+    return all;
+  }
+
   private static class Roll extends MRTask<Roll> {
     final Key _rskey;
+    final long _rowOff;
     RollupStats _rs;
-    Roll( H2OCountedCompleter cmp, Key rskey ) { super(cmp); _rskey=rskey; }
-    @Override public void map( Chunk c ) { _rs = new RollupStats(0).map(c); }
+    Roll( H2OCountedCompleter cmp, Key rskey ) { super(cmp); _rskey=rskey; _rowOff=0; }
+    // Unfinished rollups of appended rows, for RollupStats.append
+    Roll( long rowOff ) { _rskey=null; _rowOff=rowOff; }
+    @Override public void map( Chunk c ) { _rs = new RollupStats(0).map(c,_rowOff); }
     @Override public void reduce( Roll roll ) { _rs.reduce(roll._rs); }
     @Override public void postGlobal() {
+      if( _rskey == null ) return; // Left unfinished for append
       if( _rs == null )
         _rs = new RollupStats(0);
-      else {
-        _rs._sigma = Math.sqrt(_rs._sigma/(_rs._rows-1));
-        if (_rs._rows < 5) for (int i=0; i<5-_rs._rows; i++) {  // Fix PUBDEV-150 for files under 5 rows
-          _rs._maxs[4-i] = Double.NaN;
-          _rs._mins[4-i] = Double.NaN;
-        }
-      }
+      else
+        _rs.finish();
     }
     // Just toooo common to report always.  Drowning in multi-megabyte log file writes.
     @Override public boolean logVerbose() { return false; }
@@ -312,9 +401,19 @@ class RollupStats extends Iced {
     Histo( H2OCountedCompleter cmp, RollupStats rs, int nbins ) { super(cmp);_base = rs.h_base(); _stride = rs.h_stride(nbins); _nbins = nbins; }
     @Override public void map( Chunk c ) {
       _bins = new long[_nbins];
-      for( int i=c.nextNZ(-1); i< c._len; i=c.nextNZ(i) ) {
-        double d = c.atd(i);
-        if( !Double.isNaN(d) ) _bins[idx(d)]++;
+      if( c.isSparse() ) {
+        final double[] ds = new double[c.sparseLen()];
+        final int n = c.getSparseDoubles(ds,new int[ds.length]);
+        for( int k=0; k<n; k++ )
+          if( !Double.isNaN(ds[k]) ) _bins[idx(ds[k])]++;
+      } else {
+        final double[] ds = new double[Math.min(BLK,c._len)];
+        for( int b=0; b<c._len; b+=BLK ) {
+          final int n = Math.min(BLK,c._len-b);
+          c.getDoubles(ds,b,b+n);
+          for( int i=0; i<n; i++ )
+            if( !Double.isNaN(ds[i]) ) _bins[idx(ds[i])]++;
+        }
       }
       // Sparse?  We skipped all the zeros; do them now
       if( c.isSparse() )
@@ -0,0 +1,55 @@
+package water.fvec;
+
+import water.MemoryManager;
+
+/**
+ * A cursor over the (row, value) pairs of one column at a time from a set of
+ * Chunks (typically the Chunk[] handed to an MRTask map call).  Each column
+ * is bulk-decoded with {@link Chunk#getSparseDoubles}, so walking a sparse
+ * column costs time proportional to its non-zeros rather than to its rows.
+ * Dense columns are walked row by row.  Buffers are reused across columns.
+ *
+ * <p>Typical use:
+ * <pre>{@code
+ *   SparseCursor cur = new SparseCursor(chks);
+ *   for( int col=0; col<chks.length; col++ )
+ *     for( cur.reset(col); cur.next(); )
+ *       work(cur.row(), cur.value());
+ * }</pre>
+ *
+ * Only numeric columns can be walked; missing values are reported as NaN.
+ */
+public final class SparseCursor {
+  private final Chunk[] _chks;
+  private double[] _vals = new double[0];
+  private int[] _ids = new int[0];
+  private int _n, _i;
+
+  public SparseCursor( Chunk[] chks ) { _chks = chks; }
+
+  /** Position the cursor just before the first value of the given column.
+   *  @return this cursor */
+  public SparseCursor reset( int col ) {
+    Chunk c = _chks[col];
+    int sz = c.chk2() == null ? c.sparseLen() : c._len;
+    if( _vals.length < sz ) {
+      _vals = MemoryManager.malloc8d(sz);
+      _ids  = MemoryManager.malloc4 (sz);
+    }
+    _n = c.getSparseDoubles(_vals,_ids);
+    _i = -1;
+    return this;
+  }
+
+  /** Advance to the next value.
+   *  @return false once the column is exhausted */
+  public boolean next() { return ++_i < _n; }
+  /** @return chunk-relative row of the current value */
+  public int row() { return _ids[_i]; }
+  /** @return the current value, NaN if missing */
+  public double value() { return _vals[_i]; }
+  /** @return true if the current value is missing */
+  public boolean isNA() { return Double.isNaN(_vals[_i]); }
+  /** @return count of values in the current column */
+  public int size() { return _n; }
+}
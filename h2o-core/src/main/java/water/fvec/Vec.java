@@ -682,6 +682,9 @@ public class Vec extends Keyed<Vec> {
       RollupStats rs = val.get(RollupStats.class);
       if( rs.isMutating() ) return; // Vector already locked against rollups
     }
+    // First write of this pass.  Per-chunk zone maps are not maintained
+    // under writes; drop them for good.
+    DKV.remove(zoneMapKey());
     // Set rollups to "vector isMutating" atomically.
     new TAtomic<RollupStats>() {
       @Override protected RollupStats atomic(RollupStats rs) {
@@ -747,6 +750,28 @@ public class Vec extends Keyed<Vec> {
     return Key.make(bits);
   }
   Key rollupStatsKey() { return chunkKey(-2); }
+  Key zoneMapKey() { return chunkKey(-3); }
+
+  /** Per-chunk min/max/NA-count metadata, computed when this Vec's chunks
+   *  were built.  Used by row filters to skip chunks that cannot match.
+   *  @return the {@link ZoneMap}, or null if there is none (not a numeric,
+   *  enum or time Vec, not built by an {@link AppendableVec}, or written into
+   *  since) */
+  public ZoneMap zoneMap() {
+    Value val = DKV.get(zoneMapKey());
+    return val == null ? null : val.get(ZoneMap.class);
+  }
+
+  /** Zone maps of several Vecs, fetched in parallel rather than one round
+   *  trip after another.
+   *  @return Per Vec its {@link #zoneMap}, or null; null for a null Vec */
+  public static ZoneMap[] zoneMaps( Vec[] vecs ) {
+    for( Vec v : vecs ) if( v != null ) DKV.prefetch(v.zoneMapKey());
+    ZoneMap[] zms = new ZoneMap[vecs.length];
+    for( int i=0; i<vecs.length; i++ )
+      if( vecs[i] != null ) zms[i] = vecs[i].zoneMap();
+    return zms;
+  }
 
   /** Get a Chunk's Value by index.  Basically the index-to-key map, plus the
    *  {@code DKV.get()}.  Warning: this pulls the data locally; using this call
@@ -840,7 +865,15 @@ public class Vec extends Keyed<Vec> {
    *  @return Chunk for a row# */
   public final Chunk chunkForRow(long i) {
     Chunk c = _cache;
-    return (c != null && c.chk2()==null && c._start <= i && i < c._start+ c._len) ? c : (_cache = chunkForRow_impl(i));
+    if( c != null && c.chk2()==null && c._start <= i && i < c._start+ c._len ) return c;
+    Chunk n = chunkForRow_impl(i);
+    // Stepping into the next chunk looks like a sequential walk: start
+    // fetching the chunks after it, so remote ones arrive before use.
+    if( c != null && n._cidx == c._cidx+1 ) {
+      int lim = Math.min(n._cidx+1+ChunkPrefetcher.WINDOW,nChunks());
+      for( int k=n._cidx+1; k<lim; k++ ) ChunkPrefetcher.prefetch(this,k);
+    }
+    return (_cache = n);
   }
 
   // ======= Direct Data Accessors ======
@@ -999,6 +1032,7 @@ public class Vec extends Keyed<Vec> {
     }
     Key kr = chunkKey(vkey,-2);
     H2O.raw_remove(kr);
+    H2O.raw_remove(chunkKey(vkey,-3));
     H2O.raw_remove(vkey);
   }
 
@@ -1018,6 +1052,7 @@ public class Vec extends Keyed<Vec> {
     new MRTask() {
       @Override public void map(Chunk c0) {
         long srow = c0._start;
+        ChunkPrefetcher.prefetchRows(vec, srow, srow + c0._len); // Misaligned: may span remote chunks
         for (int r = 0; r < c0._len; r++) c0.set(r, vec.at(srow + r));
       }
     }.doAll(avec);
@@ -0,0 +1,71 @@
+package water.fvec;
+
+import water.Iced;
+
+/**
+ * Per-chunk min/max/NA-count metadata ("zone map") for a numeric, enum or
+ * time Vec.  Computed as the chunks of a new Vec are closed, and kept in the
+ * K/V store next to the Vec's rollups (see {@link Vec#zoneMap}).  Any write
+ * into the Vec drops it.
+ *
+ * <p>Row filters use the zone map to decide a chunk's predicate result
+ * without decoding the chunk, and to skip whole chunks that cannot match
+ * without fetching them.
+ */
+public class ZoneMap extends Iced {
+  final double[] _mins, _maxs;  // Per-chunk min/max of the non-NA values; NaN if the chunk is all NA
+  final long[] _naCnts;         // Per-chunk count of NAs
+  final long[] _espc;           // Chunk layout, same as the Vec's
+
+  ZoneMap( double[] mins, double[] maxs, long[] naCnts, long[] espc ) {
+    _mins = mins;  _maxs = maxs;  _naCnts = naCnts;  _espc = espc;
+  }
+
+  /** @return Number of chunks described */
+  public int nChunks() { return _mins.length; }
+  /** @return Smallest non-NA value in chunk {@code cidx}, NaN if all NA */
+  public double min( int cidx ) { return _mins[cidx]; }
+  /** @return Largest non-NA value in chunk {@code cidx}, NaN if all NA */
+  public double max( int cidx ) { return _maxs[cidx]; }
+  /** @return Count of NAs in chunk {@code cidx} */
+  public long naCnt( int cidx ) { return _naCnts[cidx]; }
+  /** @return True if every row of chunk {@code cidx} is NA */
+  public boolean allNA( int cidx ) { return _naCnts[cidx] == _espc[cidx+1]-_espc[cidx]; }
+
+  /** @return False if no non-NA row of chunk {@code cidx} can fall in
+   *  {@code [lo,hi]}; true if some might. */
+  public boolean mayContain( int cidx, double lo, double hi ) {
+    return !allNA(cidx) && _maxs[cidx] >= lo && _mins[cidx] <= hi;
+  }
+
+  // Summarize one chunk: fill in min, max and NA count.  Sparse chunks
+  // only decode their non-zeros.
+  static void summarize( Chunk c, double[] mins, double[] maxs, long[] nas, int cidx ) {
+    double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+    long na = 0;
+    if( c.isSparse() ) {
+      final double[] sds = new double[c.sparseLen()];
+      final int n = c.getSparseDoubles(sds,new int[sds.length]);
+      for( int k=0; k<n; k++ ) {
+        double d = sds[k];
+        if( Double.isNaN(d) ) na++;
+        else { if( d < min ) min = d;  if( d > max ) max = d; }
+      }
+      if( n < c._len ) { if( 0 < min ) min = 0;  if( 0 > max ) max = 0; }
+    } else {
+      final double[] ds = new double[Math.min(c._len,BLK)];
+      for( int b=0; b<c._len; b+=BLK ) {
+        final int n = Math.min(BLK,c._len-b);
+        c.getDoubles(ds,b,b+n);
+        for( int i=0; i<n; i++ ) {
+          double d = ds[i];
+          if( Double.isNaN(d) ) na++;
+          else { if( d < min ) min = d;  if( d > max ) max = d; }
+        }
+      }
+    }
+    if( na == c._len ) min = max = Double.NaN;
+    mins[cidx] = min;  maxs[cidx] = max;  nas[cidx] = na;
+  }
+  private static final int BLK = 1<<10;
+}
@@ -0,0 +1,102 @@
+package water.init;
+
+import water.*;
+import water.util.*;
+
+/** Cluster-wide view of the continuous per-peer traffic counters (see
+ *  {@link PeerStats}).  Unlike {@link NetworkTest} nothing is sent beyond one
+ *  small query per node: the numbers are those of the real workload since
+ *  startup.  All matrices are {@code [from node][to node]}, indexed as
+ *  {@link #nodes}; the diagonal is empty.
+ */
+public class NetworkStats extends Iced {
+  public String[] nodes; //OUTPUT // Nodes
+  public long[][] rpcs; //OUTPUT // Answered RPCs
+  public double[][] rtt_mean_ms; //OUTPUT // Mean RPC round trip, msec
+  public double[][] rtt_p50_ms; //OUTPUT // Median RPC round trip (histogram bucket bound), msec
+  public double[][] rtt_p99_ms; //OUTPUT // 99th percentile RPC round trip (histogram bucket bound), msec
+  public long[][] bytes_sent; //OUTPUT // Bytes sent
+  public long[][] bytes_recv; //OUTPUT // Bytes received
+  public long[][] resends; //OUTPUT // RPC resends after a timeout
+  public long[][] nacks; //OUTPUT // NACKs received: peer still busy with a resent RPC
+  public long[][] tcp_waits; //OUTPUT // Sends that waited for a free TCP socket
+  public long[][] tcp_wait_ms; //OUTPUT // Time spent waiting for a free TCP socket, msec
+  public TwoDimTable table; //OUTPUT
+
+  public NetworkStats execImpl() {
+    H2ONode[] members = H2O.CLOUD._memary;
+    final int n = members.length;
+    // Query all nodes at once; each reports on its links to all the others
+    RPC<GetStats>[] rpcs = new RPC[n];
+    for( int i=0; i<n; i++ ) rpcs[i] = new RPC<>(members[i],new GetStats()).call();
+    PeerStats.Snapshot[][] snaps = new PeerStats.Snapshot[n][];
+    for( int i=0; i<n; i++ ) snaps[i] = rpcs[i].get()._stats;
+
+    nodes = new String[n];
+    for( int i=0; i<n; i++ ) nodes[i] = members[i].toString();
+    this.rpcs = new long[n][n];
+    rtt_mean_ms = new double[n][n];  rtt_p50_ms = new double[n][n];  rtt_p99_ms = new double[n][n];
+    bytes_sent = new long[n][n];  bytes_recv = new long[n][n];
+    resends = new long[n][n];  nacks = new long[n][n];
+    tcp_waits = new long[n][n];  tcp_wait_ms = new long[n][n];
+    for( int i=0; i<n; i++ )
+      for( int j=0; j<n; j++ ) {
+        PeerStats.Snapshot s = snaps[i][j];
+        if( s == null ) continue; // Self
+        this.rpcs[i][j] = s.rpcs();
+        rtt_mean_ms[i][j] = s.meanMs();
+        rtt_p50_ms[i][j] = s.quantileMs(0.5);
+        rtt_p99_ms[i][j] = s.quantileMs(0.99);
+        bytes_sent[i][j] = s._bytesSent;  bytes_recv[i][j] = s._bytesRecv;
+        resends[i][j] = s._resends;  nacks[i][j] = s._nacks;
+        tcp_waits[i][j] = s._tcpWaits;  tcp_wait_ms[i][j] = s._tcpWaitMs;
+      }
+    fillTable();
+    return this;
+  }
+
+  // One row per (from,to) link
+  public void fillTable() {
+    final int n = nodes.length;
+    String[] rowHeaders = new String[n*(n-1)];
+    int r = 0;
+    for( int i=0; i<n; i++ )
+      for( int j=0; j<n; j++ )
+        if( i != j ) rowHeaders[r++] = nodes[i]+" -> "+nodes[j];
+    String[] colHeaders = {"RPCs","Mean RTT (ms)","p50 RTT (ms)","p99 RTT (ms)","Sent","Received","Resends","NACKs","TCP Waits","TCP Wait (ms)"};
+    String[] colTypes   = {"long","double","double","double","string","string","long","long","long","long"};
+    String[] colFormats = {"%d","%.3f","%.3f","%.3f","%s","%s","%d","%d","%d","%d"};
+    table = new TwoDimTable("Network Statistics","Per-link traffic since startup, as seen by the sending node",
+                            rowHeaders,colHeaders,colTypes,colFormats,"Link");
+    r = 0;
+    for( int i=0; i<n; i++ )
+      for( int j=0; j<n; j++ ) {
+        if( i == j ) continue;
+        table.set(r,0,rpcs[i][j]);
+        table.set(r,1,rtt_mean_ms[i][j]);
+        table.set(r,2,rtt_p50_ms[i][j]);
+        table.set(r,3,rtt_p99_ms[i][j]);
+        table.set(r,4,PrettyPrint.bytes(bytes_sent[i][j]));
+        table.set(r,5,PrettyPrint.bytes(bytes_recv[i][j]));
+        table.set(r,6,resends[i][j]);
+        table.set(r,7,nacks[i][j]);
+        table.set(r,8,tcp_waits[i][j]);
+        table.set(r,9,tcp_wait_ms[i][j]);
+        r++;
+      }
+  }
+
+  // Collect one node's counters for every cloud member, in cloud order
+  private static class GetStats extends DTask<GetStats> {
+    PeerStats.Snapshot[] _stats;
+    @Override public void compute2() {
+      H2ONode[] members = H2O.CLOUD._memary;
+      _stats = new PeerStats.Snapshot[members.length];
+      for( int i=0; i<members.length; i++ )
+        if( members[i] != H2O.SELF ) _stats[i] = members[i].stats();
+      tryComplete();
+    }
+    // Answer even when the node is swamped: that is when the numbers matter
+    @Override public byte priority() { return H2O.GUI_PRIORITY; }
+  }
+}
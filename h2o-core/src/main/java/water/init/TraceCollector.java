@@ -0,0 +1,33 @@
+package water.init;
+
+import water.*;
+
+/** Cluster-wide snapshot of the spans recorded by {@link Trace}, one
+ *  {@link Trace.Spans} per node in cloud order.  Nodes that never traced
+ *  (started without {@code -trace_spans}) report no spans.
+ */
+public class TraceCollector extends Iced {
+  public String[] nodes;        // Nodes
+  public Trace.Spans[] spans;   // Spans, per node
+
+  public TraceCollector execImpl() {
+    H2ONode[] members = H2O.CLOUD._memary;
+    final int n = members.length;
+    RPC<GetSpans>[] rpcs = new RPC[n];
+    for( int i=0; i<n; i++ ) rpcs[i] = new RPC<>(members[i],new GetSpans()).call();
+    nodes = new String[n];
+    spans = new Trace.Spans[n];
+    for( int i=0; i<n; i++ ) {
+      nodes[i] = members[i].toString();
+      spans[i] = rpcs[i].get()._spans;
+    }
+    return this;
+  }
+
+  private static class GetSpans extends DTask<GetSpans> {
+    Trace.Spans _spans;
+    @Override public void compute2() { _spans = Trace.snapshot();  tryComplete(); }
+    // A trace is most wanted while the node is busy
+    @Override public byte priority() { return H2O.GUI_PRIORITY; }
+  }
+}
@@ -0,0 +1,259 @@
+package water.parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+import java.util.zip.ZipEntry;
+
+import water.Iced;
+import water.Key;
+import water.MRTask;
+import water.fvec.ByteVec;
+import water.fvec.Chunk;
+import water.util.Log;
+import water.util.UnsafeUtils;
+
+/** Independently decompressible pieces ("segments") of one compressed file,
+ *  so that a single file can be parsed by many cores on many nodes:
+ *  <ul>
+ *  <li>Every entry of a multi-entry zip file, found from the zip's central
+ *  directory.  Each entry is a file of its own, with its own header line.
+ *  <li>Runs of members of a multi-member gzip file, as written by bgzip or
+ *  pigz, or by concatenating gzip files.  A new segment starts at the first
+ *  member beginning in each chunk.  Members may end mid-row, so rows that
+ *  straddle two segments are stitched together; see {@link #open}.
+ *  </ul>
+ *
+ *  Segment {@code s} writes its output chunks from {@link #_slot}{@code [s]}
+ *  on, one per source chunk it spans: the slot is the index of the source
+ *  chunk holding its first byte, plus {@code s}, so that segments sharing a
+ *  source chunk never share an output chunk.  The file therefore takes up to
+ *  {@link #_nslots} output chunks instead of one per source chunk; unused
+ *  ones end up empty.
+ */
+final class CompressedSegments extends Iced {
+  static final byte GZIP=0, STORED=1, DEFLATED=2;
+
+  /** Compressed bytes checked when trying a candidate gzip member header */
+  static final int VERIFY_BYTES = 64*1024;
+
+  // Zip record signatures, sizes and field offsets (see java.util.zip.ZipConstants)
+  private static final int LOCSIG = 0x04034b50, CENSIG = 0x02014b50, ENDSIG = 0x06054b50;
+  private static final int LOCHDR = 30, CENHDR = 46, ENDHDR = 22;
+  private static final int LOCNAM = 26, LOCEXT = 28;
+  private static final int CENFLG = 8, CENHOW = 10, CENSIZ = 20, CENLEN = 24, CENNAM = 28, CENEXT = 30, CENCOM = 32, CENOFF = 42;
+  private static final int ENDSIZ = 12, ENDOFF = 16;
+
+  long[] _off, _end;            // Compressed byte range of each segment
+  byte[] _method;               // How each segment is compressed
+  int[] _chunk;                 // Source chunk holding each segment's first byte
+  int[] _slot;                  // First output chunk of each segment, file relative
+  int _nslots;                  // Output chunks of the whole file
+
+  public CompressedSegments() {}
+  private CompressedSegments( ByteVec vec, long[] off, long[] end, byte[] method ) {
+    _off = off;  _end = end;  _method = method;
+    int n = off.length;
+    _chunk = new int[n];
+    _slot = new int[n];
+    for( int s=0; s<n; s++ ) {
+      _chunk[s] = vec.chunkOfByte(off[s]);
+      _slot[s] = _chunk[s]+s;
+      _nslots = Math.max(_nslots,_slot[s]+vec.chunkOfByte(rawEnd(vec,s)-1)-_chunk[s]+1);
+    }
+  }
+
+  int size() { return _off.length; }
+
+  /** @return The segments of a compressed file, or null if it cannot be
+   *  split into at least two */
+  static CompressedSegments find( ByteVec vec, ZipUtil.Compression cpr ) {
+    try {
+      switch( cpr ) {
+      case ZIP:  return zipEntries(vec);
+      case GZIP: return gzipMembers(vec);
+      default:   return null;
+      }
+    } catch( IOException ioe ) {
+      Log.warn("Cannot split compressed file, decompressing it serially: "+ioe);
+      return null;
+    }
+  }
+
+  /** Open segment {@code s} as a decompressed stream.  With {@code stitch},
+   *  gzip segments other than the first skip their leading partial row, and
+   *  all but the last finish their trailing row from the next segment.
+   *  @param raw The raw stream, from {@link #raw}, for the parser's back-channel */
+  InputStream open( ByteVec vec, int s, InputStream raw, boolean stitch ) throws IOException {
+    switch( _method[s] ) {
+    case STORED:   return raw;
+    case DEFLATED: return new InflaterInputStream(raw,new Inflater(true),1<<16);
+    default:
+      InputStream is = new GZIPInputStream(raw,1<<16);
+      if( !stitch ) return is;
+      if( s > 0 ) while( true ) { int b = is.read(); if( b == -1 || b == '\n' ) break; }
+      return s == size()-1 ? is : new Stitched(is,vec,this,s+1);
+    }
+  }
+
+  /** @return The raw compressed bytes of segment {@code s} */
+  InputStream raw( ByteVec vec, Key jobKey, int s ) { return vec.openStream(jobKey,_off[s],rawEnd(vec,s)); }
+
+  // Raw deflate wants one byte past its end; a zip always has more after it
+  private long rawEnd( ByteVec vec, int s ) {
+    return _method[s] == DEFLATED ? Math.min(vec.length(),_end[s]+1) : _end[s];
+  }
+
+  /** @return Up to {@code n} leading bytes of the decompressed segment {@code s} */
+  byte[] head( ByteVec vec, int s, int n ) throws IOException {
+    InputStream is = open(vec,s,raw(vec,null,s),false);
+    byte[] bs = new byte[n];
+    int off = 0, len;
+    while( off < n && (len = is.read(bs,off,n-off)) != -1 ) off += len;
+    return Arrays.copyOf(bs,off);
+  }
+
+  // A gzip segment followed by the first row of the next segment
+  private static class Stitched extends InputStream {
+    private final InputStream _is;
+    private final ByteVec _vec;
+    private final CompressedSegments _segs;
+    private final int _next;
+    private InputStream _tail;  // Next segment, once _is is drained
+    private boolean _done;
+    Stitched( InputStream is, ByteVec vec, CompressedSegments segs, int next ) { _is = is;  _vec = vec;  _segs = segs;  _next = next; }
+    @Override public int available() throws IOException { return _done ? 0 : Math.max(1,_tail == null ? _is.available() : 0); }
+    @Override public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b,0,1) == -1 ? -1 : b[0]&0xFF;
+    }
+    @Override public int read( byte[] b, int off, int len ) throws IOException {
+      if( _done ) return -1;
+      if( _tail == null ) {
+        int n = _is.read(b,off,len);
+        if( n != -1 ) return n;
+        _tail = _segs.open(_vec,_next,_segs.raw(_vec,null,_next),false);
+      }
+      // Copy the next segment's leading partial row, up to and including '\n'
+      int n = 0, c;
+      while( n < len && (c = _tail.read()) != -1 ) {
+        b[off+n++] = (byte)c;
+        if( c == '\n' ) break;
+      }
+      if( n == 0 || b[off+n-1] == '\n' ) { _done = true;  _tail.close(); }
+      return n == 0 ? -1 : n;
+    }
+  }
+
+  // ------------------------------------------------------------------------
+  // Zip: one segment per non-empty entry, from the central directory.  Null
+  // for zip64, encrypted or exotically compressed entries, or entries out of
+  // file order; such files are decompressed serially as before.
+  private static CompressedSegments zipEntries( ByteVec vec ) throws IOException {
+    long len = vec.length();
+    int tail = (int)Math.min(len,ENDHDR+0xFFFF);
+    byte[] bs = read(vec,len-tail,tail);
+    int eocd = tail-ENDHDR;
+    while( eocd >= 0 && UnsafeUtils.get4(bs,eocd) != ENDSIG ) eocd--;
+    if( eocd < 0 ) return null;
+    long cdSize = UnsafeUtils.get4(bs,eocd+ENDSIZ)&0xFFFFFFFFL;
+    long cdOff  = UnsafeUtils.get4(bs,eocd+ENDOFF)&0xFFFFFFFFL;
+    if( cdOff+cdSize > len ) return null; // Zip64, or not a whole zip
+    byte[] cd = read(vec,cdOff,(int)cdSize);
+    int n = 0;
+    long[] off = new long[4], end = new long[4];
+    byte[] method = new byte[4];
+    for( int p=0; p+CENHDR <= cd.length && UnsafeUtils.get4(cd,p) == CENSIG; ) {
+      int flags = UnsafeUtils.get2(cd,p+CENFLG)&0xFFFF;
+      int how = UnsafeUtils.get2(cd,p+CENHOW)&0xFFFF;
+      long csize = UnsafeUtils.get4(cd,p+CENSIZ)&0xFFFFFFFFL;
+      long usize = UnsafeUtils.get4(cd,p+CENLEN)&0xFFFFFFFFL;
+      int nlen = UnsafeUtils.get2(cd,p+CENNAM)&0xFFFF;
+      long lho = UnsafeUtils.get4(cd,p+CENOFF)&0xFFFFFFFFL;
+      boolean dir = nlen > 0 && cd[p+CENHDR+nlen-1] == '/';
+      p += CENHDR+nlen+(UnsafeUtils.get2(cd,p+CENEXT)&0xFFFF)+(UnsafeUtils.get2(cd,p+CENCOM)&0xFFFF);
+      if( dir || usize == 0 ) continue;
+      if( (flags&1) != 0 || (how != ZipEntry.STORED && how != ZipEntry.DEFLATED) ||
+          csize == 0xFFFFFFFFL || lho == 0xFFFFFFFFL ) return null;
+      byte[] lh = read(vec,lho,LOCHDR);
+      if( UnsafeUtils.get4(lh,0) != LOCSIG ) return null;
+      long o = lho+LOCHDR+(UnsafeUtils.get2(lh,LOCNAM)&0xFFFF)+(UnsafeUtils.get2(lh,LOCEXT)&0xFFFF);
+      if( n > 0 && o < end[n-1] ) return null;
+      if( n == off.length ) { off = Arrays.copyOf(off,n<<1);  end = Arrays.copyOf(end,n<<1);  method = Arrays.copyOf(method,n<<1); }
+      off[n] = o;  end[n] = o+csize;  method[n] = how == ZipEntry.STORED ? STORED : DEFLATED;
+      n++;
+    }
+    return n < 2 ? null : new CompressedSegments(vec,Arrays.copyOf(off,n),Arrays.copyOf(end,n),Arrays.copyOf(method,n));
+  }
+
+  // Gzip: split at the first member starting in each chunk, found in
+  // parallel - but only once the second chunk has one.  An ordinary single
+  // member .gz has none there, and is not scanned any further.
+  private static CompressedSegments gzipMembers( ByteVec vec ) {
+    if( vec.nChunks() < 2 || memberStart(vec,vec.chunkForChunkIdx(1)) == -1 ) return null;
+    long[] starts = new MemberStarts().doAll(vec)._starts;
+    int n = 0;
+    for( long s : starts ) if( s != -1 ) starts[n++] = s;
+    if( n < 2 ) return null;
+    long[] off = Arrays.copyOf(starts,n), end = new long[n];
+    for( int s=0; s<n; s++ ) end[s] = s+1 < n ? off[s+1] : vec.length();
+    return new CompressedSegments(vec,off,end,new byte[n]); // All GZIP
+  }
+
+  // Offset of the first gzip member header in each chunk, or -1
+  private static class MemberStarts extends MRTask<MemberStarts> {
+    long[] _starts;
+    @Override public void map( Chunk c ) {
+      _starts = new long[c.vec().nChunks()];
+      Arrays.fill(_starts,-1);
+      _starts[c.cidx()] = c.cidx() == 0 ? 0 : memberStart((ByteVec)c.vec(),c); // The file starts with one
+    }
+    @Override public void reduce( MemberStarts ms ) {
+      for( int i=0; i<_starts.length; i++ ) _starts[i] = Math.max(_starts[i],ms._starts[i]);
+    }
+  }
+
+  // Offset of the first gzip member header in chunk c of vec, or -1
+  private static long memberStart( ByteVec vec, Chunk c ) {
+    byte[] mem = c.getBytes();
+    for( int i=0; i+3 < mem.length; i++ )
+      // Magic, deflate, no reserved flags: then check it really inflates
+      if( mem[i] == 0x1f && (mem[i+1]&0xFF) == 0x8b && mem[i+2] == 8 && (mem[i+3]&0xE0) == 0 &&
+          inflates(vec,c.start()+i) )
+        return c.start()+i;
+    return -1;
+  }
+
+  // A member header at off, the next VERIFY_BYTES of which inflate cleanly.
+  // A false match within deflated data fails this but for astronomical odds;
+  // should one pass, the split fails the parse loudly rather than corrupt it.
+  private static boolean inflates( ByteVec vec, long off ) {
+    try {
+      InputStream is = new GZIPInputStream(vec.openStream(null,off,Math.min(vec.length(),off+VERIFY_BYTES)));
+      byte[] buf = new byte[1<<14];
+      long n = 0, len;
+      while( n < (VERIFY_BYTES<<4) && (len = is.read(buf)) != -1 ) n += len;
+      return true;
+    } catch( EOFException eof ) {
+      return true;              // Ran out of checked bytes mid-member
+    } catch( ZipException | RuntimeException bad ) {
+      return false;
+    } catch( IOException ioe ) {
+      return false;
+    }
+  }
+
+  private static byte[] read( ByteVec vec, long off, int len ) throws IOException {
+    InputStream is = vec.openStream(null,off,off+len);
+    byte[] bs = new byte[len];
+    int n = 0, r;
+    while( n < len && (r = is.read(bs,n,len-n)) != -1 ) n += r;
+    if( n < len ) throw new EOFException("Truncated compressed file");
+    return bs;
+  }
+}
@@ -5,8 +5,10 @@ import water.exceptions.H2OParseSetupException;
 import water.fvec.Vec;
 import water.fvec.FileVec;
 import water.Key;
+import water.util.UnsafeUtils;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -16,7 +18,12 @@ class CsvParser extends Parser {
   private static final int GUESS_HEADER = ParseSetup.GUESS_HEADER;
   private static final int HAS_HEADER = ParseSetup.HAS_HEADER;
 
-  CsvParser( ParseSetup ps, Key jobKey ) { super(ps, jobKey); }
+  // Frame column of each file column, or -1 for a skipped one; null if none are skipped
+  private final int[] _colMap;
+
+  CsvParser( ParseSetup ps, Key jobKey ) { super(ps, jobKey); _colMap = ps.columnMap(); }
+
+  private boolean skipped(int colIdx) { return _colMap != null && colIdx < _colMap.length && _colMap[colIdx] < 0; }
 
   // Parse this one Chunk (in parallel with other Chunks)
   @SuppressWarnings("fallthrough")
@@ -44,6 +51,7 @@ class CsvParser extends Parser {
 
     int quotes = 0;
     long number = 0;
+    int digits8;  // Value of 8 digits read at once, or -1
     int exp = 0;
     int sgnExp = 1;
     boolean decimal = false;
@@ -83,6 +91,7 @@ MAIN_LOOP:
           if (isEOL(c)) {
             state = EOL;
           } else {
+            offset += plainBytes(bits, offset+1, CHAR_LF, CHAR_LF);
             break;
           }
           continue MAIN_LOOP;
@@ -100,6 +109,10 @@ MAIN_LOOP:
           }
           if (!isEOL(c) && ((quotes != 0) || (c != CHAR_SEPARATOR))) {
             str.addChar();
+            // Take the rest of a long token 8 bytes at a time
+            int n = plainBytes(bits, offset+1, (byte)quotes, quotes != 0 ? CHAR_LF : CHAR_SEPARATOR);
+            str.addChars(n);
+            offset += n;
             break;
           }
           // fallthrough to STRING_END
@@ -108,21 +121,23 @@ MAIN_LOOP:
           if ((c != CHAR_SEPARATOR) && (c == CHAR_SPACE))
             break;
           // we have parsed the string enum correctly
-          if((str.getOffset() + str.length()) > str.getBuffer().length){ // crossing chunk boundary
-            assert str.getBuffer() != bits;
-            str.addBuff(bits);
-          }
-          if( _setup._na_strings != null
-                  && _setup._na_strings.length < colIdx
-                  && _setup._na_strings[colIdx] != null) {
-            for (String s : _setup._na_strings[colIdx]) {
-              if (str.equals(s)) {
-                dout.addInvalidCol(colIdx);
-                break;
-              }
+          if( !skipped(colIdx) ) { // Skipped columns keep nothing
+            if((str.getOffset() + str.length()) > str.getBuffer().length){ // crossing chunk boundary
+              assert str.getBuffer() != bits;
+              str.addBuff(bits);
             }
-          } else
-            dout.addStrCol(colIdx, str);
+            if( _setup._na_strings != null
+                    && _setup._na_strings.length < colIdx
+                    && _setup._na_strings[colIdx] != null) {
+              for (String s : _setup._na_strings[colIdx]) {
+                if (str.equals(s)) {
+                  dout.addInvalidCol(colIdx);
+                  break;
+                }
+              }
+            } else
+              dout.addStrCol(colIdx, str);
+          }
           str.set(null, 0, 0);
           ++colIdx;
           state = SEPARATOR_OR_EOL;
@@ -204,7 +219,7 @@ MAIN_LOOP:
           // fallthrough to TOKEN
         // ---------------------------------------------------------------------
         case TOKEN:
-          if( dout.isString(colIdx) ) { // Forced already to a string col?
+          if( skipped(colIdx) || dout.isString(colIdx) ) { // Skipped, or forced already to a string col?
             state = STRING; // Do not attempt a number parse, just do a string parse
             str.set(bits, offset, 0);
             continue MAIN_LOOP;
@@ -237,7 +252,10 @@ MAIN_LOOP:
         case NUMBER:
           if ((c >= '0') && (c <= '9')) {
             if (number >= LARGEST_DIGIT_NUMBER)  state = NUMBER_SKIP;
-            else  number = (number*10)+(c-'0');
+            else if (number < EIGHT_DIGITS_LIMIT && (digits8 = eightDigits(bits, offset)) >= 0) {
+              number = number*100000000L + digits8;
+              offset += 7;
+            } else  number = (number*10)+(c-'0');
             break;
           } else if (c == CHAR_DECIMAL_SEP) {
             state = NUMBER_FRACTION;
@@ -337,6 +355,9 @@ MAIN_LOOP:
               if (exp == -1) number = -number;
               exp = 0;
               state = NUMBER_SKIP_NO_DOT;
+            } else if (number < EIGHT_DIGITS_LIMIT && (digits8 = eightDigits(bits, offset)) >= 0) {
+              number = number*100000000L + digits8;
+              offset += 7;
             } else {
               number = (number*10)+(c-'0');
             }
@@ -449,6 +470,44 @@ MAIN_LOOP:
     return dout;
   }
 
+  // ==========================================================================
+  // Word-at-a-time scanning: 8 bytes per step on the common runs of plain
+  // token bytes and of digits.  Stops short of the buffer end, where the byte
+  // at a time state machine carries on into the next chunk.
+  private static final long ONES = 0x0101010101010101L, HIGHS = 0x8080808080808080L;
+  private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+  // Below this, 8 more digits cannot take a number to LARGEST_DIGIT_NUMBER
+  private static final long EIGHT_DIGITS_LIMIT = LARGEST_DIGIT_NUMBER/100000000L/10;
+
+  // Non-zero iff some byte of w is zero
+  private static long zeroByte(long w) { return (w - ONES) & ~w & HIGHS; }
+
+  /** @return Number of bytes from {@code off} on, in whole 8-byte words, with
+   *  none of {@code b0}, {@code b1}, CR or LF */
+  private static int plainBytes(byte[] bits, int off, byte b0, byte b1) {
+    final long s0 = (b0&0xFF)*ONES, s1 = (b1&0xFF)*ONES, cr = CHAR_CR*ONES, lf = CHAR_LF*ONES;
+    int i = off;
+    while (i+8 <= bits.length) {
+      long w = UnsafeUtils.get8(bits, i);
+      if ((zeroByte(w^s0) | zeroByte(w^s1) | zeroByte(w^cr) | zeroByte(w^lf)) != 0) break;
+      i += 8;
+    }
+    return i-off;
+  }
+
+  /** @return The value of the 8 digits at {@code off}, or -1 if they are not
+   *  all digits or run off the buffer */
+  private static int eightDigits(byte[] bits, int off) {
+    if (!LITTLE_ENDIAN || off+8 > bits.length) return -1;
+    long w = UnsafeUtils.get8(bits, off);
+    if ((((w + 0x4646464646464646L) | (w - 0x3030303030303030L)) & HIGHS) != 0) return -1;
+    w -= 0x3030303030303030L;   // Digit values, first digit in the low byte
+    w = w*10 + (w>>>8);         // Pairs of digits
+    w = (((w & 0x000000FF000000FFL) * (100 + (1000000L<<32))) +
+         (((w>>>16) & 0x000000FF000000FFL) * (1 + (10000L<<32)))) >>> 32;
+    return (int)w;
+  }
+
   @Override protected int fileHasHeader(byte[] bits, ParseSetup ps) {
     boolean hasHdr = true;
     String[] lines = getFirstLines(bits);
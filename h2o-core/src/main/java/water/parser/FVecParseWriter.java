@@ -3,6 +3,7 @@ package water.parser;
 // ------------------------------------------------------------------------
 
 import water.Futures;
+import water.H2O;
 import water.Iced;
 import water.exceptions.H2OParseException;
 import water.fvec.AppendableVec;
@@ -16,9 +17,13 @@ public class FVecParseWriter extends Iced implements StreamParseWriter {
   protected transient NewChunk[] _nvs;
   protected AppendableVec[]_vecs;
   protected final Categorical [] _enums;
+  // Per-worker dictionaries, merged into _enums on close; null unless -parse_local_enums
+  private transient LocalCategorical[] _local;
   protected transient byte[] _ctypes;
   long _nLines;
   int _nCols;
+  // Frame column of each file column, or -1 for a skipped one; null if none are skipped
+  final int[] _colMap;
   int _col = -1;
   final int _cidx;
   final int _chunkSize;
@@ -29,13 +34,21 @@ public class FVecParseWriter extends Iced implements StreamParseWriter {
   public int nChunks(){return _nChunks;}
 
   public FVecParseWriter(Vec.VectorGroup vg, int cidx, Categorical[] enums, byte[] ctypes, int chunkSize, AppendableVec[] avs){
+    this(vg, cidx, enums, ctypes, chunkSize, avs, null);
+  }
+  /** Writer for the kept columns only: {@code avs} and {@code enums} are by
+   *  frame column, {@code ctypes} and the parser's column indices by file
+   *  column, translated with {@code colMap}. */
+  public FVecParseWriter(Vec.VectorGroup vg, int cidx, Categorical[] enums, byte[] ctypes, int chunkSize, AppendableVec[] avs, int[] colMap){
+    _colMap = colMap;
     if (ctypes != null) _ctypes = ctypes;
-    else _ctypes = new byte[avs.length];
+    else _ctypes = new byte[colMap == null ? avs.length : colMap.length];
     _vecs = avs;
     _nvs = new NewChunk[avs.length];
     for(int i = 0; i < avs.length; ++i)
       _nvs[i] = _vecs[i].chunkForChunkIdx(cidx);
     _enums = enums;
+    if( enums != null && H2O.ARGS.parse_local_enums ) _local = new LocalCategorical[avs.length];
     _nCols = avs.length;
     _cidx = cidx;
     _vg = vg;
@@ -71,12 +84,21 @@ public class FVecParseWriter extends Iced implements StreamParseWriter {
   @Override public FVecParseWriter close(Futures fs){
     ++_nChunks;
     if( _nvs == null ) return this; // Might call close twice
+    if( _local != null )        // Local codes to node-wide ones
+      for( int i = 0; i < _local.length; ++i )
+        if( _local[i] != null ) {
+          _nvs[i].remapEnums(_local[i].merge(_enums[i]));
+          if( _enums[i].isMapFull() )
+            throw new H2OParseException("Exceeded enumeration limit.  Consider reparsing this column as a string.");
+        }
     for(NewChunk nv:_nvs) nv.close(_cidx, fs);
     _nvs = null;  // Free for GC
     return this;
   }
   @Override public FVecParseWriter nextChunk(){
-    return  new FVecParseWriter(_vg, _cidx+1, _enums, _ctypes, _chunkSize, _vecs);
+    FVecParseWriter dout = new FVecParseWriter(_vg, _cidx+1, _enums, _ctypes, _chunkSize, _vecs, _colMap);
+    if( _local != null ) dout._local = _local; // Strings merged already stay merged
+    return dout;
   }
 
   /* never called
@@ -105,24 +127,34 @@ public class FVecParseWriter extends Iced implements StreamParseWriter {
     if(_col >= 0){
       ++_nLines;
       for(int i = _col+1; i < _nCols; ++i)
-        addInvalidCol(i);
+        _nvs[_col = i].addNA();
     }
     _col = -1;
   }
+
+  // Frame column of file column colIdx; -1 if it is skipped or past the last
+  private int outCol(int colIdx) {
+    if( _colMap == null ) return colIdx < _nCols ? colIdx : -1;
+    return colIdx < _colMap.length ? _colMap[colIdx] : -1;
+  }
+
   @Override public void addNumCol(int colIdx, long number, int exp) {
-    if( colIdx < _nCols ) {
-      _nvs[_col = colIdx].addNum(number, exp);
+    int c = outCol(colIdx);
+    if( c >= 0 ) {
+      _nvs[_col = c].addNum(number, exp);
       if(_ctypes[colIdx] == Vec.T_BAD ) _ctypes[colIdx] = Vec.T_NUM;
     }
   }
 
   @Override public final void addInvalidCol(int colIdx) {
-    if(colIdx < _nCols) _nvs[_col = colIdx].addNA();
+    int c = outCol(colIdx);
+    if( c >= 0 ) _nvs[_col = c].addNA();
   }
-  @Override public boolean isString(int colIdx) { return (colIdx < _nCols) && (_ctypes[colIdx] == Vec.T_ENUM || _ctypes[colIdx] == Vec.T_STR);}
+  @Override public boolean isString(int colIdx) { return outCol(colIdx) >= 0 && (_ctypes[colIdx] == Vec.T_ENUM || _ctypes[colIdx] == Vec.T_STR);}
 
   @Override public void addStrCol(int colIdx, ValueString str) {
-    if(colIdx < _nvs.length){
+    int c = outCol(colIdx);
+    if( c >= 0 ){
       if(_ctypes[colIdx] == Vec.T_NUM){ // support enforced types
         addInvalidCol(colIdx);
         return;
@@ -141,15 +173,24 @@ public class FVecParseWriter extends Iced implements StreamParseWriter {
         }
       } else if( _ctypes[colIdx] == Vec.T_UUID ) { // UUID column?  Only allow UUID parses
         long[] uuid = ParseUUID.attemptUUIDParse(str);
-        // FIXME: what if colIdx > _nCols
-        if( colIdx < _nCols ) _nvs[_col = colIdx].addUUID(uuid[0], uuid[1]);
+        _nvs[_col = c].addUUID(uuid[0], uuid[1]);
       } else if( _ctypes[colIdx] == Vec.T_STR ) {
-        _nvs[_col = colIdx].addStr(str);
+        _nvs[_col = c].addStr(str);
       } else { // Enums
-        if(!_enums[colIdx].isMapFull()) {
-          int id = _enums[_col = colIdx].addKey(str);
+        if( _local != null ) {
+          LocalCategorical lc = _local[_col = c];
+          if( lc == null ) lc = _local[c] = new LocalCategorical();
+          int n = lc.size();
+          int id = lc.addKey(str);
+          // A second distinct string, here or elsewhere on this node, makes it an enum column
+          if( _ctypes[colIdx] == Vec.T_BAD && id > n && (id > 1 || _enums[c].size() > 1) ) _ctypes[colIdx] = Vec.T_ENUM;
+          if( id > Categorical.MAX_ENUM_SIZE )
+            throw new H2OParseException("Exceeded enumeration limit.  Consider reparsing this column as a string.");
+          _nvs[c].addEnum(id);
+        } else if(!_enums[c].isMapFull()) {
+          int id = _enums[_col = c].addKey(str);
           if (_ctypes[colIdx] == Vec.T_BAD && id > 1) _ctypes[colIdx] = Vec.T_ENUM;
-          _nvs[colIdx].addEnum(id);
+          _nvs[c].addEnum(id);
         } else { // maxed out enum map
           throw new H2OParseException("Exceeded enumeration limit.  Consider reparsing this column as a string.");
         }
@@ -0,0 +1,92 @@
+package water.parser;
+
+import java.util.Arrays;
+
+/** One parse worker's private dictionary of a categorical column's strings,
+ *  used instead of interning every token in the node-shared {@link
+ *  Categorical} when running with {@code -parse_local_enums}.
+ *
+ *  Tokens get dense local codes from 1 on, from an open-addressing table
+ *  over a single byte arena - no locking and no allocation per token.  When
+ *  the output chunk is closed, {@link #merge} interns each new string once in
+ *  the shared Categorical and returns the local to node-wide code mapping the
+ *  chunk's codes are rewritten with.  A dictionary carries over to the next
+ *  chunk of a streamed parse, so strings already merged cost nothing more.
+ *
+ *  Not thread safe: owned by one {@link FVecParseWriter}.
+ */
+final class LocalCategorical {
+  private byte[] _bytes = new byte[1<<10]; // All strings, back to back
+  private int _nbytes;
+  private int[] _off = new int[16], _len = new int[16], _hash = new int[16]; // Per code; code 0 unused
+  private int[] _ids = new int[16]; // Node-wide code of each merged local code
+  private int[] _table = new int[32]; // Open addressing, power of 2 size: local code, or 0 for empty
+  private int _n;               // Number of strings; the largest local code
+  private int _merged;          // Codes up to here are in _ids
+
+  int size() { return _n; }
+
+  /** @return The local code of {@code str}, adding it if new */
+  int addKey( ValueString str ) {
+    byte[] buf = str.getBuffer();
+    int off = str.getOffset(), len = str.length();
+    int h = hash(buf,off,len);
+    int mask = _table.length-1;
+    for( int i = h&mask; ; i = (i+1)&mask ) {
+      int c = _table[i];
+      if( c == 0 ) return insert(i,h,buf,off,len);
+      if( _hash[c] == h && _len[c] == len && equals(_off[c],buf,off,len) ) return c;
+    }
+  }
+
+  private int insert( int slot, int h, byte[] buf, int off, int len ) {
+    int c = ++_n;
+    if( c == _off.length ) {
+      _off = Arrays.copyOf(_off,c<<1);  _len = Arrays.copyOf(_len,c<<1);
+      _hash = Arrays.copyOf(_hash,c<<1);  _ids = Arrays.copyOf(_ids,c<<1);
+    }
+    if( _nbytes+len > _bytes.length ) _bytes = Arrays.copyOf(_bytes,Math.max(_bytes.length<<1,_nbytes+len));
+    System.arraycopy(buf,off,_bytes,_nbytes,len);
+    _off[c] = _nbytes;  _len[c] = len;  _hash[c] = h;
+    _nbytes += len;
+    _table[slot] = c;
+    if( (c<<1) > _table.length ) rehash(); // Keep at most half full
+    return c;
+  }
+
+  private void rehash() {
+    int[] table = new int[_table.length<<1];
+    int mask = table.length-1;
+    for( int c=1; c<=_n; c++ ) {
+      int i = _hash[c]&mask;
+      while( table[i] != 0 ) i = (i+1)&mask;
+      table[i] = c;
+    }
+    _table = table;
+  }
+
+  private boolean equals( int at, byte[] buf, int off, int len ) {
+    for( int i=0; i<len; i++ )
+      if( _bytes[at+i] != buf[off+i] ) return false;
+    return true;
+  }
+
+  // Same bytes as ValueString.hashCode, spread for a power-of-2 table
+  private static int hash( byte[] buf, int off, int len ) {
+    int h = 0;
+    for( int i=off; i<off+len; i++ ) h = 31*h + buf[i];
+    h *= 0x9E3779B9;
+    return h^(h>>>16);
+  }
+
+  /** Intern the strings added since the last merge into the node-shared
+   *  {@code enums}.
+   *  @return Node-wide code per local code */
+  int[] merge( Categorical enums ) {
+    ValueString vs = new ValueString();
+    for( int c=_merged+1; c<=_n; c++ )
+      _ids[c] = enums.addKey(vs.set(_bytes,_off[c],_len[c]));
+    _merged = _n;
+    return _ids;
+  }
+}
@@ -48,6 +48,42 @@ public final class ParseDataset extends Job<Frame> {
     return job;
   }
 
+  /** Parse {@code keys} and append their rows to the existing Frame {@code
+   *  dest} in place, as new chunks of its Vecs (see {@link FrameAppender}):
+   *  only the new data is parsed and moved.  The parsed columns (less any
+   *  skipped ones) line up with the Frame's by position, and are parsed as
+   *  the Frame's column types.
+   *  @return The grown Frame */
+  public static Frame append(Key dest, Key[] keys, boolean deleteOnDone, ParseSetup setup) {
+    Frame fr = DKV.getGet(dest);
+    if( fr == null )
+      throw new H2OIllegalArgumentException("Missing data","Did not find any frame under key " + dest);
+    if( setup.numOutputColumns() != fr.numCols() )
+      throw new IllegalArgumentException("Parsed data has "+setup.numOutputColumns()+" columns, but frame "+dest+" has "+fr.numCols());
+    setup = new ParseSetup(setup);
+    int[] colMap = setup.columnMap();
+    byte[] ctypes = setup._column_types == null ? new byte[setup._number_columns] : Arrays.copyOf(setup._column_types,setup._number_columns);
+    Vec[] vecs = fr.vecs();
+    for( int i=0; i<ctypes.length; i++ ) {
+      int c = colMap == null ? i : colMap[i];
+      if( c >= 0 && vecs[c].get_type() != Vec.T_BAD ) ctypes[i] = vecs[c].get_type();
+    }
+    setup._column_types = ctypes;
+    Frame delta = parse(Key.make(), keys, deleteOnDone, setup);
+    try {
+      fr.write_lock(null);
+      try {
+        fr = new Frame(dest, fr.names(), FrameAppender.append(fr, delta));
+        fr.update(null);
+      } finally {
+        fr.unlock(null);
+      }
+    } finally {
+      delta.delete();
+    }
+    return fr;
+  }
+
   // Allow both ByteVec keys and Frame-of-1-ByteVec
   static ByteVec getByteVec(Key key) {
     Iced ice = DKV.getGet(key);
@@ -81,6 +117,15 @@ public final class ParseDataset extends Job<Frame> {
     for( String x : conflictingNames )
     if ( !x.equals(""))
       throw new IllegalArgumentException("Found duplicate column name "+x);
+    if( setup._skipped_columns != null ) {
+      if( setup._parse_type == ParserType.SVMLight && setup._skipped_columns.length > 0 )
+        throw new IllegalArgumentException("Skipping columns is not supported for SVMLight files");
+      for( int c : setup._skipped_columns )
+        if( c < 0 || c >= setup._number_columns )
+          throw new IllegalArgumentException("Skipped column "+c+" is not in the range 0 to "+(setup._number_columns-1));
+      if( setup.numOutputColumns() == 0 )
+        throw new IllegalArgumentException("All columns are skipped");
+    }
     // Some quick sanity checks: no overwriting your input key, and a resource check.
     long totalParseSize=0;
     for( int i=0; i<keys.length; i++ ) {
@@ -210,12 +255,14 @@ public final class ParseDataset extends Job<Frame> {
     job.update(0, "Ingesting files.");
     VectorGroup vg = getByteVec(fkeys[0]).group();
     MultiFileParseTask mfpt = job._mfpt = new MultiFileParseTask(vg,setup,job._key,fkeys,deleteOnDone);
+    long t0 = Trace.start();
     mfpt.doAll(fkeys);
+    Trace.end(Trace.PARSE,"ingest",job.dest(),t0,fkeys.length);
     Log.trace("Done ingesting files.");
     if ( job.isCancelledOrCrashed()) return;
 
     final AppendableVec [] avs = mfpt.vecs();
-    setup._column_names = getColumnNames(avs.length, setup._column_names);
+    setup._column_names = getColumnNames(avs.length, setup.outputColumnNames());
 
     Frame fr = null;
     // Calculate enum domain
@@ -228,6 +275,7 @@ public final class ParseDataset extends Job<Frame> {
     final int[] ecols = Arrays.copyOf(ecols2, n);
     // If we have any, go gather unified enum domains
     if( n > 0 ) {
+      t0 = Trace.start();
       EnumFetchTask eft = new EnumFetchTask(mfpt._eKey, ecols).doAllNodes();
       final Categorical[] enums = eft._gEnums;
       final ValueString[][] ds = new ValueString[ecols.length][];
@@ -266,11 +314,14 @@ public final class ParseDataset extends Job<Frame> {
         }
         emaps[nodeId] = new EnumMapping(emap);
       }
+      Trace.end(Trace.PARSE,"categorical domains",job.dest(),t0,ecols.length);
       // Check for job cancellation
       if ( job.isCancelledOrCrashed()) return;
 
       job.update(0,"Compressing data.");
+      t0 = Trace.start();
       fr = new Frame(job.dest(), setup._column_names,AppendableVec.closeAll(avs));
+      Trace.end(Trace.PARSE,"compress",job.dest(),t0,avs.length);
       Log.trace("Done closing all Vecs.");
 
       // Check for job cancellation
@@ -294,12 +345,16 @@ public final class ParseDataset extends Job<Frame> {
       // Update enums to the globally agreed numbering
       Vec[] evecs = new Vec[j];
       for( int i = 0; i < evecs.length; ++i ) evecs[i] = fr.vecs()[ecols[i]];
+      t0 = Trace.start();
       new EnumUpdateTask(ds, emaps, mfpt._chunk2Enum).doAll(evecs);
+      Trace.end(Trace.PARSE,"unify categoricals",job.dest(),t0,evecs.length);
       Log.trace("Done unifying categoricals across nodes.");
 
     } else {                    // No enums case
       job.update(0,"Compressing data.");
+      t0 = Trace.start();
       fr = new Frame(job.dest(), setup._column_names,AppendableVec.closeAll(avs));
+      Trace.end(Trace.PARSE,"compress",job.dest(),t0,avs.length);
       Log.trace("Done closing all Vecs.");
     }
     // Check for job cancellation
@@ -314,7 +369,9 @@ public final class ParseDataset extends Job<Frame> {
       for( String err : mfpt._errors )
         Log.warn(err);
     job.update(0,"Calculating data summary.");
+    t0 = Trace.start();
     logParseResults(job, fr);
+    Trace.end(Trace.PARSE,"summary",job.dest(),t0,-1);
     // Release the frame for overwriting
     fr.update(job._key);
     Frame fr2 = DKV.getGet(fr._key);
@@ -475,6 +532,8 @@ public final class ParseDataset extends Job<Frame> {
     private final Key _jobKey;
     // A mapping of Key+ByteVec to rolling total Chunk counts.
     private final int[]  _fileChunkOffsets;
+    // Independently decompressible pieces of each compressed file, or null
+    private final CompressedSegments[] _segments;
 
     // OUTPUT fields:
     FVecParseWriter[] _dout;
@@ -483,16 +542,21 @@ public final class ParseDataset extends Job<Frame> {
     int _reservedKeys;
     MultiFileParseTask(VectorGroup vg,  ParseSetup setup, Key jobKey, Key[] fkeys, boolean deleteOnDone ) {
       _vg = vg; _parseSetup = setup;
-      _vecIdStart = _vg.reserveKeys(_reservedKeys = _parseSetup._parse_type == ParserType.SVMLight ? 100000000 : setup._number_columns);
+      _vecIdStart = _vg.reserveKeys(_reservedKeys = _parseSetup._parse_type == ParserType.SVMLight ? 100000000 : setup.numOutputColumns());
       _deleteOnDone = deleteOnDone;
       _jobKey = jobKey;
 
       // A mapping of Key+ByteVec to rolling total Chunk counts.
       _fileChunkOffsets = new int[fkeys.length];
+      _segments = new CompressedSegments[fkeys.length];
       int len = 0;
       for( int i = 0; i < fkeys.length; ++i ) {
+        ByteVec vec = getByteVec(fkeys[i]);
+        if( setup._parse_type._parallelParseSupported )
+          _segments[i] = CompressedSegments.find(vec,ZipUtil.guessCompressionMethod(vec.getFirstBytes()));
         _fileChunkOffsets[i] = len;
-        len += getByteVec(fkeys[i]).nChunks();
+        // A split file takes one output chunk per source chunk of each segment
+        len += _segments[i] == null ? vec.nChunks() : _segments[i]._nslots;
       }
 
       // Mapping from Chunk# to cluster-node-number
@@ -523,9 +587,10 @@ public final class ParseDataset extends Job<Frame> {
       for(FVecParseWriter dout:_dout)
         nCols = Math.max(dout._vecs.length,nCols);
       AppendableVec [] res = new AppendableVec[nCols];
-      int nchunks = 0;
+      int nchunks = 0;          // Files may leave unused chunks; size by the last one used
       for(FVecParseWriter dout:_dout)
-        nchunks += dout.nChunks();
+        for(AppendableVec av:dout._vecs)
+          nchunks = Math.max(nchunks,av._chunkOff+av._tmp_espc.length);
       long [] espc = MemoryManager.malloc8(nchunks);
       for(int i = 0; i < res.length; ++i) {
         res[i] = new AppendableVec(_vg.vecKey(_vecIdStart + i), espc, 0);
@@ -573,13 +638,13 @@ public final class ParseDataset extends Job<Frame> {
     }
 
     private FVecParseWriter makeDout(ParseSetup localSetup, int chunkOff, int nchunks) {
-      AppendableVec [] avs = new AppendableVec[localSetup._number_columns];
+      AppendableVec [] avs = new AppendableVec[localSetup.numOutputColumns()];
       long [] espc = MemoryManager.malloc8(nchunks);
       for(int i = 0; i < avs.length; ++i)
         avs[i] = new AppendableVec(_vg.vecKey(i + _vecIdStart), espc, chunkOff);
       return localSetup._parse_type == ParserType.SVMLight
         ?new SVMLightFVecParseWriter(_vg, _vecIdStart,chunkOff, _parseSetup._chunk_size, avs)
-        :new FVecParseWriter(_vg, chunkOff, enums(_eKey,localSetup._number_columns), localSetup._column_types, _parseSetup._chunk_size, avs);
+        :new FVecParseWriter(_vg, chunkOff, enums(_eKey,avs.length), localSetup._column_types, _parseSetup._chunk_size, avs, localSetup.columnMap());
     }
 
     // Called once per file
@@ -598,6 +663,20 @@ public final class ParseDataset extends Job<Frame> {
 
       // Parse the file
       try {
+        CompressedSegments segs = _segments[_lo];
+        if( segs != null ) {    // Decompress and parse the pieces in parallel
+          SegmentedParse sp = new SegmentedParse(_vg, localSetup, _parseSetup._check_header == ParseSetup.HAS_HEADER, _vecIdStart, chunkStartIdx, this, key, segs);
+          addToPendingCount(1);
+          sp.setCompleter(this);
+          sp.asyncExec(vec);
+          for( int s = 0; s < segs.size(); ++s ) {
+            int home = vec.chunkKey(segs._chunk[s]).home_node().index();
+            int end = s+1 < segs.size() ? segs._slot[s+1] : segs._nslots;
+            for( int i = segs._slot[s]; i < end; ++i )
+              _chunk2Enum[chunkStartIdx + i] = home;
+          }
+          return;
+        }
         switch( cpr ) {
         case NONE:
           if( _parseSetup._parse_type._parallelParseSupported ) {
@@ -717,7 +796,7 @@ public final class ParseDataset extends Job<Frame> {
       }
       @Override public void map( Chunk in ) {
         if (((Job)DKV.getGet(_jobKey)).isCancelledOrCrashed()) return;
-        AppendableVec [] avs = new AppendableVec[_setup._number_columns];
+        AppendableVec [] avs = new AppendableVec[_setup.numOutputColumns()];
         for(int i = 0; i < avs.length; ++i)
           avs[i] = new AppendableVec(_vg.vecKey(_vecIdStart + i), _espc, _startChunkIdx);
         // Break out the input & output vectors before the parse loop
@@ -727,9 +806,9 @@ public final class ParseDataset extends Job<Frame> {
         switch(_setup._parse_type) {
           case ARFF:
           case CSV:
-            Categorical [] enums = enums(_eKey,_setup._number_columns);
+            Categorical [] enums = enums(_eKey,avs.length);
             p = new CsvParser(_setup, _jobKey);
-            dout = new FVecParseWriter(_vg,_startChunkIdx + in.cidx(), enums, _setup._column_types, _setup._chunk_size, avs); //TODO: use _setup._domains instead of enums
+            dout = new FVecParseWriter(_vg,_startChunkIdx + in.cidx(), enums, _setup._column_types, _setup._chunk_size, avs, _setup.columnMap()); //TODO: use _setup._domains instead of enums
           break;
         case SVMLight:
           p = new SVMLightParser(_setup, _jobKey);
@@ -772,24 +851,107 @@ public final class ParseDataset extends Job<Frame> {
         super.postGlobal();
         _outerMFPT._dout[_outerMFPT._lo] = _dout;
         _dout = null;           // Reclaim GC eagerly
-        // For Big Data, must delete data as eagerly as possible.
-        Value val = DKV.get(_srckey);
-        if( val == null ) return;
-        Iced ice = val.get();
-        if( ice instanceof ByteVec ) {
-          if( _outerMFPT._deleteOnDone) ((ByteVec)ice).remove();
-        } else {
-          Frame fr = (Frame)ice;
-          if( _outerMFPT._deleteOnDone) fr.delete(_outerMFPT._jobKey,new Futures()).blockForPending();
-          else if( fr._key != null ) fr.unlock(_outerMFPT._jobKey);
+        _outerMFPT.sourceParsed(_srckey);
+      }
+    }
+
+    // For Big Data, must delete data as eagerly as possible.
+    private void sourceParsed( Key srckey ) {
+      Value val = DKV.get(srckey);
+      if( val == null ) return;
+      Iced ice = val.get();
+      if( ice instanceof ByteVec ) {
+        if( _deleteOnDone) ((ByteVec)ice).remove();
+      } else {
+        Frame fr = (Frame)ice;
+        if( _deleteOnDone) fr.delete(_jobKey,new Futures()).blockForPending();
+        else if( fr._key != null ) fr.unlock(_jobKey);
+      }
+    }
+
+    // ------------------------------------------------------------------------
+    // Compressed file in independently decompressible pieces (see
+    // CompressedSegments): each piece is decompressed and stream-parsed on the
+    // home node of the chunk holding its first byte, into its own range of
+    // output chunks.
+    private static class SegmentedParse extends MRTask<SegmentedParse> {
+      private final ParseSetup _setup;
+      private final boolean _checkHeader; // Check each zip entry for a header
+      private final int _vecIdStart;
+      private final int _startChunkIdx; // for multifile parse, offset of the first chunk in the final dataset
+      private final VectorGroup _vg;
+      private final CompressedSegments _segs;
+      private FVecParseWriter _dout;
+      private final Key _eKey;  // Parse-local-Enums key
+      private final Key _jobKey;
+      private transient final MultiFileParseTask _outerMFPT;
+      private transient final Key _srckey; // Source/text file to delete on done
+      private transient long [] _espc;
+
+      SegmentedParse(VectorGroup vg, ParseSetup setup, boolean checkHeader, int vecIdstart, int startChunkIdx, MultiFileParseTask mfpt, Key srckey, CompressedSegments segs) {
+        super(mfpt);
+        _vg = vg;
+        _setup = setup;
+        _checkHeader = checkHeader;
+        _vecIdStart = vecIdstart;
+        _startChunkIdx = startChunkIdx;
+        _outerMFPT = mfpt;
+        _eKey = mfpt._eKey;
+        _jobKey = mfpt._jobKey;
+        _srckey = srckey;
+        _segs = segs;
+      }
+      @Override public void setupLocal(){
+        super.setupLocal();
+        _espc = MemoryManager.malloc8(_segs._nslots);
+      }
+      @Override public void map( Chunk in ) {
+        ByteVec vec = (ByteVec)in.vec();
+        for( int s = 0; s < _segs.size(); ++s ) {
+          if( _segs._chunk[s] != in.cidx() ) continue;
+          if (((Job)DKV.getGet(_jobKey)).isCancelledOrCrashed()) return;
+          ParseSetup setup = new ParseSetup(_setup);
+          try {
+            if( s > 0 ) { // The first piece was checked with the whole file
+              if( _segs._method[s] == CompressedSegments.GZIP ) setup._check_header = ParseSetup.NO_HEADER;
+              else if( _checkHeader ) setup._check_header = setup.parser(_jobKey).fileHasHeader(_segs.head(vec,s,setup._chunk_size),setup);
+            }
+            InputStream bvs = _segs.raw(vec,_jobKey,s);
+            FVecParseWriter dout = makeDout(setup,_startChunkIdx + _segs._slot[s]);
+            setup.parser(_jobKey).streamParseZip(_segs.open(vec,s,bvs,true),dout,bvs);
+            dout.close(_fs);
+            if( _dout == null ) _dout = dout;
+            else _dout.reduce(dout);
+          } catch( IOException ioe ) {
+            throw new RuntimeException(ioe);
+          }
         }
       }
+      private FVecParseWriter makeDout(ParseSetup setup, int cidx) {
+        AppendableVec [] avs = new AppendableVec[setup.numOutputColumns()];
+        for(int i = 0; i < avs.length; ++i)
+          avs[i] = new AppendableVec(_vg.vecKey(_vecIdStart + i), _espc, _startChunkIdx);
+        return setup._parse_type == ParserType.SVMLight
+          ?new SVMLightFVecParseWriter(_vg, _vecIdStart, cidx, setup._chunk_size, avs)
+          :new FVecParseWriter(_vg, cidx, enums(_eKey,avs.length), setup._column_types, setup._chunk_size, avs, setup.columnMap());
+      }
+      @Override public void reduce(SegmentedParse sp) {
+        if( _dout == null ) _dout = sp._dout;
+        else if( sp._dout != null ) _dout.reduce(sp._dout);
+      }
+
+      @Override public void postGlobal() {
+        super.postGlobal();
+        _outerMFPT._dout[_outerMFPT._lo] = _dout;
+        _dout = null;           // Reclaim GC eagerly
+        _outerMFPT.sourceParsed(_srckey);
+      }
     }
 
     // Find & remove all partially built output chunks & vecs
     private Futures onExceptionCleanup(Futures fs) {
       int nchunks = _chunk2Enum.length;
-      int ncols = _parseSetup._number_columns;
+      int ncols = _parseSetup.numOutputColumns();
       for( int i = 0; i < ncols; ++i ) {
         Key vkey = _vg.vecKey(_vecIdStart + i);
         Keyed.remove(vkey,fs);
@@ -41,12 +41,14 @@ public final class ParseSetup extends Iced {
   String[][] _na_strings;       // Strings for NA in a given column
   String[][] _data;           // First few rows of parsed/tokenized data
   int _chunk_size = FileVec.DFLT_CHUNK_SIZE;  // Optimal chunk size to be used store values
+  int[] _skipped_columns;     // Columns left out of the parsed frame, by index; null for none
   PreviewParseWriter _column_previews = null;
 
   public ParseSetup(ParseSetup ps) {
     this(ps._parse_type,
             ps._separator, ps._single_quotes, ps._check_header, ps._number_columns,
             ps._column_names, ps._column_types, ps._domains, ps._na_strings, ps._data, ps._chunk_size);
+    _skipped_columns = ps._skipped_columns;
   }
 
   public ParseSetup(ParserType t, byte sep, boolean singleQuotes, int checkHeader, int ncols, String[] columnNames, byte[] ctypes, String[][] domains, String[][] naStrings, String[][] data, int chunkSize) {
@@ -109,6 +111,44 @@ public final class ParseSetup extends Iced {
   public ParseSetup() {}
 
   public String[] getColumnNames() { return _column_names; }
+
+  /** Leave columns out of the parsed frame.  Their fields are scanned past
+   *  without conversion, and no storage is allocated for them.
+   *  @param cols Indices of the columns to skip, or null for none */
+  public ParseSetup setSkippedColumns(int[] cols) { _skipped_columns = cols; return this; }
+
+  /** @return Column of the parsed frame for each column of the file, or -1
+   *  for a skipped one; null if no column is skipped */
+  int[] columnMap() {
+    if( _skipped_columns == null || _skipped_columns.length == 0 ) return null;
+    int[] map = new int[_number_columns];
+    for( int c : _skipped_columns ) map[c] = -1;
+    for( int i = 0, j = 0; i < map.length; i++ )
+      if( map[i] == 0 ) map[i] = j++;
+    return map;
+  }
+
+  /** @return Number of columns in the parsed frame */
+  int numOutputColumns() {
+    int[] map = columnMap();
+    if( map == null ) return _number_columns;
+    int n = 0;
+    for( int c : map ) if( c >= 0 ) n++;
+    return n;
+  }
+
+  /** @return Names of the columns in the parsed frame, if any; skipped
+   *  columns do not shift the default names of the others */
+  String[] outputColumnNames() {
+    int[] map = columnMap();
+    if( map == null ) return _column_names;
+    String[] names = new String[numOutputColumns()];
+    for( int i = 0; i < map.length; i++ )
+      if( map[i] >= 0 )
+        names[map[i]] = _column_names != null && i < _column_names.length && _column_names[i] != null && !_column_names[i].isEmpty()
+          ? _column_names[i] : "C" + (i+1);
+    return names;
+  }
   public String[][] getData() { return _data; }
 
   public String[] getColumnTypeStrings() {
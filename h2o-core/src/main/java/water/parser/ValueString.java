@@ -34,6 +34,7 @@ public class ValueString extends Iced implements Comparable<ValueString> {
    }
 
    void addChar(){_len++;}
+   void addChars(int n){_len += n;}
 
    void addBuff(byte [] bits){
      byte [] buf = new byte[length()];
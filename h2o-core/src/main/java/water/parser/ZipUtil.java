@@ -61,7 +61,11 @@ abstract class ZipUtil {
       // Now read from the compressed stream
       int off = 0;
       while( off < bs.length ) {
-        int len = is.read(bs, off, bs.length - off);
+        int len;
+        try { len = is.read(bs, off, bs.length - off); }
+        catch( EOFException eof ) { // Compressed bytes cut off, e.g. mid-member at the chunk end
+          return Arrays.copyOf(bs, off);
+        }
         if( len < 0 )
           break;
         off += len;
@@ -2,6 +2,8 @@ package water.persist;
 
 import java.io.*;
 import java.net.URI;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 
 import water.*;
@@ -47,6 +49,7 @@ final class PersistFS extends Persist {
       assert !v.isPersisted() : f.length() + " " + v._max + " " + v._key;
       return null; // No value
     }
+    if( v._max >= MMAP_MIN ) return loadMapped(f, v._max);
     try (FileInputStream s = new FileInputStream(f)) {
         AutoBuffer ab = new AutoBuffer(s.getChannel(), true, Value.ICE);
         byte[] b = ab.getA1(v._max);
@@ -55,6 +58,26 @@ final class PersistFS extends Persist {
       }
   }
 
+  // Values at least this large are reloaded through a memory-mapped region
+  // of the ice file rather than streamed through an AutoBuffer.
+  static final int MMAP_MIN = 1<<16;
+
+  // Reload a spilled Value through a read-only mapping of its ice file.  The
+  // pages fault straight in from the page cache and are copied once into the
+  // final byte[]: no read syscalls, and no bounce through the pooled direct
+  // ByteBuffers done by AutoBuffer.  Chunks decode from a heap byte[], so the
+  // mapping itself is not kept; it is dropped with the buffer.
+  private static byte[] loadMapped(File f, int len) throws IOException {
+    long start_ns = System.nanoTime(), start_ms = System.currentTimeMillis();
+    try( FileInputStream s = new FileInputStream(f); FileChannel fc = s.getChannel() ) {
+      MappedByteBuffer mbb = fc.map(FileChannel.MapMode.READ_ONLY, 0, len);
+      byte[] b = MemoryManager.malloc1(len);
+      mbb.get(b);
+      TimeLine.record_IOclose(start_ns, start_ms, 1/* read */, len, Value.ICE);
+      return b;
+    }
+  }
+
   // Store Value v to disk.
   @Override public void store(Value v) {
     assert !v.isPersisted();
@@ -65,7 +88,7 @@ final class PersistFS extends Persist {
     catch( FileNotFoundException e ) { throw Log.throwErr(e); }
     try {
       byte[] m = v.memOrLoad(); // we are not single threaded anymore
-      if( m != null && m.length == v._max ) {
+      if( m != null && m.length != v._max ) {
         Log.warn("Value size mismatch? " + v._key + " byte[].len=" + m.length+" v._max="+v._max);
         v._max = m.length; // Implies update of underlying POJO, then re-serializing it without K/V storing it
       }
@@ -1422,6 +1422,16 @@ abstract class ASTBinOp extends ASTUniOrBinOp {
     }
     final ASTBinOp bin = this;  // Final 'this' so can use in closure
 
+    // Frame-vs-number comparisons: per-chunk zone maps can decide whole
+    // chunks without decoding them.
+    ZoneMap[] zms0 = new ZoneMap[ncols];
+    if( isComparison() && (lf != rf) && (lf ? sf1 : sf0) == null && !Double.isNaN(lf ? df1 : df0) ) {
+      Vec[] vs = (lf ? fr0 : fr1).vecs().clone();
+      for( int i=0; i<ncols; i++ ) if( vs[i].isEnum() ) vs[i] = null;
+      zms0 = Vec.zoneMaps(vs);
+    }
+    final ZoneMap[] zms = zms0;
+
     // Run an arbitrary binary op on one or two frames & scalars
     Frame fr2 = new MRTask() {
       @Override public void map( Chunk chks[], NewChunk nchks[] ) {
@@ -1429,6 +1439,15 @@ abstract class ASTBinOp extends ASTUniOrBinOp {
           NewChunk n =nchks[i];
           int rlen = chks[0]._len;
           Chunk c0 = chks[i];
+          if( zms[i] != null ) {
+            ZoneMap zm = zms[i];
+            int cidx = c0.cidx();
+            if( zm.naCnt(cidx) == 0 && !zm.allNA(cidx) ) {
+              double k = bin.zoneOp(zm.min(cidx), zm.max(cidx), lf ? df1 : df0, !lf);
+              if( k == 0 ) { n.addZeros(rlen); continue; }
+              if( k == 1 ) { for( int r=0; r<rlen; r++ ) n.addNum(1); continue; }
+            }
+          }
           if( (!c0.vec().isEnum() &&
                   !(lf && rf && chks[i+nchks.length].vec().isEnum())) ||
                   bin instanceof ASTEQ ||
@@ -1478,6 +1497,23 @@ abstract class ASTBinOp extends ASTUniOrBinOp {
     env.poppush(2, new ValFrame(fr2));
   }
   @Override public String toString() { return "("+opStr()+" "+Arrays.toString(_asts)+")"; }
+
+  private boolean isComparison() {
+    return this instanceof ASTLT || this instanceof ASTLE || this instanceof ASTGT ||
+           this instanceof ASTGE || this instanceof ASTEQ || this instanceof ASTNE;
+  }
+
+  // Result of comparing every value in [min,max] against the scalar d, if it
+  // is the same for all of them; NaN if it depends on the value.  The
+  // ordering comparisons are monotone in the value, so checking the ends is
+  // enough; (in)equality is only decided when d lies outside the range.
+  double zoneOp( double min, double max, double d, boolean scalarLeft ) {
+    double a = scalarLeft ? op(d,min) : op(min,d);
+    double b = scalarLeft ? op(d,max) : op(max,d);
+    if( a != b ) return Double.NaN;
+    if( (this instanceof ASTEQ || this instanceof ASTNE) && min <= d && d <= max ) return Double.NaN;
+    return a;
+  }
 }
 
 class ASTNot  extends ASTUniPrefixOp { public ASTNot()  { super(); } @Override String opStr(){ return "!";} @Override ASTOp make() {return new ASTNot(); } @Override double op(double d) { if (Double.isNaN(d)) return Double.NaN; return d==0?1:0; } }
@@ -30,6 +30,8 @@ public class ChunkSummary extends MRTask<ChunkSummary> {
     "C16",                      // UUID
     "CStr",                     // Strings
     "CXD",                      // Sparse doubles
+    "CRL",                      // Run-length encoded
+    "C1D",                      // Dictionary of doubles
     "C8D",                      //leave this as last -> no compression
   };
   final transient static String[] chunkNames = new String[]{
@@ -50,6 +52,8 @@ public class ChunkSummary extends MRTask<ChunkSummary> {
           "128-bit UUID",
           "String",
           "Sparse Reals",
+          "Run-Length Values",
+          "1-Byte Dictionary Reals",
           "64-bit Reals",
   };
 
@@ -0,0 +1,99 @@
+package water.util;
+
+import java.math.BigInteger;
+
+/** Correctly rounded conversion of a parsed decimal, {@code mantissa * 10^exp},
+ *  to the nearest double - without the rounding error of multiplying by an
+ *  inexact power of ten, and without going through a String.
+ *
+ *  <p>Small mantissas with small exponents take Clinger's exact path (one
+ *  multiply or divide by an exactly representable power of ten).  Everything
+ *  else uses the Eisel-Lemire algorithm: a 64x128 bit multiply by a truncated
+ *  power of five, which settles all but a vanishing fraction of inputs.  The
+ *  rest (and subnormals) fall back to {@link Double#parseDouble}.
+ */
+public final class FastDouble {
+  private FastDouble() {}
+
+  // 10^0 ... 10^22, all exact as doubles
+  private static final double[] EXACT = new double[23];
+  static { EXACT[0] = 1; for( int i=1; i<EXACT.length; i++ ) EXACT[i] = EXACT[i-1]*10; }
+
+  // 5^q normalized to 128 bits (top bit set): truncated for q >= 0, rounded
+  // up for q < 0, for q in [MIN_Q,MAX_Q]
+  private static final int MIN_Q = -342, MAX_Q = 308;
+  private static final long[] POW5_HI = new long[MAX_Q-MIN_Q+1], POW5_LO = new long[MAX_Q-MIN_Q+1];
+  static {
+    BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+    for( int q=MIN_Q; q<=MAX_Q; q++ ) {
+      BigInteger c;
+      if( q >= 0 ) {
+        c = BigInteger.valueOf(5).pow(q);
+        int b = c.bitLength();
+        c = b > 128 ? c.shiftRight(b-128) : c.shiftLeft(128-b);
+      } else {
+        BigInteger p5 = BigInteger.valueOf(5).pow(-q);
+        int z = p5.bitLength();  // 2^(z-1) <= 5^-q < 2^z
+        c = BigInteger.ONE.shiftLeft(z+127).divide(p5).add(BigInteger.ONE);
+        while( c.compareTo(two128) >= 0 ) c = c.shiftRight(1);
+      }
+      POW5_HI[q-MIN_Q] = c.shiftRight(64).longValue();
+      POW5_LO[q-MIN_Q] = c.longValue();
+    }
+  }
+
+  /** @return {@code mantissa * 10^exp}, correctly rounded */
+  public static double toDouble( long mantissa, int exp ) {
+    if( mantissa == 0 ) return 0;
+    boolean neg = mantissa < 0;
+    long m = neg ? -mantissa : mantissa;
+    if( m < 0 ) return Double.parseDouble(mantissa+"E"+exp); // Long.MIN_VALUE
+    double d;
+    if( m < (1L<<53) && -22 <= exp && exp <= 22 ) // Clinger's fast path: exact inputs, one rounding
+      d = exp < 0 ? m/EXACT[-exp] : m*EXACT[exp];
+    else if( exp < MIN_Q ) d = 0;                 // Below 1e-324
+    else if( exp > MAX_Q ) d = Double.POSITIVE_INFINITY;
+    else {
+      long bits = eiselLemire(m,exp);
+      d = bits == -1 ? Double.parseDouble(m+"E"+exp) : Double.longBitsToDouble(bits);
+    }
+    return neg ? -d : d;
+  }
+
+  // Bits of the double nearest to m*10^q for m > 0, or -1 if the 128-bit
+  // product cannot decide the rounding, or the result is subnormal or infinite
+  private static long eiselLemire( long m, int q ) {
+    int clz = Long.numberOfLeadingZeros(m);
+    m <<= clz;
+    long exp2 = ((217706L*q)>>16) + 64 + 1023 - clz; // floor(q*log2(10)) + biases
+    int idx = q-MIN_Q;
+    long hi = mulHi(m,POW5_HI[idx]), lo = m*POW5_HI[idx];
+    if( (hi&0x1FF) == 0x1FF && ult(lo+m,m) ) { // Low bits might carry: use all 128 bits
+      long yhi = mulHi(m,POW5_LO[idx]), ylo = m*POW5_LO[idx];
+      long mhi = hi, mlo = lo+yhi;
+      if( ult(mlo,lo) ) mhi++;
+      if( (mhi&0x1FF) == 0x1FF && mlo+1 == 0 && ult(ylo+m,m) ) return -1;
+      hi = mhi;  lo = mlo;
+    }
+    long msb = hi>>>63;
+    long mant = hi>>>(msb+9);   // 54 bits
+    exp2 -= 1^msb;
+    if( lo == 0 && (hi&0x1FF) == 0 && (mant&3) == 1 ) return -1; // Exactly half way?
+    mant += mant&1;             // Round to 53 bits
+    mant >>>= 1;
+    if( (mant>>>53) > 0 ) { mant >>>= 1;  exp2++; }
+    if( exp2 <= 0 || exp2 >= 0x7FF ) return -1;
+    return (exp2<<52) | (mant&0x000FFFFFFFFFFFFFL);
+  }
+
+  // High 64 bits of the unsigned 128-bit product
+  private static long mulHi( long a, long b ) {
+    long a0 = a&0xFFFFFFFFL, a1 = a>>>32, b0 = b&0xFFFFFFFFL, b1 = b>>>32;
+    long p00 = a0*b0, p01 = a0*b1, p10 = a1*b0, p11 = a1*b1;
+    long mid = (p00>>>32) + (p01&0xFFFFFFFFL) + (p10&0xFFFFFFFFL);
+    return p11 + (p01>>>32) + (p10>>>32) + (mid>>>32);
+  }
+
+  // Unsigned a < b
+  private static boolean ult( long a, long b ) { return (a+Long.MIN_VALUE) < (b+Long.MIN_VALUE); }
+}
@@ -94,6 +94,19 @@ public class PrettyPrint {
 
   public static double pow10(int exp){ return ((exp >= -10 && exp <= 10)?powers10[exp+10]:Math.pow(10, exp)); }
   public static long pow10i(int exp){ return powers10i[exp]; }
+
+  /** 10^k for a decimal scale of 10^-k, if 10^k is exact (k <= 22); else 0.
+   *  See {@link #unscale}. */
+  public static double scaleDivisor( double scale ) {
+    if( scale >= 1 ) return 0;
+    long k = Math.round(-Math.log10(scale));
+    return k <= 22 ? pow10((int)k) : 0;
+  }
+  /** Decode a scaled integer {@code le}, given its scale and that scale's
+   *  {@link #scaleDivisor}.  Dividing by the exact 10^k gives the correctly
+   *  rounded double of the scaled decimal, as parsing its text does;
+   *  multiplying by 10^-k may not. */
+  public static double unscale( long le, double scale, double div ) { return div != 0 ? le/div : le*scale; }
   public static final boolean fitsIntoInt(double d) { return Math.abs((int)d - d) < 1e-8; }
 
 
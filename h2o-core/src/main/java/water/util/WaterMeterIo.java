@@ -31,6 +31,10 @@ public class WaterMeterIo extends Iced {
 
   // Output
   public IoStatsEntry persist_stats[];
+  // Node-to-node TCP traffic: stream bytes vs bytes on the wire (differ when
+  // compressed, see -wire_compress)
+  public long tcp_raw_bytes_sent, tcp_wire_bytes_sent;
+  public long tcp_raw_bytes_recv, tcp_wire_bytes_recv;
 
   public void doIt(boolean aggregateAllNodes) {
     if (! aggregateAllNodes) {
@@ -49,6 +53,10 @@ public class WaterMeterIo extends Iced {
         }
       }
 
+      tcp_raw_bytes_sent  += io.tcp_raw_bytes_sent;
+      tcp_wire_bytes_sent += io.tcp_wire_bytes_sent;
+      tcp_raw_bytes_recv  += io.tcp_raw_bytes_recv;
+      tcp_wire_bytes_recv += io.tcp_wire_bytes_recv;
       for (int j = 0; j < persist_stats.length; j++) {
         persist_stats[j].store_count += io.persist_stats[j].store_count;
         persist_stats[j].store_bytes += io.persist_stats[j].store_bytes;
@@ -67,10 +75,15 @@ public class WaterMeterIo extends Iced {
     new RPC<>(node, t).call().get();
     Log.trace("IO GetTask completed to node " + idx);
     persist_stats = t._persist_stats;
+    tcp_raw_bytes_sent  = t._tcp_raw_sent;
+    tcp_wire_bytes_sent = t._tcp_wire_sent;
+    tcp_raw_bytes_recv  = t._tcp_raw_recv;
+    tcp_wire_bytes_recv = t._tcp_wire_recv;
   }
 
   private static class GetTask extends DTask<GetTask> {
     private IoStatsEntry _persist_stats[];
+    private long _tcp_raw_sent, _tcp_wire_sent, _tcp_raw_recv, _tcp_wire_recv;
 
     public GetTask() {
       _persist_stats = null;
@@ -119,6 +132,11 @@ public class WaterMeterIo extends Iced {
         assert(src_e.load_bytes.get() == 0);
       }
 
+      _tcp_raw_sent  = WireCodec.rawBytesSent();
+      _tcp_wire_sent = WireCodec.wireBytesSent();
+      _tcp_raw_recv  = WireCodec.rawBytesRecv();
+      _tcp_wire_recv = WireCodec.wireBytesRecv();
+
       tryComplete();
     }
 
@@ -0,0 +1,43 @@
+package water;
+
+import static org.junit.Assert.assertEquals;
+
+import water.fvec.Chunk;
+import water.fvec.Vec;
+import water.util.ArrayUtils;
+
+/** Test task for the MRTask scheduling tests: counts the rows mapped, and how
+ *  often each chunk was mapped and reduced.  Chunks mapped on the optional
+ *  slow node each take {@link #SLOW_MS} longer. */
+class CountChunks extends MRTask<CountChunks> {
+  static final int SLOW_MS = 50;
+  final H2ONode _slow;
+  long _rows;
+  int[] _cnts;
+  int _most;                    // Most chunks mapped by one instance
+  private transient int _mapped;
+  CountChunks() { this(null); }
+  CountChunks( H2ONode slow ) { _slow = slow; }
+  @Override public void map( Chunk c ) {
+    if( H2O.SELF == _slow )
+      try { Thread.sleep(SLOW_MS); } catch( InterruptedException ignore ) { }
+    // Accumulates, so it also holds for accumulating leaves
+    _rows += c._len;
+    if( _cnts == null ) _cnts = new int[c.vec().nChunks()];
+    _cnts[c.cidx()]++;
+    _most = Math.max(_most,++_mapped);
+  }
+  @Override public void reduce( CountChunks cc ) {
+    _rows += cc._rows;
+    _most = Math.max(_most,cc._most);
+    _cnts = ArrayUtils.add(_cnts,cc._cnts);
+  }
+
+  /** Assert all rows of vec were mapped, and each of its chunks exactly once */
+  void assertEachChunkOnce( Vec vec, String msg ) {
+    assertEquals(msg,vec.length(),_rows);
+    assertEquals(msg,vec.nChunks(),_cnts.length);
+    for( int i=0; i<_cnts.length; i++ )
+      assertEquals(msg+", chunk "+i,1,_cnts[i]);
+  }
+}
@@ -0,0 +1,80 @@
+package water;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import water.fvec.Chunk;
+import water.fvec.FileVec;
+import water.fvec.Vec;
+import water.util.ArrayUtils;
+
+public class MRFanOutTest extends TestUtil {
+  @BeforeClass static public void setup() { stall_till_cloudsize(5); }
+
+  // The node tree has the requested shape: this node calls min(fanout,N-1)
+  // others, no node calls more than fanout, and every other node is called
+  // by exactly one node (so visited once).  Chunks are still mapped once.
+  @Test public void testFanOuts() {
+    final int size = H2O.CLOUD.size(), self = H2O.SELF.index();
+    Vec vec = Vec.makeZero(20L*FileVec.DFLT_CHUNK_SIZE);
+    try {
+      for( int fanout : new int[]{2,3,4,8} ) {
+        String msg = "fanout "+fanout;
+        CountChunks cc = new CountChunks().setFanOut(fanout).doAll(vec);
+        assertEquals(msg,Math.min(fanout,size-1),cc._nkids.length);
+        cc.assertEachChunkOnce(vec,msg);
+        Nodes n = new Nodes().setFanOut(fanout).doAllNodes();
+        int called = 0;
+        for( int i=0; i<size; i++ ) {
+          assertEquals(msg+", node "+i,1,n._cnts[i]);
+          assertTrue(msg+", node "+i+" calls "+n._kids[i],n._kids[i] <= fanout);
+          called += n._kids[i];
+        }
+        assertEquals(msg,Math.min(fanout,size-1),n._kids[self]);
+        assertEquals(msg,size-1,called);
+      }
+    } finally {
+      vec.remove();
+    }
+  }
+
+  // Every node's partial result makes it into the final reduce, whatever the
+  // tree's shape: the sum of all global row numbers comes out exact
+  @Test public void testReducedResult() {
+    final long n = 100L<<12;
+    Vec vec = Vec.makeCon(0,n,12); // 100 chunks, spread over the cloud
+    try {
+      for( int fanout : new int[]{2,3,4,8} ) {
+        RowSum rs = new RowSum().setFanOut(fanout).doAll(vec);
+        assertEquals("fanout "+fanout,n*(n-1)/2,rs._sum);
+        assertEquals("fanout "+fanout,n,rs._rows);
+      }
+    } finally {
+      vec.remove();
+    }
+  }
+
+  private static class RowSum extends MRTask<RowSum> {
+    long _sum, _rows;
+    @Override public void map( Chunk c ) {
+      for( int i=0; i<c._len; i++ ) _sum += c.start()+i;
+      _rows = c._len;
+    }
+    @Override public void reduce( RowSum rs ) { _sum += rs._sum;  _rows += rs._rows; }
+  }
+
+  // Per node: visits, and how many other nodes it called
+  private static class Nodes extends MRTask<Nodes> {
+    int[] _cnts, _kids;
+    @Override protected void setupLocal() {
+      _cnts = new int[H2O.CLOUD.size()];
+      _kids = new int[H2O.CLOUD.size()];
+      _cnts[H2O.SELF.index()] = 1;
+      _kids[H2O.SELF.index()] = _nkids == null ? 0 : _nkids.length; // Called before setupLocal
+    }
+    @Override public void reduce( Nodes n ) {
+      _cnts = ArrayUtils.add(_cnts,n._cnts);
+      _kids = ArrayUtils.add(_kids,n._kids);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package water;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import water.fvec.FileVec;
+import water.fvec.Vec;
+
+public class MRLeafTest extends TestUtil {
+  @BeforeClass static public void setup() { stall_till_cloudsize(1); }
+
+  // Many tiny chunks get batched several to a leaf; with or without
+  // per-thread reduction, every chunk must be mapped and reduced once.
+  @Test public void testBatchedLeaves() {
+    Vec vec = Vec.makeCon(1,100000,6); // 64 rows per chunk
+    try {
+      for( boolean perThread : new boolean[]{false,true} ) {
+        CountChunks cc = new CountChunks().setThreadLocalReduce(perThread).doAll(vec);
+        assertTrue("chunks per leaf "+cc._leafChunks,cc._leafChunks > 1);
+        cc.assertEachChunkOnce(vec,"perThread "+perThread);
+      }
+    } finally {
+      vec.remove();
+    }
+  }
+
+  // An accumulating leaf maps all of its chunks into one instance
+  @Test public void testAccumulatingLeaves() {
+    Vec vec = Vec.makeCon(1,100000,6);
+    try {
+      CountChunks plain = new CountChunks().doAll(vec);
+      assertEquals(1,plain._most);
+      CountChunks cc = new CountChunks().setAccumulatingLeaves(true).doAll(vec);
+      assertTrue("chunks per leaf "+cc._leafChunks,cc._leafChunks > 1);
+      assertTrue("most "+cc._most,cc._most > 1 && cc._most <= cc._leafChunks);
+      cc.assertEachChunkOnce(vec,"accumulating");
+    } finally {
+      vec.remove();
+    }
+  }
+
+  // Chunks of a few MB each get a leaf of their own
+  @Test public void testLargeChunksUnbatched() {
+    Vec vec = Vec.makeZero(8L*FileVec.DFLT_CHUNK_SIZE);
+    try {
+      CountChunks cc = new CountChunks().doAll(vec);
+      assertEquals(1,cc._leafChunks);
+      cc.assertEachChunkOnce(vec,"large chunks");
+    } finally {
+      vec.remove();
+    }
+  }
+}
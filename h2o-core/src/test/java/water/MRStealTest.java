@@ -0,0 +1,38 @@
+package water;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import water.fvec.FileVec;
+import water.fvec.Vec;
+
+public class MRStealTest extends TestUtil {
+  @BeforeClass static public void setup() { stall_till_cloudsize(5); }
+
+  // One node maps slowly; with stealing on, the others must take some of its
+  // chunks, and every chunk must still be mapped (and reduced) exactly once,
+  // whichever node ends up mapping it.
+  @Test public void testStealExactlyOnce() {
+    // Far more chunks on the slow node than it has threads to map them with
+    Vec vec = Vec.makeZero(100L*H2O.CLOUD.size()*FileVec.DFLT_CHUNK_SIZE);
+    try {
+      for( boolean steal : new boolean[]{false,true} ) {
+        long stolen0 = new Stolen().doAllNodes()._n;
+        CountChunks cc = new CountChunks(H2O.CLOUD._memary[H2O.CLOUD.size()-1]).setStealing(steal).doAll(vec);
+        long stolen = new Stolen().doAllNodes()._n - stolen0;
+        if( steal ) assertTrue("nothing stolen from the slow node",stolen > 0);
+        else assertEquals(0,stolen);
+        cc.assertEachChunkOnce(vec,"steal "+steal);
+      }
+    } finally {
+      vec.remove();
+    }
+  }
+
+  // Chunks mapped for other nodes, cloud-wide
+  private static class Stolen extends MRTask<Stolen> {
+    long _n;
+    @Override protected void setupLocal() { _n = ChunkClaims.stolen(); }
+    @Override public void reduce( Stolen s ) { _n += s._n; }
+  }
+}
@@ -5,7 +5,6 @@ import org.junit.*;
 import water.fvec.Frame;
 import water.fvec.Vec;
 
-@Ignore
 public class OOMTest extends TestUtil {
   @BeforeClass() public static void setup() { stall_till_cloudsize(1); }
 
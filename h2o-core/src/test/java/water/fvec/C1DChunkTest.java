@@ -0,0 +1,49 @@
+package water.fvec;
+
+import org.junit.*;
+
+import water.TestUtil;
+import java.util.Arrays;
+
+public class C1DChunkTest extends TestUtil {
+  @BeforeClass() public static void setup() { stall_till_cloudsize(1); }
+  @Test public void test_inflate_impl() {
+    final double[] vals = new double[]{Math.PI, -2.5e-7, Double.NaN, 1e300, 17.125};
+    final int N = 4000;
+    NewChunk nc = new NewChunk(null, 0);
+    for (int i = 0; i < N; ++i) nc.addNum(vals[i % vals.length]);
+
+    Chunk cc = nc.compress();
+    Assert.assertEquals(N, cc._len);
+    Assert.assertTrue(cc instanceof C1DChunk);
+    for (int i = 0; i < N; ++i) Assert.assertEquals(vals[i % vals.length], cc.atd(i), 0);
+    for (int i = 0; i < N; ++i) Assert.assertEquals(vals[i % vals.length], cc.at_abs(i), 0);
+    for (int i = 0; i < N; ++i) Assert.assertEquals(Double.isNaN(vals[i % vals.length]), cc.isNA(i));
+    Assert.assertEquals(3, cc.at8(0));
+
+    nc = cc.inflate_impl(new NewChunk(null, 0));
+    Assert.assertEquals(N, nc._len);
+    for (int i = 0; i < N; ++i) Assert.assertEquals(vals[i % vals.length], nc.atd(i), 0);
+
+    Chunk cc2 = nc.compress();
+    Assert.assertTrue(cc2 instanceof C1DChunk);
+    Assert.assertTrue(Arrays.equals(cc._mem, cc2._mem));
+  }
+
+  @Test public void test_set_impl() {
+    NewChunk nc = new NewChunk(null, 0);
+    for (int i = 0; i < 1000; ++i) nc.addNum(i % 2 == 0 ? 0.125 : 1e-9);
+    C1DChunk cc = (C1DChunk)nc.compress();
+    Assert.assertTrue(cc.set_impl(0, 1e-9));   // In the dictionary
+    Assert.assertEquals(1e-9, cc.atd(0), 0);
+    Assert.assertTrue(!cc.set_impl(1, 0.5));   // Not in the dictionary
+    Assert.assertTrue(cc.setNA_impl(2));
+    Assert.assertTrue(cc.isNA(2));
+  }
+
+  @Test public void test_too_many_values() {
+    NewChunk nc = new NewChunk(null, 0);
+    for (int i = 0; i < 4000; ++i) nc.addNum(i % 300 + 0.5);
+    Assert.assertTrue(!(nc.compress() instanceof C1DChunk));
+  }
+}
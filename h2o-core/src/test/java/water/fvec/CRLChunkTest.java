@@ -0,0 +1,79 @@
+package water.fvec;
+
+import org.junit.*;
+
+import water.TestUtil;
+import java.util.Arrays;
+
+public class CRLChunkTest extends TestUtil {
+  @BeforeClass() public static void setup() { stall_till_cloudsize(1); }
+  final int N = 1000;           // Rows per run
+
+  @Test public void test_inflate_impl_longs() {
+    long[] vals = new long[]{7, -123456789012L, 0, 7};
+    NewChunk nc = new NewChunk(null, 0);
+    for (long v : vals) for (int i = 0; i < N; ++i) nc.addNum(v, 0);
+    for (int i = 0; i < N; ++i) nc.addNA();
+
+    Chunk cc = nc.compress();
+    Assert.assertEquals((vals.length + 1) * N, cc._len);
+    Assert.assertTrue(cc instanceof CRLChunk);
+    Assert.assertTrue(!cc.hasFloat());
+    for (int r = 0; r < vals.length; ++r)
+      for (int i = 0; i < N; ++i) {
+        Assert.assertEquals(vals[r], cc.at8(r * N + i));
+        Assert.assertEquals(vals[r], cc.at8_abs(r * N + i));
+      }
+    for (int i = 0; i < N; ++i) Assert.assertTrue(cc.isNA(vals.length * N + i));
+    // Random access, not just row-sequential
+    Assert.assertEquals(vals[3], cc.at8(3 * N + 17));
+    Assert.assertEquals(vals[0], cc.at8(5));
+    Assert.assertEquals(vals[2], cc.at8(3 * N - 1));
+
+    nc = cc.inflate_impl(new NewChunk(null, 0));
+    Assert.assertEquals((vals.length + 1) * N, nc._len);
+    for (int r = 0; r < vals.length; ++r) Assert.assertEquals(vals[r], nc.at8(r * N));
+    Assert.assertTrue(nc.isNA(vals.length * N));
+
+    Chunk cc2 = nc.compress();
+    Assert.assertTrue(cc2 instanceof CRLChunk);
+    Assert.assertTrue(Arrays.equals(cc._mem, cc2._mem));
+  }
+
+  @Test public void test_inflate_impl_doubles() {
+    double[] vals = new double[]{3.25, Double.NaN, 1e300, -0.001};
+    NewChunk nc = new NewChunk(null, 0);
+    for (double v : vals) for (int i = 0; i < N; ++i) nc.addNum(v);
+
+    Chunk cc = nc.compress();
+    Assert.assertEquals(vals.length * N, cc._len);
+    Assert.assertTrue(cc instanceof CRLChunk);
+    for (int r = 0; r < vals.length; ++r)
+      for (int i = 0; i < N; ++i)
+        Assert.assertEquals(vals[r], cc.atd(r * N + i), 0);
+    for (int i = 0; i < N; ++i) Assert.assertTrue(cc.isNA(N + i));
+
+    nc = cc.inflate_impl(new NewChunk(null, 0));
+    Assert.assertEquals(vals.length * N, nc._len);
+    Chunk cc2 = nc.compress();
+    Assert.assertTrue(cc2 instanceof CRLChunk);
+    Assert.assertTrue(Arrays.equals(cc._mem, cc2._mem));
+  }
+
+  // Sorted keys fit a byte per row, but their runs take far less
+  @Test public void test_sorted_byte_keys() {
+    NewChunk nc = new NewChunk(null, 0);
+    for (int i = 0; i < 200 * N; ++i) nc.addNum(i / N, 0);
+    Chunk cc = nc.compress();
+    Assert.assertTrue(cc instanceof CRLChunk);
+    Assert.assertEquals(CRLChunk.bytes(200), cc._mem.length);
+    for (int i = 0; i < 200 * N; i += 97) Assert.assertEquals(i / N, cc.at8(i));
+  }
+
+  @Test public void test_no_runs() {
+    NewChunk nc = new NewChunk(null, 0);
+    for (int i = 0; i < N; ++i) nc.addNum(i * 0.5);
+    Chunk cc = nc.compress();
+    Assert.assertTrue(!(cc instanceof CRLChunk));
+  }
+}
@@ -0,0 +1,109 @@
+package water.fvec;
+
+import org.junit.*;
+
+import water.TestUtil;
+import java.util.Random;
+
+/** Bulk reads must agree row-for-row with the per-row readers, for every encoding. */
+public class ChunkBulkReadTest extends TestUtil {
+  @BeforeClass() public static void setup() { stall_till_cloudsize(1); }
+  final int N = 2000;
+
+  // Compare getDoubles/getIntegers against atd/at8/isNA over a few sub-ranges
+  private static void check( Chunk c ) {
+    final long NA = 0x5EED;
+    int[][] ranges = {{0,c._len},{0,0},{1,c._len-1},{c._len/3,c._len/2},{c._len-1,c._len}};
+    for( int[] r : ranges ) {
+      int from = r[0], to = r[1];
+      double[] ds = c.getDoubles(new double[to-from+3],from,to);
+      long[] ls = c.getIntegers(new long[to-from+3],from,to,NA);
+      for( int i=from; i<to; i++ ) {
+        Assert.assertEquals(c.getClass().getSimpleName()+" row "+i, c.atd(i), ds[i-from], 0);
+        Assert.assertEquals(c.getClass().getSimpleName()+" row "+i, c.isNA(i) ? NA : c.at8(i), ls[i-from]);
+      }
+    }
+  }
+
+  @Test public void testDense() {
+    Random rng = new Random(0xB01C);
+    NewChunk c1 = new NewChunk(null,0), c1n = new NewChunk(null,0), c1s = new NewChunk(null,0);
+    NewChunk c2 = new NewChunk(null,0), c2s = new NewChunk(null,0), c4 = new NewChunk(null,0);
+    NewChunk c4s = new NewChunk(null,0), c8 = new NewChunk(null,0), c8d = new NewChunk(null,0);
+    NewChunk c1d = new NewChunk(null,0), crl = new NewChunk(null,0);
+    double[] dict = {Math.PI, -1e-7, 12345.678, Math.E};
+    for( int i=0; i<N; i++ ) {
+      boolean na = i%17==0;
+      if( na ) c1.addNA(); else c1.addNum(rng.nextInt(200),0);
+      c1n.addNum(rng.nextInt(256),0);
+      if( na ) c1s.addNA(); else c1s.addNum(rng.nextInt(200),-1);
+      if( na ) c2.addNA(); else c2.addNum(rng.nextInt(30000)-15000,0);
+      if( na ) c2s.addNA(); else c2s.addNum(rng.nextInt(30000),-2);
+      if( na ) c4.addNA(); else c4.addNum(rng.nextInt(),0);
+      if( na ) c4s.addNA(); else c4s.addNum(rng.nextInt(1<<30),-3);
+      if( na ) c8.addNA(); else c8.addNum(rng.nextLong()>>1,0);
+      if( na ) c8d.addNA(); else c8d.addNum(rng.nextDouble());
+      if( na ) c1d.addNA(); else c1d.addNum(dict[rng.nextInt(dict.length)]);
+      if( (i/300)%3==2 ) crl.addNA(); else crl.addNum(i/300,0);
+    }
+    for( NewChunk nc : new NewChunk[]{c1,c1n,c1s,c2,c2s,c4,c4s,c8,c8d,c1d,crl} )
+      check(nc.compress());
+    check(new C0LChunk(-42,N));
+    check(new C0DChunk(2.5,N));
+    check(new C0DChunk(Double.NaN,N));
+  }
+
+  @Test public void testSparse() {
+    NewChunk cx0 = new NewChunk(null,0), cxi = new NewChunk(null,0), cxd = new NewChunk(null,0);
+    for( int i=0; i<N; i++ ) {
+      boolean nz = i%97==5;
+      if( nz ) cx0.addNum(1,0); else cx0.addNum(0,0);
+      if( i==500 ) cxi.addNA(); else if( nz ) cxi.addNum(i,0); else cxi.addNum(0,0);
+      if( nz ) cxd.addNum(i+0.5); else cxd.addNum(0);
+    }
+    Chunk c;
+    check(c = cx0.compress());  Assert.assertTrue(c instanceof CX0Chunk);
+    check(c = cxi.compress());  Assert.assertTrue(c instanceof CXIChunk);
+    check(c = cxd.compress());  Assert.assertTrue(c instanceof CXDChunk);
+  }
+
+  // Sparse reads visit exactly the nextNZ rows, dense or sparse
+  @Test public void testSparseRead() {
+    NewChunk sp = new NewChunk(null,0), dn = new NewChunk(null,0);
+    for( int i=0; i<N; i++ ) {
+      if( i==77 ) sp.addNA(); else if( i%50==3 ) sp.addNum(i*0.25); else sp.addNum(0);
+      dn.addNum(i%7,0);
+    }
+    Chunk[] chks = new Chunk[]{sp.compress(), dn.compress(), new C0DChunk(0,N)};
+    Assert.assertTrue(chks[0].isSparse());
+    SparseCursor cur = new SparseCursor(chks);
+    for( int col=0; col<chks.length; col++ ) {
+      Chunk c = chks[col];
+      cur.reset(col);
+      for( int r=c.nextNZ(-1); r<c._len; r=c.nextNZ(r) ) {
+        Assert.assertTrue(cur.next());
+        Assert.assertEquals(r, cur.row());
+        Assert.assertEquals(c.atd(r), cur.value(), 0);
+        Assert.assertEquals(c.isNA(r), cur.isNA());
+      }
+      Assert.assertFalse(cur.next());
+    }
+    Assert.assertEquals(0, cur.size()); // Constant zero column is empty
+  }
+
+  // Writes go through the _chk2 copy; bulk reads must see them
+  @Test public void testAfterWrite() {
+    Vec vec = new Vec(Vec.newKey(), new long[]{0,N}).makeZero();
+    Chunk c = vec.chunkForChunkIdx(0);
+    c.set(7,3.5);               // Forces inflation into a NewChunk
+    c.setNA(8);
+    c.set(9,9L);
+    double[] ds = c.getDoubles(new double[N]);
+    Assert.assertEquals(0, ds[6], 0);
+    Assert.assertEquals(3.5, ds[7], 0);
+    Assert.assertTrue(Double.isNaN(ds[8]));
+    Assert.assertEquals(9, ds[9], 0);
+    check(c);
+    vec.remove();
+  }
+}
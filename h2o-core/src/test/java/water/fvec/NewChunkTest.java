@@ -257,5 +257,24 @@ public class NewChunkTest extends TestUtil {
     } finally { remove(); }
   }
 
+  // Scaled decimal chunks read back the double a parse of the decimal text gives
+  @Test public void testExactScaledDecimals() {
+    int[][] cases = { {10,1,-1}, {1000,1,-3}, {3000,37,-4} }; // count, step, exponent: C1S, C2S, C4S
+    Class[] types = { C1SChunk.class, C2SChunk.class, C4SChunk.class };
+    for( int t=0; t<cases.length; t++ ) {
+      int n = cases[t][0], step = cases[t][1], x = cases[t][2];
+      NewChunk nc = new NewChunk(null, 0);
+      for( int i=0; i<n; i++ ) nc.addNum(i*step+3, x);
+      for( int i=0; i<n; i++ )
+        assertEquals(Double.doubleToLongBits(Double.parseDouble((i*step+3)+"e"+x)), Double.doubleToLongBits(nc.atd(i)));
+      Chunk c = nc.compress();
+      assertEquals(types[t], c.getClass());
+      double[] ds = c.getDoubles(new double[n], 0, n);
+      for( int i=0; i<n; i++ ) {
+        long bits = Double.doubleToLongBits(Double.parseDouble((i*step+3)+"e"+x));
+        assertEquals((i*step+3)+"e"+x, bits, Double.doubleToLongBits(c.atd(i)));
+        assertEquals((i*step+3)+"e"+x, bits, Double.doubleToLongBits(ds[i]));
+      }
+    }
+  }
 }
-
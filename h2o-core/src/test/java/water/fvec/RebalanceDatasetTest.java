@@ -40,4 +40,27 @@ public class RebalanceDatasetTest extends TestUtil {
       }
     }
   }
+
+  // Balanced layout: uneven row counts per chunk, but the same data
+  @Test public void testBalanced(){
+    Key rebalancedKey = Key.make("rebalanced");
+    int [] trials = { 380, 1, 3, 12, 64, 13 };
+    for (int i : trials) {
+      Frame fr = null, rebalanced = null;
+      try {
+        NFSFileVec nfs = NFSFileVec.make(find_test_file("smalldata/logreg/prostate.csv"));
+        fr = ParseDataset.parse(Key.make(), nfs._key);
+        RebalanceDataSet rb = new RebalanceDataSet(fr, rebalancedKey, i).setBalanced(true);
+        H2O.submitTask(rb);
+        rb.join();
+        rebalanced = DKV.get(rebalancedKey).get();
+        assertEquals(rebalanced.numRows(), fr.numRows());
+        assertEquals(rebalanced.anyVec().nChunks(), i);
+        assertTrue(isBitIdentical(fr, rebalanced));
+      } finally {
+        if (fr != null) fr.delete();
+        if (rebalanced != null) rebalanced.delete();
+      }
+    }
+  }
 }
@@ -0,0 +1,76 @@
+package water.fvec;
+
+import org.junit.*;
+
+import water.Futures;
+import water.MRTask;
+import water.TestUtil;
+
+public class ZoneMapTest extends TestUtil {
+  @BeforeClass() public static void setup() { stall_till_cloudsize(1); }
+
+  // 4 chunks of 100 rows: chunk c holds c*1000 .. c*1000+99; chunk 2 also has an NA
+  private static Vec makeVec() {
+    AppendableVec av = new AppendableVec(Vec.newKey());
+    Futures fs = new Futures();
+    for( int c=0; c<4; c++ ) {
+      NewChunk nc = new NewChunk(av,c);
+      for( int i=0; i<100; i++ ) nc.addNum(c*1000+i,0);
+      if( c==2 ) nc.addNA();
+      nc.close(c,fs);
+    }
+    Vec v = av.close(fs);
+    fs.blockForPending();
+    return v;
+  }
+
+  @Test public void testZones() {
+    Vec v = makeVec();
+    try {
+      ZoneMap zm = v.zoneMap();
+      Assert.assertNotNull(zm);
+      Assert.assertEquals(4, zm.nChunks());
+      for( int c=0; c<4; c++ ) {
+        Assert.assertEquals(c*1000, zm.min(c), 0);
+        Assert.assertEquals(c*1000+99, zm.max(c), 0);
+        Assert.assertEquals(c==2 ? 1 : 0, zm.naCnt(c));
+        Assert.assertFalse(zm.allNA(c));
+      }
+      Assert.assertTrue (zm.mayContain(1,1050,1050));
+      Assert.assertFalse(zm.mayContain(1,1100,1999));
+      Assert.assertFalse(zm.mayContain(0,-5,-1));
+      // Any write drops the zone map
+      v.set(0,7);
+      Assert.assertNull(v.zoneMap());
+    } finally {
+      v.remove();
+    }
+  }
+
+  // Row selection skips predicate chunks that are all zero
+  @Test public void testDeepSelect() {
+    Vec v = makeVec();
+    Frame fr = new Frame(new String[]{"x"}, new Vec[]{v});
+    Frame pred = new MRTask() {
+      @Override public void map( Chunk c, NewChunk nc ) {
+        for( int i=0; i<c._len; i++ )
+          if( c.isNA(i) ) nc.addNA(); else nc.addNum(c.atd(i) >= 2000 ? 1 : 0,0);
+      }
+    }.doAll(1,fr).outputFrame(new String[]{"p"},null);
+    Frame sel = null;
+    try {
+      ZoneMap zm = pred.anyVec().zoneMap();
+      Assert.assertNotNull(zm);
+      Assert.assertEquals(0, zm.max(0), 0);
+      Assert.assertEquals(1, zm.min(3), 0);
+      sel = fr.deepSlice(pred,null);
+      Assert.assertEquals(200, sel.numRows());
+      Assert.assertEquals(2000, sel.anyVec().min(), 0);
+      Assert.assertEquals(3099, sel.anyVec().max(), 0);
+    } finally {
+      fr.delete();
+      pred.delete();
+      if( sel != null ) sel.delete();
+    }
+  }
+}
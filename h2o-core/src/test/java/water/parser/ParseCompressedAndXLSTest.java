@@ -2,9 +2,18 @@ package water.parser;
 
 import static org.junit.Assert.*;
 import org.junit.*;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import water.*;
+import water.fvec.FileVec;
 import water.fvec.Vec;
 import water.fvec.Frame;
 import water.fvec.NFSFileVec;
@@ -30,6 +39,100 @@ public class ParseCompressedAndXLSTest extends TestUtil {
     }
   }
 
+  // A zip of several files is split by entry and parsed as their concatenation
+  @Test public void testMultiEntryZip() throws IOException {
+    Frame k1 = null, k2 = null;
+    File csv = File.createTempFile("multi",".csv"), zip = File.createTempFile("multi",".zip");
+    try {
+      StringBuilder[] parts = new StringBuilder[3];
+      for( int p=0; p<parts.length; p++ ) parts[p] = new StringBuilder("a,b,c\n");
+      for( int r=0; r<3000; r++ ) parts[r/1000].append(r).append(',').append(r%7).append(",x").append(r%3).append('\n');
+      try( FileOutputStream os = new FileOutputStream(csv) ) {
+        os.write(parts[0].toString().getBytes());
+        for( int p=1; p<parts.length; p++ ) os.write(parts[p].substring(6).getBytes());
+      }
+      try( ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zip)) ) {
+        for( int p=0; p<parts.length; p++ ) {
+          zos.putNextEntry(new ZipEntry("part"+p+".csv"));
+          zos.write(parts[p].toString().getBytes());
+          zos.closeEntry();
+        }
+      }
+      NFSFileVec nfs = NFSFileVec.make(zip);
+      CompressedSegments segs = CompressedSegments.find(nfs,ZipUtil.Compression.ZIP);
+      assertNotNull(segs);
+      assertEquals(3,segs.size());
+      k1 = ParseDataset.parse(Key.make(), NFSFileVec.make(csv)._key);
+      k2 = ParseDataset.parse(Key.make(), nfs._key);
+      assertEquals(3000,k2.numRows());
+      assertTrue(isBitIdentical(k1,k2));
+    } finally {
+      if( k1 != null ) k1.delete();
+      if( k2 != null ) k2.delete();
+      csv.delete();
+      zip.delete();
+    }
+  }
+
+  // A concatenation of gzip members, each ending mid-row, is split into
+  // segments whose rows are stitched across member boundaries
+  @Test public void testMultiMemberGzip() throws IOException {
+    Frame k1 = null, k2 = null;
+    NFSFileVec nfs = null;
+    File csv = File.createTempFile("members",".csv"), gz = File.createTempFile("members",".csv.gz");
+    try {
+      StringBuilder sb = new StringBuilder("a,b,c\n");
+      Random rng = new Random(42);
+      for( int r=0; r<30000; r++ ) sb.append(r).append(',').append(rng.nextInt(1000000)).append(',').append(rng.nextDouble()).append('\n');
+      byte[] text = sb.toString().getBytes();
+      try( FileOutputStream os = new FileOutputStream(csv) ) { os.write(text); }
+      try( FileOutputStream os = new FileOutputStream(gz) ) {
+        for( int off=0, end; off < text.length; off = end ) {
+          end = Math.min(text.length,off+50000);
+          if( end < text.length && text[end-1] == '\n' ) end++; // Always end a member mid-row
+          GZIPOutputStream member = new GZIPOutputStream(os);
+          member.write(text,off,end-off);
+          member.finish();      // Not close: the next member follows in the same file
+        }
+      }
+      nfs = NFSFileVec.make(gz);
+      ParseSetup setup = ParseSetup.guessSetup(new Key[]{nfs._key}, false, ParseSetup.HAS_HEADER);
+      setup._chunk_size = 1<<16; // Small chunks, so members start in several
+      nfs.setChunkSize(setup._chunk_size);
+      CompressedSegments segs = CompressedSegments.find(nfs,ZipUtil.Compression.GZIP);
+      assertNotNull(segs);
+      assertTrue(segs.size() > 1);
+      k1 = ParseDataset.parse(Key.make(), NFSFileVec.make(csv)._key);
+      k2 = ParseDataset.parse(Key.make(), new Key[]{nfs._key}, true, setup);
+      assertEquals(30000,k2.numRows());
+      assertTrue(isBitIdentical(k1,k2));
+    } finally {
+      if( k1 != null ) k1.delete();
+      if( k2 != null ) k2.delete();
+      if( nfs != null ) nfs.remove();
+      csv.delete();
+      gz.delete();
+    }
+  }
+
+  // A setup guess on the first chunk of a multi-member gzip sees a member cut
+  // off at the chunk end: it gets the rows before the cut, not a failure
+  @Test public void testCutOffGzipMember() throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    StringBuilder sb = new StringBuilder();
+    for( int r=0; r<20000; r++ ) sb.append(r).append(',').append(r*7).append('\n');
+    byte[] text = sb.toString().getBytes();
+    for( int off=0; off < text.length; off += text.length/2 ) {
+      GZIPOutputStream member = new GZIPOutputStream(bos);
+      member.write(text,off,Math.min(text.length/2,text.length-off));
+      member.finish();
+    }
+    byte[] gz = bos.toByteArray();
+    byte[] head = ZipUtil.unzipBytes(Arrays.copyOf(gz,gz.length-100),ZipUtil.Compression.GZIP,FileVec.DFLT_CHUNK_SIZE);
+    assertTrue(head.length > text.length/2);
+    assertTrue(Arrays.equals(Arrays.copyOf(text,head.length),head));
+  }
+
   @Test public void  testXLS(){
     Frame k1 = null;
     try {
@@ -29,6 +29,148 @@ public class ParserTest2 extends TestUtil {
     fr.delete();
   }
 
+  // Per-thread categorical dictionaries give the same frame as the shared one
+  @Test public void testLocalEnums() {
+    String[] data = new String[20]; // 100 rows per chunk
+    for( int c=0; c<data.length; c++ ) {
+      StringBuilder sb = new StringBuilder();
+      for( int i=c*100; i<(c+1)*100; i++ ) sb.append("user"+(i*7919%613)+","+(i%3==0 ? "A" : i%3==1 ? "B" : "")+","+i+"\n");
+      data[c] = sb.toString();
+    }
+    ParseSetup setup = ParseSetup.guessSetup(data[0].getBytes(), ParserType.CSV, (byte)',', 3, false, ParseSetup.NO_HEADER, null, null, null, null);
+    setup._column_types = ParseSetup.strToColumnTypes(new String[]{"Enum", "Enum", "Numeric"});
+    Frame fr1 = null, fr2 = null;
+    boolean local = H2O.ARGS.parse_local_enums;
+    try {
+      fr1 = ParseDataset.parse(Key.make("shared_enums.hex"), new Key[]{ParserTest.makeByteVec(data)}, true, setup);
+      H2O.ARGS.parse_local_enums = true;
+      fr2 = ParseDataset.parse(Key.make("local_enums.hex"), new Key[]{ParserTest.makeByteVec(data)}, true, setup);
+      Assert.assertEquals(613, fr2.vecs()[0].cardinality());
+      Assert.assertArrayEquals(fr1.vecs()[0].domain(), fr2.vecs()[0].domain());
+      Assert.assertArrayEquals(fr1.vecs()[1].domain(), fr2.vecs()[1].domain());
+      Assert.assertTrue(isBitIdentical(fr1,fr2));
+    } finally {
+      H2O.ARGS.parse_local_enums = local;
+      if( fr1 != null ) fr1.delete();
+      if( fr2 != null ) fr2.delete();
+    }
+  }
+
+  // Skipped columns are dropped at parse time; the rest keep their names and values
+  @Test public void testSkippedColumns() {
+    String[] data = new String[]{"a,b,c,d\n", "1,x,2.5,7\n", "2,\"y,z\",3.5,8\n", "3,,4.5,9\n"};
+    Key k = ParserTest.makeByteVec(data);
+    ParseSetup setup = ParseSetup.guessSetup((data[0]+data[1]).getBytes(), ParserType.CSV, (byte)',', 4, false, ParseSetup.HAS_HEADER,
+                                             new String[]{"a","b","c","d"}, null, null, null);
+    setup._column_types = ParseSetup.strToColumnTypes(new String[]{"Numeric", "Enum", "Numeric", "Numeric"});
+    setup.setSkippedColumns(new int[]{1,3});
+    Frame fr = ParseDataset.parse(Key.make("skipped.hex"), new Key[]{k}, true, setup);
+    try {
+      Assert.assertEquals(2, fr.numCols());
+      Assert.assertEquals(3, fr.numRows());
+      Assert.assertArrayEquals(new String[]{"a","c"}, fr.names());
+      for( int i=0; i<3; i++ ) {
+        Assert.assertEquals(i+1, fr.vecs()[0].at8(i));
+        Assert.assertEquals(i+2.5, fr.vecs()[1].at(i), 0);
+      }
+    } finally {
+      fr.delete();
+    }
+  }
+
+  // Appended rows read back as if all the data had been parsed at once
+  @Test public void testAppend() {
+    String[] data1 = new String[]{"A,1.5\n", "B,2.5\n", "A,3.5\n"};
+    String[] data2 = new String[]{"C,4.5\n", "B,\n", "A,6.5\n"};
+    String[] both = new String[]{"A,1.5\n", "B,2.5\n", "A,3.5\n", "C,4.5\n", "B,\n", "A,6.5\n"};
+    Frame fr = null, all = null;
+    try {
+      ParseSetup setup = ParseSetup.guessSetup(data1[0].getBytes(), ParserType.CSV, (byte)',', 2, false, ParseSetup.NO_HEADER, null, null, null, null);
+      setup._column_types = ParseSetup.strToColumnTypes(new String[]{"Enum", "Numeric"});
+      fr = ParseDataset.parse(Key.make("append.hex"), new Key[]{ParserTest.makeByteVec(data1)}, true, setup);
+      Assert.assertEquals(2.5, fr.vecs()[1].mean(), 1e-12); // Rollups ready before the append
+      Key k2 = ParserTest.makeByteVec(data2);
+      fr = ParseDataset.append(fr._key, new Key[]{k2}, true, setup);
+      all = ParseDataset.parse(Key.make("append_all.hex"), new Key[]{ParserTest.makeByteVec(both)}, true, setup);
+      Assert.assertEquals(6, fr.numRows());
+      Assert.assertEquals(6, ((Frame)DKV.getGet(fr._key)).numRows());
+      Assert.assertArrayEquals(new String[]{"A","B","C"}, fr.vecs()[0].domain());
+      for( int i=0; i<6; i++ ) {
+        Assert.assertEquals(all.vecs()[0].at8(i), fr.vecs()[0].at8(i));
+        Assert.assertEquals(all.vecs()[1].isNA(i), fr.vecs()[1].isNA(i));
+        if( !all.vecs()[1].isNA(i) ) Assert.assertEquals(all.vecs()[1].at(i), fr.vecs()[1].at(i), 0);
+      }
+      Vec v = fr.vecs()[1], w = all.vecs()[1];
+      Assert.assertEquals(w.mean(), v.mean(), 1e-12);
+      Assert.assertEquals(w.sigma(), v.sigma(), 1e-12);
+      Assert.assertEquals(w.min(), v.min(), 0);
+      Assert.assertEquals(w.max(), v.max(), 0);
+      Assert.assertEquals(w.naCnt(), v.naCnt());
+
+      // Refused while another frame holds the same Vecs
+      Frame alias = new Frame(Key.make("append_alias.hex"), fr.names(), fr.vecs());
+      DKV.put(alias);
+      try {
+        ParseDataset.append(fr._key, new Key[]{ParserTest.makeByteVec(data2)}, true, setup);
+        Assert.fail("Appended to Vecs shared with another frame");
+      } catch( IllegalArgumentException expected ) {
+        Assert.assertEquals(6, ((Frame)DKV.getGet(fr._key)).numRows());
+      } finally {
+        DKV.remove(alias._key);
+      }
+    } finally {
+      if( fr != null ) fr.delete();
+      if( all != null ) all.delete();
+    }
+  }
+
+  // Rollups of a grown 1-row column, and of an all-NA one, match those of the
+  // whole data parsed at once
+  @Test public void testAppendShortColumns() {
+    String[] data1 = new String[]{"1.5,\n"};
+    String[] data2 = new String[]{"2.5,\n", "4.0,\n"};
+    String[] both = new String[]{"1.5,\n", "2.5,\n", "4.0,\n"};
+    Frame fr = null, all = null;
+    try {
+      ParseSetup setup = ParseSetup.guessSetup(data1[0].getBytes(), ParserType.CSV, (byte)',', 2, false, ParseSetup.NO_HEADER, null, null, null, null);
+      setup._column_types = ParseSetup.strToColumnTypes(new String[]{"Numeric", "Numeric"});
+      fr = ParseDataset.parse(Key.make("append_short.hex"), new Key[]{ParserTest.makeByteVec(data1)}, true, setup);
+      Assert.assertTrue(Double.isNaN(fr.vecs()[0].sigma())); // Rollups ready before the append
+      Assert.assertEquals(1, fr.vecs()[1].naCnt());
+      fr = ParseDataset.append(fr._key, new Key[]{ParserTest.makeByteVec(data2)}, true, setup);
+      all = ParseDataset.parse(Key.make("append_short_all.hex"), new Key[]{ParserTest.makeByteVec(both)}, true, setup);
+      for( int c=0; c<2; c++ ) {
+        Vec v = fr.vecs()[c], w = all.vecs()[c];
+        Assert.assertEquals(w.mean(), v.mean(), 1e-12);
+        Assert.assertEquals(w.sigma(), v.sigma(), 1e-12);
+        Assert.assertEquals(w.min(), v.min(), 0);
+        Assert.assertEquals(w.max(), v.max(), 0);
+        Assert.assertEquals(w.naCnt(), v.naCnt());
+      }
+      Assert.assertFalse(Double.isNaN(fr.vecs()[0].sigma()));
+    } finally {
+      if( fr != null ) fr.delete();
+      if( all != null ) all.delete();
+    }
+  }
+
+  // Parsed doubles are the nearest double to the decimal text, as Java's own parse
+  @Test public void testExactDoubles() {
+    String[] vals = {"0.1", "0.3", "1e-30", "123456.789012345678", "0.000000012345678901", "9007199254740993",
+                     "2.2250738585072014E-308", "1.7976931348623157e308", "-4.35", "7.0e22", "3.14159265358979323"};
+    String[] data = new String[vals.length];
+    for( int i=0; i<vals.length; i++ ) data[i] = vals[i]+"\n";
+    Key rkey = ParserTest.makeByteVec(data);
+    Frame fr = ParseDataset.parse(Key.make("exact_doubles.hex"), rkey);
+    try {
+      Vec v = fr.anyVec();
+      for( int i=0; i<vals.length; i++ )
+        Assert.assertEquals(vals[i], Double.doubleToLongBits(Double.parseDouble(vals[i])), Double.doubleToLongBits(v.at(i)));
+    } finally {
+      fr.delete();
+    }
+  }
+
   @Test public void testNAs() {
     String [] data = new String[]{
       "'C1Chunk',C1SChunk, 'C2Chunk', 'C2SChunk',  'C4Chunk',  'C4FChunk',  'C8Chunk',  'C8DChunk',   'Categorical'\n"  +